@@ -0,0 +1,104 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An incremental hasher that accumulates the bytes fed into it and hashes
+ * them all together at the end, with the hasher of a hashing algorithm.
+ * It is the default for hashing algorithms that do not provide their own incremental hashers.
+ */
+final class AccumulatingIncrementalHasher implements IncrementalHasher {
+
+	/**
+	 * The hasher used at the end.
+	 */
+	private final Hasher<byte[]> hasher;
+
+	/**
+	 * The bytes fed so far.
+	 */
+	private final ByteArrayOutputStream accumulated = new ByteArrayOutputStream();
+
+	/**
+	 * Creates an incremental hasher for the given algorithm.
+	 * 
+	 * @param algorithm the hashing algorithm
+	 */
+	AccumulatingIncrementalHasher(HashingAlgorithm algorithm) {
+		this.hasher = algorithm.getHasher(Function.identity());
+	}
+
+	@Override
+	public void update(byte b) {
+		accumulated.write(b);
+	}
+
+	@Override
+	public void update(byte[] bytes) {
+		accumulated.write(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public void update(byte[] bytes, int start, int length) {
+		Objects.checkFromIndexSize(start, length, bytes.length);
+		accumulated.write(bytes, start, length);
+	}
+
+	@Override
+	public void update(ByteBuffer buffer) {
+		int remaining = buffer.remaining();
+
+		if (buffer.hasArray()) {
+			accumulated.write(buffer.array(), buffer.arrayOffset() + buffer.position(), remaining);
+			buffer.position(buffer.limit());
+		}
+		else {
+			var bytes = new byte[remaining];
+			buffer.get(bytes);
+			accumulated.write(bytes, 0, remaining);
+		}
+	}
+
+	@Override
+	public byte[] finish() {
+		byte[] result = hasher.hash(accumulated.toByteArray());
+		accumulated.reset();
+		return result;
+	}
+
+	@Override
+	public void finishInto(byte[] out, int offset) {
+		Objects.checkFromIndexSize(offset, length(), out.length);
+		byte[] result = finish();
+		System.arraycopy(result, 0, out, offset, result.length);
+	}
+
+	@Override
+	public void reset() {
+		accumulated.reset();
+	}
+
+	@Override
+	public int length() {
+		return hasher.length();
+	}
+}
\ No newline at end of file
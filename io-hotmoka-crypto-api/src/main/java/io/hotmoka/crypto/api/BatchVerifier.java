@@ -0,0 +1,75 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An object that verifies batches of signatures, possibly of different algorithms.
+ * The signatures get grouped by algorithm and each group gets verified in parallel.
+ * Batch verifiers keep statistics about their throughput, for each algorithm.
+ * They are thread-safe and can verify more batches concurrently.
+ */
+public interface BatchVerifier {
+
+	/**
+	 * Verifies all the given signatures.
+	 * 
+	 * @param signatures the signatures to verify
+	 * @return the set of the positions, inside {@code signatures}, of the valid signatures
+	 */
+	BitSet verifyAll(List<? extends SignatureToVerify> signatures);
+
+	/**
+	 * Verifies the given signatures, until an invalid signature is found. This is faster
+	 * than {@link #verifyAll(List)} if it is enough to know whether all signatures are valid.
+	 * 
+	 * @param signatures the signatures to verify
+	 * @return the set of the positions, inside {@code signatures}, of the signatures that
+	 *         have been verified and found valid; if an invalid signature is found, some signatures
+	 *         might not have been verified at all; hence the cardinality of the result is
+	 *         the size of {@code signatures} if and only if all signatures are valid
+	 */
+	BitSet verifyUntilFailure(List<? extends SignatureToVerify> signatures);
+
+	/**
+	 * Yields the number of signatures of the given algorithm verified by this batch verifier so far.
+	 * 
+	 * @param algorithm the signature algorithm
+	 * @return the number of signatures
+	 */
+	long getVerifications(SignatureAlgorithm algorithm);
+
+	/**
+	 * Yields the total time spent by this batch verifier so far for verifying signatures of the given algorithm,
+	 * in nanoseconds. Signatures verified in parallel contribute their own time each.
+	 * 
+	 * @param algorithm the signature algorithm
+	 * @return the time, in nanoseconds
+	 */
+	long getNanosSpent(SignatureAlgorithm algorithm);
+
+	/**
+	 * Yields the throughput of this batch verifier so far for the given algorithm, that is,
+	 * the number of signatures verified per second spent verifying.
+	 * 
+	 * @param algorithm the signature algorithm
+	 * @return the throughput, in signatures per second; this is 0 if no time has been spent yet
+	 */
+	double getThroughput(SignatureAlgorithm algorithm);
+}
\ No newline at end of file
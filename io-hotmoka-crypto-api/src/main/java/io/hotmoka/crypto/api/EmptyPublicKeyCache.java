@@ -0,0 +1,71 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+/**
+ * A cache of public keys that always remains empty. It is the default
+ * for signature algorithms that do not cache their public keys.
+ */
+final class EmptyPublicKeyCache implements PublicKeyCache {
+
+	/**
+	 * The only instance of this class. It can be shared, since it has no state.
+	 */
+	final static EmptyPublicKeyCache INSTANCE = new EmptyPublicKeyCache();
+
+	private EmptyPublicKeyCache() {}
+
+	@Override
+	public int getCapacity() {
+		return 0;
+	}
+
+	/**
+	 * Checks the given capacity, but does not modify the capacity of this cache, that remains 0.
+	 * 
+	 * @param capacity the maximal number of public keys
+	 * @throws IllegalArgumentException if {@code capacity} is negative
+	 */
+	@Override
+	public void setCapacity(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("The capacity cannot be negative");
+	}
+
+	@Override
+	public int size() {
+		return 0;
+	}
+
+	@Override
+	public void clear() {}
+
+	@Override
+	public long getHits() {
+		return 0L;
+	}
+
+	@Override
+	public long getMisses() {
+		return 0L;
+	}
+
+	@Override
+	public long getEvictions() {
+		return 0L;
+	}
+}
\ No newline at end of file
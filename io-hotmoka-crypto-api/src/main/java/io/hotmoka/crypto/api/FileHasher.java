@@ -0,0 +1,68 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * An object that hashes the content of files. Large files are not
+ * read into memory, but mapped in memory one window at a time.
+ * File hashers keep statistics about their throughput.
+ * They are thread-safe and can hash more files concurrently.
+ */
+public interface FileHasher {
+
+	/**
+	 * Hashes the content of the given file.
+	 *
+	 * @param path the file
+	 * @return the hash of the content of {@code path}
+	 * @throws IOException if the file cannot be read
+	 */
+	byte[] hash(Path path) throws IOException;
+
+	/**
+	 * Yields the hashing algorithm used by this file hasher.
+	 *
+	 * @return the hashing algorithm
+	 */
+	HashingAlgorithm getHashingAlgorithm();
+
+	/**
+	 * Yields the total number of bytes hashed by this file hasher so far.
+	 *
+	 * @return the number of bytes
+	 */
+	long getBytesHashed();
+
+	/**
+	 * Yields the total time spent by this file hasher so far, in nanoseconds.
+	 * Files hashed concurrently contribute their own time each.
+	 *
+	 * @return the time, in nanoseconds
+	 */
+	long getNanosSpent();
+
+	/**
+	 * Yields the throughput of this file hasher so far, that is, the number of
+	 * bytes hashed per second spent hashing.
+	 *
+	 * @return the throughput, in bytes per second; this is 0 if no time has been spent yet
+	 */
+	double getThroughput();
+}
\ No newline at end of file
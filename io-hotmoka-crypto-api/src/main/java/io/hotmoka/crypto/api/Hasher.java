@@ -16,6 +16,10 @@ limitations under the License.
 
 package io.hotmoka.crypto.api;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * An object that hashes a value into bytes.
  *
@@ -49,6 +53,40 @@ public interface Hasher<T> {
 	 */
 	byte[] hash(T what, int start, int length);
 
+	/**
+	 * Hashes the given value and writes the resulting sequence of bytes into
+	 * the given array, starting at the given offset. Implementations might avoid the
+	 * allocation of a new array for each hash. The default implementation, instead, copies
+	 * the result of {@link #hash(Object)} into {@code out}.
+	 * 
+	 * @param what the value to hash
+	 * @param out the array where the {@link #length()} bytes of the hash get written
+	 * @param offset the position inside {@code out} where the hash gets written;
+	 *               there must be at least {@link #length()} bytes from this position
+	 *               to the end of {@code out}
+	 */
+	default void hashInto(T what, byte[] out, int offset) {
+		Objects.checkFromIndexSize(offset, length(), out.length);
+		byte[] hash = hash(what);
+		System.arraycopy(hash, 0, out, offset, hash.length);
+	}
+
+	/**
+	 * Hashes all the given values. Implementations might hash large batches in parallel.
+	 * The default implementation, instead, hashes the values one after the other.
+	 * 
+	 * @param what the values to hash
+	 * @return the hashes of the values, in the same order as {@code what};
+	 *         each has length {@link #length()}
+	 */
+	default List<byte[]> hashAll(List<? extends T> what) {
+		var result = new ArrayList<byte[]>(what.size());
+		for (T value: what)
+			result.add(hash(value));
+
+		return result;
+	}
+
 	/**
 	 * The length of the sequence of bytes resulting from hashing a value.
 	 * This length must be constant, independent from the specific value that gets hashed.
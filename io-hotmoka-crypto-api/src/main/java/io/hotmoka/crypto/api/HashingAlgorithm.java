@@ -16,6 +16,13 @@ limitations under the License.
 
 package io.hotmoka.crypto.api;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -32,6 +39,164 @@ public interface HashingAlgorithm extends Cloneable {
 	 */
 	<T> Hasher<T> getHasher(Function<? super T, byte[]> toBytes);
 
+	/**
+	 * Yields a hasher with this hashing algorithm, for values that get marshalled
+	 * directly into the hashing algorithm, without building their full byte representation
+	 * in memory. If the marshaller throws an {@link java.io.IOException}, the hasher
+	 * throws an {@link UncheckedIOException}.
+	 * The default implementation marshals each value into an array of bytes
+	 * and hashes it with {@link #getHasher(Function)}.
+	 * 
+	 * @param <T> the type of values that get hashed
+	 * @param marshaller the marshaller that writes the bytes of the values
+	 * @return the hasher
+	 */
+	default <T> Hasher<T> getMarshallingHasher(Marshaller<? super T> marshaller) {
+		Objects.requireNonNull(marshaller, "marshaller cannot be null");
+
+		return getHasher(what -> {
+			var baos = new ByteArrayOutputStream();
+
+			try {
+				marshaller.marshal(what, baos);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			return baos.toByteArray();
+		});
+	}
+
+	/**
+	 * Yields a hasher with this hashing algorithm, for values that are transformed
+	 * into a buffer of bytes, either on-heap or direct. The hasher hashes the remaining
+	 * bytes of the buffer, from its position (inclusive) to its limit (exclusive), without
+	 * modifying the position of the buffer. For partial hashing,
+	 * positions are relative to the position of the buffer.
+	 * The default implementation copies the remaining bytes into an array and hashes
+	 * it with {@link #getHasher(Function)}. The algorithms of this library, instead, hash the bytes
+	 * of heap buffers in place and those of direct buffers through small chunks, without
+	 * copying them into a single array.
+	 *
+	 * @param <T> the type of values that get hashed
+	 * @param toByteBuffer the function to use to transform the values into a buffer of bytes before hashing
+	 * @return the hasher
+	 */
+	default <T> Hasher<T> getBufferHasher(Function<? super T, ByteBuffer> toByteBuffer) {
+		return getHasher(what -> {
+			var buffer = Objects.requireNonNull(toByteBuffer.apply(what), "buffer cannot be null");
+			var bytes = new byte[buffer.remaining()];
+			buffer.duplicate().get(bytes);
+			return bytes;
+		});
+	}
+
+	/**
+	 * Yields a hasher with this hashing algorithm, that hashes the given prefix
+	 * followed by the bytes of each value. This is useful when many values start with the
+	 * same domain-separation prefix or header, since the prefix is processed only once,
+	 * when possible, and each hash continues from the resulting state.
+	 * Partial hashing always includes the whole prefix.
+	 * The default implementation concatenates the prefix and the bytes of each value
+	 * and hashes them with {@link #getHasher(Function)}.
+	 *
+	 * @param <T> the type of values that get hashed
+	 * @param prefix the prefix; later modifications of this array do not affect the hasher
+	 * @param toBytes the function to use to transform the values into bytes before hashing
+	 * @return the hasher
+	 */
+	default <T> Hasher<T> getPrefixedHasher(byte[] prefix, Function<? super T, byte[]> toBytes) {
+		var copy = Objects.requireNonNull(prefix, "prefix cannot be null").clone();
+		var hasher = this.<byte[]> getHasher(Function.identity());
+
+		return new Hasher<>() {
+
+			@Override
+			public byte[] hash(T what) {
+				var bytes = Objects.requireNonNull(toBytes.apply(what), "bytes cannot be null");
+				return hash(bytes, 0, bytes.length);
+			}
+
+			@Override
+			public byte[] hash(T what, int start, int length) {
+				return hash(toBytes.apply(what), start, length);
+			}
+
+			private byte[] hash(byte[] bytes, int start, int length) {
+				Objects.checkFromIndexSize(start, length, bytes.length);
+				var concatenation = new byte[copy.length + length];
+				System.arraycopy(copy, 0, concatenation, 0, copy.length);
+				System.arraycopy(bytes, start, concatenation, copy.length, length);
+				return hasher.hash(concatenation);
+			}
+
+			@Override
+			public int length() {
+				return hasher.length();
+			}
+		};
+	}
+
+	/**
+	 * Yields a new incremental hasher with this hashing algorithm. It allows one to
+	 * hash a sequence of bytes piece by piece, without materializing it in memory.
+	 * The default implementation accumulates the bytes and hashes them at the end
+	 * with {@link #getHasher(Function)}, hence it does materialize them in memory.
+	 *
+	 * @return the incremental hasher
+	 */
+	default IncrementalHasher getIncrementalHasher() {
+		return new AccumulatingIncrementalHasher(this);
+	}
+
+	/**
+	 * Computes a hash chain, that is, hashes the given seed, then its hash, and so on,
+	 * for the given number of times. The default implementation iterates a hasher
+	 * obtained through {@link #getHasher(Function)}. The algorithms of this library, instead,
+	 * are much faster, since they do not allocate any array at each iteration.
+	 *
+	 * @param seed the seed of the chain
+	 * @param n the number of times hashing gets applied; this cannot be negative
+	 * @return the result of applying hashing {@code n} times to {@code seed};
+	 *         if {@code n} is 0, this is a copy of {@code seed}
+	 */
+	default byte[] hashChain(byte[] seed, long n) {
+		var checkpoints = hashChain(seed, n, n == 0 ? 1 : n);
+		return checkpoints.isEmpty() ? seed.clone() : checkpoints.get(0);
+	}
+
+	/**
+	 * Computes a hash chain, as {@link #hashChain(byte[], long)}, and yields its
+	 * checkpoints every {@code every} steps.
+	 *
+	 * @param seed the seed of the chain
+	 * @param n the number of times hashing gets applied; this cannot be negative
+	 * @param every the distance between consecutive checkpoints; this must be positive
+	 * @return the results of applying hashing {@code every}, {@code 2 * every},
+	 *         {@code 3 * every}... times to {@code seed}, up to {@code n} times
+	 */
+	default List<byte[]> hashChain(byte[] seed, long n, long every) {
+		Objects.requireNonNull(seed, "seed cannot be null");
+
+		if (n < 0)
+			throw new IllegalArgumentException("n cannot be negative");
+
+		if (every <= 0)
+			throw new IllegalArgumentException("every must be positive");
+
+		var hasher = this.<byte[]> getHasher(Function.identity());
+		var checkpoints = new ArrayList<byte[]>();
+		var current = seed;
+		for (long step = 1; step <= n; step++) {
+			current = hasher.hash(current);
+			if (step % every == 0)
+				checkpoints.add(current);
+		}
+
+		return checkpoints;
+	}
+
 	/**
 	 * The length of the sequence of bytes resulting from hashing a value.
 	 * This length must be constant, independent from the specific value that gets hashed.
@@ -48,9 +213,9 @@ public interface HashingAlgorithm extends Cloneable {
 	String getName();
 
 	/**
-	 * Yields a clone of this hashing algorithm. This can be useful
-	 * to run a parallel computation using this algorithm, since otherwise
-	 * a single hashing algorithm object would synchronize the access.
+	 * Yields a clone of this hashing algorithm. Hashing algorithms can be
+	 * shared among threads without contention, hence a clone is not needed
+	 * to run a parallel computation using this algorithm.
 	 * 
 	 * @return the clone of this algorithm
 	 */
@@ -0,0 +1,44 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A provider of a hashing algorithm. Providers are discovered through the
+ * {@link java.util.ServiceLoader} mechanism, once, and their algorithms can
+ * then be looked up by name, together with the built-in ones. A provider cannot
+ * replace a built-in algorithm with the same name.
+ */
+public interface HashingAlgorithmProvider {
+
+	/**
+	 * Yields the name of the provided algorithm, used for its lookup.
+	 * It must be lower case.
+	 *
+	 * @return the name of the algorithm
+	 */
+	String getName();
+
+	/**
+	 * Yields the provided algorithm.
+	 *
+	 * @return the algorithm
+	 * @throws NoSuchAlgorithmException if the installation does not include the algorithm
+	 */
+	HashingAlgorithm get() throws NoSuchAlgorithmException;
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An object that hashes a sequence of bytes provided piece by piece,
+ * for instance while they arrive from the network. The bytes get
+ * fed through the {@code update} methods and the hash is computed
+ * by {@link #finish()} or {@link #finishInto(byte[], int)}, after which
+ * the hasher can be used again for hashing another sequence of bytes.
+ * Incremental hashers are not thread-safe.
+ */
+public interface IncrementalHasher {
+
+	/**
+	 * Feeds the given byte into this hasher.
+	 *
+	 * @param b the byte
+	 */
+	void update(byte b);
+
+	/**
+	 * Feeds the given bytes into this hasher.
+	 *
+	 * @param bytes the bytes
+	 */
+	void update(byte[] bytes);
+
+	/**
+	 * Feeds a portion of the given bytes into this hasher, from
+	 * {@code start} (inclusive) to {@code start + length} (exclusive).
+	 *
+	 * @param bytes the bytes
+	 * @param start the initial byte position to consider;
+	 *              this must be a position inside {@code bytes}
+	 * @param length the number of bytes (starting at {@code start})
+	 *               that must be considered; this cannot be
+	 *               negative and cannot lead to a position larger than {@code bytes.length}
+	 */
+	void update(byte[] bytes, int start, int length);
+
+	/**
+	 * Feeds the remaining bytes of the given buffer into this hasher.
+	 * At the end, the position of the buffer is equal to its limit.
+	 *
+	 * @param buffer the buffer
+	 */
+	void update(ByteBuffer buffer);
+
+	/**
+	 * Yields the hash of all bytes fed into this hasher since its
+	 * creation or since the last call to {@link #finish()}, {@link #finishInto(byte[], int)} or {@link #reset()}.
+	 * After this call, this hasher is reset.
+	 *
+	 * @return the hash, whose length is {@link #length()}
+	 */
+	byte[] finish();
+
+	/**
+	 * Computes the hash of all bytes fed into this hasher since its
+	 * creation or since the last call to {@link #finish()}, {@link #finishInto(byte[], int)} or {@link #reset()}
+	 * and writes it into the given array, starting at the given offset.
+	 * This avoids the allocation of a new array for each hash.
+	 * After this call, this hasher is reset.
+	 *
+	 * @param out the array where the {@link #length()} bytes of the hash get written
+	 * @param offset the position inside {@code out} where the hash gets written;
+	 *               there must be at least {@link #length()} bytes from this position
+	 *               to the end of {@code out}
+	 */
+	void finishInto(byte[] out, int offset);
+
+	/**
+	 * Forgets all bytes fed into this hasher since its creation or
+	 * since the last call to {@link #finish()}, {@link #finishInto(byte[], int)} or {@link #reset()}.
+	 */
+	void reset();
+
+	/**
+	 * The length of the sequence of bytes resulting from hashing.
+	 *
+	 * @return the length
+	 */
+	int length();
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An object that writes the bytes of a value into an output stream.
+ * It is used to hash or sign values without building their
+ * full byte representation in memory.
+ *
+ * @param <T> the type of the values that get marshalled
+ */
+@FunctionalInterface
+public interface Marshaller<T> {
+
+	/**
+	 * Writes the bytes of the given value into the given output stream.
+	 * 
+	 * @param value the value
+	 * @param out the output stream
+	 * @throws IOException if the value cannot be written
+	 */
+	void marshal(T value, OutputStream out) throws IOException;
+}
\ No newline at end of file
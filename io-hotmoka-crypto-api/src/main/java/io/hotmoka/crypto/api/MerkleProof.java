@@ -0,0 +1,65 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+import java.util.List;
+
+/**
+ * A proof that a leaf belongs to a {@link MerkleTree}. It consists of the
+ * siblings of the nodes in the path from the leaf to the root of the tree.
+ */
+public interface MerkleProof {
+
+	/**
+	 * Yields the position of the leaf whose inclusion is proved.
+	 *
+	 * @return the position of the leaf
+	 */
+	int getLeafIndex();
+
+	/**
+	 * Yields the number of leaves of the tree for which this proof was computed.
+	 *
+	 * @return the number of leaves
+	 */
+	int getTreeSize();
+
+	/**
+	 * Yields the siblings of the nodes in the path from the leaf to the root,
+	 * from the bottom to the top of the tree. Promoted nodes have no sibling.
+	 *
+	 * @return the siblings
+	 */
+	List<byte[]> getSiblings();
+
+	/**
+	 * Yields the hashing algorithm used for the nodes of the tree.
+	 *
+	 * @return the hashing algorithm
+	 */
+	HashingAlgorithm getHashingAlgorithm();
+
+	/**
+	 * Checks if this proof shows that a leaf for the given value
+	 * belongs to a tree with the given root.
+	 *
+	 * @param value the bytes of the value in the leaf
+	 * @param root the root of the tree
+	 * @return true if and only if the proof is valid for {@code value} and {@code root}
+	 */
+	boolean verify(byte[] value, byte[] root);
+}
\ No newline at end of file
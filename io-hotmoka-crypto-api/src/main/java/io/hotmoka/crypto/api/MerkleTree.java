@@ -0,0 +1,76 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+/**
+ * A Merkle tree over a sequence of values. The leaves of the tree are the hashes
+ * of the values, in their order. Each internal node is the hash of its two children.
+ * As in RFC 6962, leaves are hashed after the prefix byte 0 and internal nodes after the
+ * prefix byte 1, so that a leaf cannot be confused with an internal node. A node without
+ * a right sibling is promoted unchanged to the upper level. The root of an empty tree
+ * is the hash of no bytes. Merkle trees are not thread-safe.
+ *
+ * @param <T> the type of the values in the leaves of the tree
+ */
+public interface MerkleTree<T> {
+
+	/**
+	 * Yields the number of leaves of this tree.
+	 *
+	 * @return the number of leaves
+	 */
+	int size();
+
+	/**
+	 * Yields the root of this tree.
+	 *
+	 * @return the root, whose length is the length of the hashing algorithm of this tree
+	 */
+	byte[] getRoot();
+
+	/**
+	 * Adds a leaf for the given value, at the end of this tree. This updates
+	 * the root in time logarithmic in the size of the tree.
+	 *
+	 * @param value the value
+	 */
+	void add(T value);
+
+	/**
+	 * Replaces the leaf at the given position with a leaf for the given value.
+	 * This updates the root in time logarithmic in the size of the tree.
+	 *
+	 * @param index the position of the leaf, between 0 (inclusive) and {@link #size()} (exclusive)
+	 * @param value the value
+	 */
+	void set(int index, T value);
+
+	/**
+	 * Yields a proof that the leaf at the given position belongs to this tree.
+	 *
+	 * @param index the position of the leaf, between 0 (inclusive) and {@link #size()} (exclusive)
+	 * @return the proof
+	 */
+	MerkleProof getProof(int index);
+
+	/**
+	 * Yields the hashing algorithm used for the nodes of this tree.
+	 *
+	 * @return the hashing algorithm
+	 */
+	HashingAlgorithm getHashingAlgorithm();
+}
\ No newline at end of file
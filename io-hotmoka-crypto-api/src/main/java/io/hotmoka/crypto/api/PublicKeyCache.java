@@ -0,0 +1,76 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+/**
+ * A bounded cache of the public keys decoded by a signature algorithm, keyed by their encoding.
+ * When the cache is full, the keys that have not been used recently are evicted first.
+ * Caches keep statistics about their hits and misses. They are thread-safe.
+ * Each signature algorithm has its own cache, that is shared by all users of that
+ * algorithm, including those that obtained it from a factory that yields shared instances.
+ */
+public interface PublicKeyCache {
+
+	/**
+	 * Yields the maximal number of public keys kept in this cache.
+	 * 
+	 * @return the maximal number of public keys
+	 */
+	int getCapacity();
+
+	/**
+	 * Sets the maximal number of public keys kept in this cache. If the cache
+	 * currently contains more keys, the excess keys get evicted.
+	 * 
+	 * @param capacity the maximal number of public keys; 0 disables the cache
+	 * @throws IllegalArgumentException if {@code capacity} is negative
+	 */
+	void setCapacity(int capacity);
+
+	/**
+	 * Yields the number of public keys currently in this cache.
+	 * 
+	 * @return the number of public keys
+	 */
+	int size();
+
+	/**
+	 * Removes all public keys from this cache. Its statistics are not reset.
+	 */
+	void clear();
+
+	/**
+	 * Yields the number of decodings that have found their public key in this cache so far.
+	 * 
+	 * @return the number of hits
+	 */
+	long getHits();
+
+	/**
+	 * Yields the number of decodings that have not found their public key in this cache so far.
+	 * 
+	 * @return the number of misses
+	 */
+	long getMisses();
+
+	/**
+	 * Yields the number of public keys evicted from this cache so far, to make room for other keys.
+	 * 
+	 * @return the number of evictions
+	 */
+	long getEvictions();
+}
\ No newline at end of file
@@ -16,13 +16,22 @@ limitations under the License.
 
 package io.hotmoka.crypto.api;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.security.InvalidKeyException;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.SignatureException;
 import java.security.spec.InvalidKeySpecException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.OptionalInt;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * An algorithm for signing values and verifying such signatures back.
@@ -37,6 +46,43 @@ public interface SignatureAlgorithm {
 	 */
 	KeyPair getKeyPair();
 
+	/**
+	 * Yields many pairs of keys (private/public) that can be used with this signature algorithm.
+	 * Algorithms might generate the pairs in parallel, by workers that use distinct sources
+	 * of randomness and distinct key pair generators. Deterministic algorithms yield the same pairs,
+	 * in the same order, as if {@link #getKeyPair()} were called {@code count} times.
+	 * The default implementation generates the pairs with {@link #streamOfKeyPairs(int)}
+	 * and collects them into a list.
+	 * 
+	 * @param count the number of pairs
+	 * @return the pairs of keys
+	 * @throws IllegalArgumentException if {@code count} is negative
+	 */
+	default List<KeyPair> getKeyPairs(int count) {
+		if (count < 0)
+			throw new IllegalArgumentException("count cannot be negative");
+
+		return streamOfKeyPairs(count).collect(Collectors.toList());
+	}
+
+	/**
+	 * Yields a stream of pairs of keys (private/public) that can be used with this signature algorithm.
+	 * Its pairs are generated lazily. Algorithms might yield a parallel stream, unless they are
+	 * deterministic, whose pairs are generated by workers that use distinct sources of randomness
+	 * and distinct key pair generators. The default implementation yields a sequential stream,
+	 * whose pairs are generated by calling {@link #getKeyPair()}.
+	 * 
+	 * @param count the number of pairs in the stream
+	 * @return the stream of the pairs of keys
+	 * @throws IllegalArgumentException if {@code count} is negative
+	 */
+	default Stream<KeyPair> streamOfKeyPairs(int count) {
+		if (count < 0)
+			throw new IllegalArgumentException("count cannot be negative");
+
+		return IntStream.range(0, count).mapToObj(i -> getKeyPair());
+	}
+
 	/**
 	 * Yields a signer with this signature algorithm.
 	 * 
@@ -57,9 +103,120 @@ public interface SignatureAlgorithm {
 	 */
 	<T> Verifier<T> getVerifier(PublicKey key, Function<? super T, byte[]> toBytes);
 
+	/**
+	 * Yields a signer with this signature algorithm, for values that get marshalled
+	 * directly into the signature algorithm. Algorithms that hash the value before signing it
+	 * do not need to build its full byte representation in memory.
+	 * If the marshaller throws an {@link IOException}, the signer throws a {@link SignatureException}.
+	 * The default implementation marshals each value into an array of bytes
+	 * and signs it with a signer obtained from {@link #getSigner(PrivateKey, Function)}.
+	 * 
+	 * @param <T> the type of values that get signed
+	 * @param key the private key that will be used for signing
+	 * @param marshaller the marshaller that writes the bytes of the values
+	 * @return the signer
+	 */
+	default <T> Signer<T> getMarshallingSigner(PrivateKey key, Marshaller<? super T> marshaller) {
+		Objects.requireNonNull(marshaller, "marshaller cannot be null");
+		var signer = this.<byte[]> getSigner(key, Function.identity());
+		return what -> signer.sign(marshal(what, marshaller));
+	}
+
+	/**
+	 * Yields a verifier with this signature algorithm, for values that get marshalled
+	 * directly into the signature algorithm. Algorithms that hash the value before verifying
+	 * its signature do not need to build its full byte representation in memory.
+	 * If the marshaller throws an {@link IOException}, the verifier throws a {@link SignatureException}.
+	 * The default implementation marshals each value into an array of bytes
+	 * and verifies its signature with a verifier obtained from {@link #getVerifier(PublicKey, Function)}.
+	 * 
+	 * @param <T> the type of values that get verified
+	 * @param key the public key that will be used for verification
+	 * @param marshaller the marshaller that writes the bytes of the values
+	 * @return the verifier
+	 */
+	default <T> Verifier<T> getMarshallingVerifier(PublicKey key, Marshaller<? super T> marshaller) {
+		Objects.requireNonNull(marshaller, "marshaller cannot be null");
+		var verifier = this.<byte[]> getVerifier(key, Function.identity());
+		return (what, signature) -> verifier.verify(marshal(what, marshaller), signature);
+	}
+
+	/**
+	 * Marshals the given value into an array of bytes.
+	 * 
+	 * @param <T> the type of the value
+	 * @param what the value
+	 * @param marshaller the marshaller that writes the bytes of the value
+	 * @return the bytes of the value
+	 * @throws SignatureException if the marshaller fails
+	 */
+	private static <T> byte[] marshal(T what, Marshaller<? super T> marshaller) throws SignatureException {
+		var baos = new ByteArrayOutputStream();
+
+		try {
+			marshaller.marshal(what, baos);
+		}
+		catch (IOException e) {
+			throw new SignatureException("Cannot marshal the value", e);
+		}
+
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Verifies a batch of signatures, each for a value and a public key. Algorithms
+	 * might verify the batch faster than each signature separately, but the result must be
+	 * the same as that of the verification of each signature with {@link #getVerifier(PublicKey, Function)}.
+	 * A signature that is {@code null}, or whose public key is {@code null} or invalid, or whose value
+	 * cannot be transformed into bytes, is invalid, as well as a signature whose verification fails
+	 * with an exception. The default implementation verifies each signature separately.
+	 * 
+	 * @param <T> the type of values whose signatures get verified
+	 * @param values the values
+	 * @param toBytes the function to use to transform the values into bytes before verification
+	 * @param keys the public keys, one for each value
+	 * @param signatures the signatures, one for each value
+	 * @return the set of the positions of the valid signatures
+	 * @throws IllegalArgumentException if {@code values}, {@code keys} and {@code signatures} have distinct sizes
+	 */
+	default <T> BitSet verifyAll(List<? extends T> values, Function<? super T, byte[]> toBytes, List<? extends PublicKey> keys, List<byte[]> signatures) {
+		Objects.requireNonNull(values, "values cannot be null");
+		Objects.requireNonNull(toBytes, "toBytes cannot be null");
+		Objects.requireNonNull(keys, "keys cannot be null");
+		Objects.requireNonNull(signatures, "signatures cannot be null");
+
+		int size = values.size();
+		if (keys.size() != size || signatures.size() != size)
+			throw new IllegalArgumentException("values, keys and signatures must have the same size");
+
+		var result = new BitSet(size);
+		var valuesIterator = values.iterator();
+		var keysIterator = keys.iterator();
+		var signaturesIterator = signatures.iterator();
+
+		for (int pos = 0; pos < size; pos++) {
+			T value = valuesIterator.next();
+			PublicKey key = keysIterator.next();
+			byte[] signature = signaturesIterator.next();
+			if (key == null || signature == null)
+				continue;
+
+			try {
+				if (getVerifier(key, toBytes).verify(value, signature))
+					result.set(pos);
+			}
+			catch (InvalidKeyException | SignatureException | RuntimeException e) {
+				// the signature is invalid
+			}
+		}
+
+		return result;
+	}
+
 	/**
 	 * Yields a public key that can be used with this signature, from
-	 * its encoded version as a byte array.
+	 * its encoded version as a byte array. Decoded public keys might
+	 * be cached, so that the same object is returned for the same encoding.
 	 * 
 	 * @param encoding the encoded version of the public key
 	 * @return the public key
@@ -67,6 +224,19 @@ public interface SignatureAlgorithm {
 	 */
 	PublicKey publicKeyFromEncoding(byte[] encoding) throws InvalidKeySpecException;
 
+	/**
+	 * Yields the cache of the public keys decoded by {@link #publicKeyFromEncoding(byte[])}.
+	 * The cache belongs to this algorithm, hence it is shared by all users of the same
+	 * instance of the algorithm: changing its capacity or clearing it affects them all.
+	 * Algorithms that do not cache their public keys, as the default implementation,
+	 * yield a cache that remains empty and whose capacity remains 0.
+	 * 
+	 * @return the cache
+	 */
+	default PublicKeyCache getPublicKeyCache() {
+		return EmptyPublicKeyCache.INSTANCE;
+	}
+
 	/**
 	 * Yields the encoded bytes of the given public key.
 	 * 
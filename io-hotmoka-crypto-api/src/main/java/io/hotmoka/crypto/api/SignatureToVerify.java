@@ -0,0 +1,54 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+import java.security.PublicKey;
+
+/**
+ * A signature to verify, together with the algorithm, the public key and
+ * the message that it must be verified against.
+ */
+public interface SignatureToVerify {
+
+	/**
+	 * Yields the signature algorithm used for verification.
+	 * 
+	 * @return the signature algorithm
+	 */
+	SignatureAlgorithm getAlgorithm();
+
+	/**
+	 * Yields the public key used for verification.
+	 * 
+	 * @return the public key
+	 */
+	PublicKey getPublicKey();
+
+	/**
+	 * Yields the message whose signature must be verified.
+	 * 
+	 * @return the message
+	 */
+	byte[] getMessage();
+
+	/**
+	 * Yields the signature to verify.
+	 * 
+	 * @return the signature
+	 */
+	byte[] getSignature();
+}
\ No newline at end of file
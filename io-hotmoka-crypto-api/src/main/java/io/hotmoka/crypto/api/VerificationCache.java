@@ -0,0 +1,99 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.api;
+
+import java.security.PublicKey;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the successful verifications of signatures. It lets the verification
+ * of the same signature be repeated, for instance at admission and at replay of a transaction,
+ * without repeating the signature arithmetic. Only positive results are cached, keyed by a salted
+ * hash of the algorithm, the public key, the message and the signature. When the cache is full,
+ * the verifications that have not been used recently are evicted first.
+ * Caches keep statistics about their hits and misses. They are thread-safe.
+ */
+public interface VerificationCache {
+
+	/**
+	 * Yields a verifier that checks this cache before verifying a signature
+	 * and records the signatures that it finds valid into this cache.
+	 * 
+	 * @param <T> the type of values that get verified
+	 * @param algorithm the signature algorithm used for verification
+	 * @param key the public key used for verification
+	 * @param toBytes a function applied to transform the value into bytes before verification
+	 * @return the verifier
+	 */
+	<T> Verifier<T> getVerifier(SignatureAlgorithm algorithm, PublicKey key, Function<? super T, byte[]> toBytes);
+
+	/**
+	 * Yields the maximal number of verifications kept in this cache.
+	 * 
+	 * @return the maximal number of verifications
+	 */
+	int getCapacity();
+
+	/**
+	 * Sets the maximal number of verifications kept in this cache. If the cache
+	 * currently contains more verifications, the excess ones get evicted.
+	 * 
+	 * @param capacity the maximal number of verifications; 0 disables the cache
+	 * @throws IllegalArgumentException if {@code capacity} is negative
+	 */
+	void setCapacity(int capacity);
+
+	/**
+	 * Yields the number of verifications currently in this cache.
+	 * 
+	 * @return the number of verifications
+	 */
+	int size();
+
+	/**
+	 * Removes all verifications from this cache. Its statistics are not reset.
+	 */
+	void clear();
+
+	/**
+	 * Yields the number of verifications that have found their signature in this cache so far.
+	 * 
+	 * @return the number of hits
+	 */
+	long getHits();
+
+	/**
+	 * Yields the number of verifications that have not found their signature in this cache so far.
+	 * 
+	 * @return the number of misses
+	 */
+	long getMisses();
+
+	/**
+	 * Yields the fraction of the verifications that have found their signature in this cache so far.
+	 * 
+	 * @return the hit rate, between 0 and 1; this is 0 if no verification has been performed yet
+	 */
+	double getHitRate();
+
+	/**
+	 * Yields the number of verifications evicted from this cache so far, to make room for other verifications.
+	 * 
+	 * @return the number of evictions
+	 */
+	long getEvictions();
+}
\ No newline at end of file
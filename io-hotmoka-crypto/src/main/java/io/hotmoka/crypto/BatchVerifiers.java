@@ -0,0 +1,68 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto;
+
+import java.security.PublicKey;
+import java.util.concurrent.ForkJoinPool;
+
+import io.hotmoka.crypto.api.BatchVerifier;
+import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.crypto.api.SignatureToVerify;
+import io.hotmoka.crypto.internal.BatchVerifierImpl;
+import io.hotmoka.crypto.internal.SignatureToVerifyImpl;
+
+/**
+ * Provider of objects that verify batches of signatures, possibly of different algorithms,
+ * and of the signatures that they verify.
+ */
+public final class BatchVerifiers {
+
+	private BatchVerifiers() {}
+
+	/**
+	 * Yields a batch verifier that runs its verifications in the common fork/join pool.
+	 * 
+	 * @return the batch verifier
+	 */
+	public static BatchVerifier of() {
+		return new BatchVerifierImpl();
+	}
+
+	/**
+	 * Yields a batch verifier that runs its verifications in the given fork/join pool.
+	 * 
+	 * @param pool the pool
+	 * @return the batch verifier
+	 */
+	public static BatchVerifier of(ForkJoinPool pool) {
+		return new BatchVerifierImpl(pool);
+	}
+
+	/**
+	 * Yields a signature to verify. The arrays of bytes are not copied,
+	 * hence they should not be modified until the signature has been verified.
+	 * 
+	 * @param algorithm the signature algorithm used for verification
+	 * @param publicKey the public key used for verification
+	 * @param message the message whose signature must be verified
+	 * @param signature the signature to verify
+	 * @return the signature to verify
+	 */
+	public static SignatureToVerify signature(SignatureAlgorithm algorithm, PublicKey publicKey, byte[] message, byte[] signature) {
+		return new SignatureToVerifyImpl(algorithm, publicKey, message, signature);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto;
+
+import io.hotmoka.crypto.api.FileHasher;
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.crypto.internal.FileHasherImpl;
+
+/**
+ * Provider of objects that hash the content of files.
+ */
+public final class FileHashers {
+
+	private FileHashers() {}
+
+	/**
+	 * Yields a file hasher that maps files in memory in windows of default size.
+	 * 
+	 * @param algorithm the hashing algorithm used for hashing the files
+	 * @return the file hasher
+	 */
+	public static FileHasher of(HashingAlgorithm algorithm) {
+		return new FileHasherImpl(algorithm);
+	}
+
+	/**
+	 * Yields a file hasher that maps files in memory in windows of the given size.
+	 * 
+	 * @param algorithm the hashing algorithm used for hashing the files
+	 * @param windowSize the size of the windows, in bytes; this must be positive
+	 * @return the file hasher
+	 */
+	public static FileHasher of(HashingAlgorithm algorithm, int windowSize) {
+		return new FileHasherImpl(algorithm, windowSize);
+	}
+}
\ No newline at end of file
@@ -20,15 +20,34 @@ import java.security.NoSuchAlgorithmException;
 
 import io.hotmoka.crypto.api.HashingAlgorithm;
 import io.hotmoka.crypto.internal.AbstractHashingAlgorithmImpl;
+import io.hotmoka.crypto.internal.BLAKE2B256;
+import io.hotmoka.crypto.internal.BLAKE2S256;
+import io.hotmoka.crypto.internal.BLAKE3;
 import io.hotmoka.crypto.internal.Identity;
+import io.hotmoka.crypto.internal.KECCAK256;
 import io.hotmoka.crypto.internal.SHA256;
+import io.hotmoka.crypto.internal.SHA3_256;
 import io.hotmoka.crypto.internal.SHABAL256;
+import io.hotmoka.crypto.internal.SharedInstance;
 
 /**
- * A provider of algorithms that hash values into bytes.
+ * A provider of algorithms that hash values into bytes. The algorithms without
+ * parameters are shared: the same instance is returned at each call and can be
+ * used concurrently, since each thread works on its own hashing engines.
+ * Sharing is safe, since hashing algorithms keep no state visible to their users.
  */
 public final class HashingAlgorithms {
 
+	private final static SharedInstance<HashingAlgorithm> SHA256_INSTANCE = new SharedInstance<>(SHA256::new);
+	private final static HashingAlgorithm SHABAL256_INSTANCE = new SHABAL256();
+	private final static HashingAlgorithm BLAKE2B256_INSTANCE = new BLAKE2B256();
+	private final static HashingAlgorithm BLAKE2S256_INSTANCE = new BLAKE2S256();
+	private final static HashingAlgorithm BLAKE3_INSTANCE = new BLAKE3();
+	private final static HashingAlgorithm KECCAK256_INSTANCE = new KECCAK256();
+	private final static HashingAlgorithm SHA3_256_INSTANCE = new SHA3_256();
+	private final static HashingAlgorithm IDENTITY1_INSTANCE = new Identity(1);
+	private final static HashingAlgorithm IDENTITY32_INSTANCE = new Identity(32);
+
 	private HashingAlgorithms() {}
 
 	/**
@@ -38,7 +57,7 @@ public final class HashingAlgorithms {
 	 * @throws NoSuchAlgorithmException if the installation of Java does not include the SHA256 algorithm
 	 */
 	public static HashingAlgorithm sha256() throws NoSuchAlgorithmException {
-		return new SHA256();
+		return SHA256_INSTANCE.get();
 	}
 
 	/**
@@ -47,7 +66,91 @@ public final class HashingAlgorithms {
 	 * @return the algorithm
 	 */
 	public static HashingAlgorithm shabal256() {
-		return new SHABAL256();
+		return SHABAL256_INSTANCE;
+	}
+
+	/**
+	 * Yields the BLAKE2b hashing algorithm, with 32 bytes of output.
+	 * It is optimized for 64-bit platforms.
+	 * 
+	 * @return the algorithm
+	 */
+	public static HashingAlgorithm blake2b256() {
+		return BLAKE2B256_INSTANCE;
+	}
+
+	/**
+	 * Yields the BLAKE2b hashing algorithm, with 32 bytes of output, keyed and personalized.
+	 * A keyed algorithm computes message authentication codes. A personalized algorithm
+	 * yields hashes that differ from those of algorithms with another personalization,
+	 * which separates domains without hashing any extra prefix. If it is keyed or personalized,
+	 * the resulting algorithm has a name that {@link #of(String)} rejects, since its parameters
+	 * cannot be recovered from it.
+	 * 
+	 * @param key the key, of at most 64 bytes; this is {@code null} or empty if the algorithm is not keyed
+	 * @param personalization the personalization, of 16 bytes; this is {@code null} if the algorithm
+	 *                        is not personalized
+	 * @return the algorithm
+	 * @throws IllegalArgumentException if the key or the personalization have the wrong length
+	 */
+	public static HashingAlgorithm blake2b256(byte[] key, byte[] personalization) {
+		return new BLAKE2B256(key, personalization);
+	}
+
+	/**
+	 * Yields the BLAKE2s hashing algorithm, with 32 bytes of output.
+	 * It is optimized for 32-bit platforms.
+	 * 
+	 * @return the algorithm
+	 */
+	public static HashingAlgorithm blake2s256() {
+		return BLAKE2S256_INSTANCE;
+	}
+
+	/**
+	 * Yields the BLAKE2s hashing algorithm, with 32 bytes of output, keyed and personalized.
+	 * A keyed algorithm computes message authentication codes. A personalized algorithm
+	 * yields hashes that differ from those of algorithms with another personalization,
+	 * which separates domains without hashing any extra prefix. If it is keyed or personalized,
+	 * the resulting algorithm has a name that {@link #of(String)} rejects, since its parameters
+	 * cannot be recovered from it.
+	 * 
+	 * @param key the key, of at most 32 bytes; this is {@code null} or empty if the algorithm is not keyed
+	 * @param personalization the personalization, of 8 bytes; this is {@code null} if the algorithm
+	 *                        is not personalized
+	 * @return the algorithm
+	 * @throws IllegalArgumentException if the key or the personalization have the wrong length
+	 */
+	public static HashingAlgorithm blake2s256(byte[] key, byte[] personalization) {
+		return new BLAKE2S256(key, personalization);
+	}
+
+	/**
+	 * Yields the BLAKE3 hashing algorithm, with 32 bytes of output.
+	 * Large inputs are hashed in parallel.
+	 * 
+	 * @return the algorithm
+	 */
+	public static HashingAlgorithm blake3() {
+		return BLAKE3_INSTANCE;
+	}
+
+	/**
+	 * Yields the Keccak-256 hashing algorithm, as used by Ethereum.
+	 * 
+	 * @return the algorithm
+	 */
+	public static HashingAlgorithm keccak256() {
+		return KECCAK256_INSTANCE;
+	}
+
+	/**
+	 * Yields the SHA3-256 hashing algorithm.
+	 * 
+	 * @return the algorithm
+	 */
+	public static HashingAlgorithm sha3_256() {
+		return SHA3_256_INSTANCE;
 	}
 
 	/**
@@ -56,7 +159,7 @@ public final class HashingAlgorithms {
 	 * @return the algorithm
 	 */
 	public static HashingAlgorithm identity1() {
-		return new Identity(1);
+		return IDENTITY1_INSTANCE;
 	}
 
 	/**
@@ -65,12 +168,13 @@ public final class HashingAlgorithms {
 	 * @return the algorithm
 	 */
 	public static HashingAlgorithm identity32() {
-		return new Identity(32);
+		return IDENTITY32_INSTANCE;
 	}
 
 	/**
 	 * Yields the hashing algorithm with the given name.
-	 * It looks for a factory method with the given name and invokes it.
+	 * It looks for the name among the built-in algorithms and those provided through
+	 * the {@link java.util.ServiceLoader} mechanism.
 	 * 
 	 * @param name the name of the algorithm, case-insensitive
 	 * @return the algorithm
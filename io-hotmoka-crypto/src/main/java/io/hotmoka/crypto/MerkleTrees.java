@@ -0,0 +1,75 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.crypto.api.MerkleProof;
+import io.hotmoka.crypto.api.MerkleTree;
+import io.hotmoka.crypto.internal.MerkleProofImpl;
+import io.hotmoka.crypto.internal.MerkleTreeImpl;
+
+/**
+ * Provider of Merkle trees and of their inclusion proofs.
+ */
+public final class MerkleTrees {
+
+	private MerkleTrees() {}
+
+	/**
+	 * Yields an empty Merkle tree.
+	 * 
+	 * @param <T> the type of the values in the leaves of the tree
+	 * @param algorithm the hashing algorithm used for the nodes of the tree
+	 * @param toBytes the function that yields the bytes of the values in the leaves
+	 * @return the tree
+	 */
+	public static <T> MerkleTree<T> of(HashingAlgorithm algorithm, Function<? super T, byte[]> toBytes) {
+		return new MerkleTreeImpl<>(algorithm, toBytes);
+	}
+
+	/**
+	 * Yields a Merkle tree with the given values in its leaves, in order.
+	 * Large trees are built in parallel.
+	 * 
+	 * @param <T> the type of the values in the leaves of the tree
+	 * @param algorithm the hashing algorithm used for the nodes of the tree
+	 * @param toBytes the function that yields the bytes of the values in the leaves
+	 * @param values the values
+	 * @return the tree
+	 */
+	public static <T> MerkleTree<T> of(HashingAlgorithm algorithm, Function<? super T, byte[]> toBytes, List<? extends T> values) {
+		return new MerkleTreeImpl<>(algorithm, toBytes, values);
+	}
+
+	/**
+	 * Yields a proof that a leaf belongs to a Merkle tree, for instance
+	 * after it has been received from another machine.
+	 * 
+	 * @param algorithm the hashing algorithm used for the nodes of the tree
+	 * @param leafIndex the position of the leaf
+	 * @param treeSize the number of leaves of the tree
+	 * @param siblings the siblings of the nodes in the path from the leaf to the root, from the bottom to the top of the tree
+	 * @return the proof
+	 * @throws IllegalArgumentException if the number of siblings or their length does not match the shape of the tree
+	 */
+	public static MerkleProof proof(HashingAlgorithm algorithm, int leafIndex, int treeSize, List<byte[]> siblings) {
+		return new MerkleProofImpl(algorithm, leafIndex, treeSize, siblings);
+	}
+}
\ No newline at end of file
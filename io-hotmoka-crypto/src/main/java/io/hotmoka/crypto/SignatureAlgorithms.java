@@ -21,17 +21,32 @@ import java.security.NoSuchAlgorithmException;
 import io.hotmoka.crypto.api.SignatureAlgorithm;
 import io.hotmoka.crypto.internal.AbstractSignatureAlgorithmImpl;
 import io.hotmoka.crypto.internal.ED25519;
+import io.hotmoka.crypto.internal.ED25519COFACTORED;
 import io.hotmoka.crypto.internal.ED25519DET;
 import io.hotmoka.crypto.internal.EMPTY;
-import io.hotmoka.crypto.internal.QTESLA1;
-import io.hotmoka.crypto.internal.QTESLA3;
+import io.hotmoka.crypto.internal.QTESLA;
 import io.hotmoka.crypto.internal.SHA256DSA;
+import io.hotmoka.crypto.internal.SharedInstance;
 
 /**
  * Provider of algorithms that sign values and verify signatures back.
+ * Apart from {@link #ed25519det()}, the algorithms are shared: they are created at
+ * their first request and the same instance is returned at each call. They can be used
+ * concurrently, since their engines of the Java cryptography architecture are created
+ * lazily, for each thread that needs them. Since the same instance is shared by all
+ * its callers, so is its state, such as the cache of the decoded public keys: a change
+ * to the capacity of that cache, or its clearance, affects every user of the algorithm,
+ * and its statistics account for the decodings of all users.
  */
 public final class SignatureAlgorithms {
 
+	private final static SharedInstance<SignatureAlgorithm> SHA256DSA_INSTANCE = new SharedInstance<>(SHA256DSA::new);
+	private final static SharedInstance<SignatureAlgorithm> ED25519_INSTANCE = new SharedInstance<>(ED25519::new);
+	private final static SharedInstance<SignatureAlgorithm> ED25519COFACTORED_INSTANCE = new SharedInstance<>(ED25519COFACTORED::new);
+	private final static SharedInstance<SignatureAlgorithm> QTESLA1_INSTANCE = new SharedInstance<>(() -> new QTESLA(1));
+	private final static SharedInstance<SignatureAlgorithm> QTESLA3_INSTANCE = new SharedInstance<>(() -> new QTESLA(3));
+	private final static SignatureAlgorithm EMPTY_INSTANCE = new EMPTY();
+
 	private SignatureAlgorithms() {}
 
 	/**
@@ -41,7 +56,7 @@ public final class SignatureAlgorithms {
 	 * @throws NoSuchAlgorithmException if the installation of Java does not include the SHA256withDSA algorithm
 	 */
 	public static SignatureAlgorithm sha256dsa() throws NoSuchAlgorithmException {
-		return new SHA256DSA();
+		return SHA256DSA_INSTANCE.get();
 	}
 
 	/**
@@ -51,7 +66,22 @@ public final class SignatureAlgorithms {
 	 * @throws NoSuchAlgorithmException if the installation does not include the ed25519 algorithm
 	 */
 	public static SignatureAlgorithm ed25519() throws NoSuchAlgorithmException {
-		return new ED25519();
+		return ED25519_INSTANCE.get();
+	}
+
+	/**
+	 * Yields a signature algorithm that uses the ed25519 cryptography, with the cofactored
+	 * verification equation. It accepts all signatures accepted by {@link #ed25519()}, and also
+	 * some signatures, that no honest signer ever produces, whose points have a component of
+	 * small order. Hence the two algorithms must not be used interchangeably, for instance by nodes
+	 * that must agree on the validity of the same signatures. In exchange, its batches of signatures
+	 * are verified much faster than one by one.
+	 * 
+	 * @return the algorithm
+	 * @throws NoSuchAlgorithmException if the installation does not include the ed25519 algorithm
+	 */
+	public static SignatureAlgorithm ed25519cofactored() throws NoSuchAlgorithmException {
+		return ED25519COFACTORED_INSTANCE.get();
 	}
 
 	/**
@@ -60,6 +90,7 @@ public final class SignatureAlgorithms {
 	 * It is useful instead for testing, since it makes deterministic the
 	 * sequence of keys of the accounts in the tests and consequently
 	 * also the gas costs of such accounts when they are put into maps, for instance.
+	 * A new algorithm is returned at each call, with its own sequence of keys.
 	 * 
 	 * @return the algorithm
 	 * @throws NoSuchAlgorithmException if the installation does not include the ed25519 algorithm
@@ -75,7 +106,7 @@ public final class SignatureAlgorithms {
 	 * @throws NoSuchAlgorithmException if the installation does not include the qTESLA-p-I algorithm
 	 */
 	public static SignatureAlgorithm qtesla1() throws NoSuchAlgorithmException {
-		return new QTESLA1();
+		return QTESLA1_INSTANCE.get();
 	}
 
 	/**
@@ -85,7 +116,7 @@ public final class SignatureAlgorithms {
 	 * @throws NoSuchAlgorithmException if the installation does not include the qTESLA-p-III algorithm
 	 */
 	public static SignatureAlgorithm qtesla3() throws NoSuchAlgorithmException {
-		return new QTESLA3();
+		return QTESLA3_INSTANCE.get();
 	}
 
 	/**
@@ -94,12 +125,13 @@ public final class SignatureAlgorithms {
 	 * @return the algorithm
 	 */
 	public static SignatureAlgorithm empty() {
-		return new EMPTY();
+		return EMPTY_INSTANCE;
 	}
 
 	/**
 	 * Yields the signature algorithm with the given name.
-	 * It looks for a factory method with the given name and invokes it.
+	 * It looks for the name among the built-in algorithms and those provided through
+	 * the {@link java.util.ServiceLoader} mechanism.
 	 * 
 	 * @param name the name of the algorithm, case-insensitive
 	 * @return the algorithm
@@ -0,0 +1,42 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto;
+
+import java.security.NoSuchAlgorithmException;
+
+import io.hotmoka.crypto.api.VerificationCache;
+import io.hotmoka.crypto.internal.VerificationCacheImpl;
+
+/**
+ * Provider of caches of the successful verifications of signatures.
+ */
+public final class VerificationCaches {
+
+	private VerificationCaches() {}
+
+	/**
+	 * Yields an empty verification cache.
+	 * 
+	 * @param capacity the maximal number of verifications kept in the cache; 0 disables the cache
+	 * @return the cache
+	 * @throws NoSuchAlgorithmException if the installation of Java does not include the SHA256 algorithm
+	 * @throws IllegalArgumentException if {@code capacity} is negative
+	 */
+	public static VerificationCache of(int capacity) throws NoSuchAlgorithmException {
+		return new VerificationCacheImpl(capacity);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Partial implementation of the BLAKE2 hashing algorithms, with 32 bytes of output.
+ * They can be keyed, which yields a message authentication code, and personalized,
+ * which separates the hashes of distinct domains, without hashing any extra prefix.
+ * Keyed or personalized algorithms have a name that does not identify any registered
+ * algorithm, since their parameters cannot be recovered from their name.
+ */
+public abstract class AbstractBLAKE2 extends AbstractMessageDigestHashingAlgorithm {
+
+	/**
+	 * The key of the algorithm. This is {@code null} if the algorithm is not keyed.
+	 */
+	protected final byte[] key;
+
+	/**
+	 * The personalization of the algorithm. This is {@code null} if the algorithm is not personalized.
+	 */
+	protected final byte[] personalization;
+
+	/**
+	 * The name of the algorithm.
+	 */
+	private final String name;
+
+	/**
+	 * Creates the algorithm.
+	 * 
+	 * @param name the name of the algorithm, when it is neither keyed nor personalized
+	 * @param key the key of the algorithm; this is {@code null} or empty if the algorithm is not keyed
+	 * @param personalization the personalization of the algorithm; this is {@code null}
+	 *                        if the algorithm is not personalized
+	 * @param maxKeyLength the maximal length of the key
+	 * @param personalizationLength the length of the personalization
+	 */
+	protected AbstractBLAKE2(String name, byte[] key, byte[] personalization, int maxKeyLength, int personalizationLength) {
+		if (key != null && key.length > maxKeyLength)
+			throw new IllegalArgumentException("The key cannot be longer than " + maxKeyLength + " bytes");
+
+		if (personalization != null && personalization.length != personalizationLength)
+			throw new IllegalArgumentException("The personalization must be " + personalizationLength + " bytes long");
+
+		this.key = key == null || key.length == 0 ? null : key.clone();
+		this.personalization = personalization == null ? null : personalization.clone();
+
+		// the name of a keyed or personalized algorithm must not be resolved into the plain algorithm
+		if (this.key != null)
+			name += "-keyed";
+
+		if (this.personalization != null)
+			name += "-personalized";
+
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public int length() {
+		return 32;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return super.equals(other) && Arrays.equals(key, ((AbstractBLAKE2) other).key)
+			&& Arrays.equals(personalization, ((AbstractBLAKE2) other).personalization);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode() ^ Objects.hash(Arrays.hashCode(key), Arrays.hashCode(personalization));
+	}
+}
\ No newline at end of file
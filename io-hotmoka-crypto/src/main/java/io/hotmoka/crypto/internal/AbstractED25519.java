@@ -0,0 +1,138 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.spec.InvalidKeySpecException;
+import java.util.OptionalInt;
+
+import org.bouncycastle.jcajce.spec.EdDSAParameterSpec;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+
+/**
+ * Partial implementation of a signature algorithm that uses the ED25519 cryptography.
+ * Its keys hold their raw bytes, hence they are encoded and decoded by copying arrays,
+ * and they are used directly by the Ed25519 engine of BouncyCastle, without the envelope
+ * of the Java cryptography architecture. Keys of other providers are accepted as well.
+ * Signatures are verified with the cofactorless equation of RFC 8032, one by one, also in batch.
+ * Key pairs are generated without the key pair generator of BouncyCastle, but they coincide with
+ * those that it would generate. Its provider is installed at construction time anyway, so that
+ * {@link #mkKeyPairGenerator(SecureRandom)} can still yield that generator.
+ * Subclasses only define the source of randomness used to generate the key pairs.
+ */
+public abstract class AbstractED25519 extends AbstractSignatureAlgorithmImpl {
+
+	/**
+	 * Creates the algorithm.
+	 */
+	protected AbstractED25519() {
+		ensureProvider();
+	}
+
+	@Override
+	protected final KeyPairGenerator mkKeyPairGenerator(SecureRandom random) {
+		try {
+			var keyPairGenerator = KeyPairGenerator.getInstance("Ed25519", BouncyCastleProvider.PROVIDER_NAME);
+			keyPairGenerator.initialize(new EdDSAParameterSpec(EdDSAParameterSpec.Ed25519), random);
+			return keyPairGenerator;
+		}
+		catch (NoSuchAlgorithmException | NoSuchProviderException | InvalidAlgorithmParameterException e) {
+			// impossible, since the provider has been installed at construction time
+			throw new RuntimeException("unexpected exception", e);
+		}
+	}
+
+	@Override
+	protected final KeyPair mkKeyPair(SecureRandom random) {
+		// the same bytes are drawn from random as by the key pair generator of BouncyCastle, hence the same keys are generated
+		var secretKey = new byte[Ed25519.SECRET_KEY_SIZE];
+		Ed25519.generatePrivateKey(random, secretKey);
+		var privateKey = new Ed25519RawPrivateKey(secretKey, 0);
+		return new KeyPair(privateKey.getPublicKey(), privateKey);
+	}
+
+	@Override
+	protected final byte[] sign(byte[] bytes, PrivateKey privateKey) throws InvalidKeyException {
+		return Ed25519RawPrivateKey.of(privateKey).sign(bytes);
+	}
+
+	@Override
+	protected boolean verify(byte[] bytes, PublicKey publicKey, byte[] signature) throws InvalidKeyException {
+		byte[] rawPublicKey = Ed25519RawPublicKey.rawBytesOf(publicKey);
+		return signature.length == Ed25519.SIGNATURE_SIZE && Ed25519.verify(signature, 0, rawPublicKey, 0, bytes, 0, bytes.length);
+	}
+
+	@Override
+	public final PublicKey publicKeyFromEncoding(byte[] encoded) throws InvalidKeySpecException {
+		return publicKeyFromEncoding(encoded, AbstractED25519::decodePublicKey);
+	}
+
+	private static PublicKey decodePublicKey(byte[] encoded) throws InvalidKeySpecException {
+		if (encoded.length != Ed25519.PUBLIC_KEY_SIZE)
+			throw new InvalidKeySpecException("Ed25519 public keys must be " + Ed25519.PUBLIC_KEY_SIZE + " bytes long");
+
+		return new Ed25519RawPublicKey(encoded, 0);
+	}
+
+	@Override
+	public final PrivateKey privateKeyFromEncoding(byte[] encoded) throws InvalidKeySpecException {
+		if (encoded.length != Ed25519.SECRET_KEY_SIZE)
+			throw new InvalidKeySpecException("Ed25519 private keys must be " + Ed25519.SECRET_KEY_SIZE + " bytes long");
+
+		return new Ed25519RawPrivateKey(encoded, 0);
+	}
+
+	@Override
+	public final byte[] encodingOf(PublicKey publicKey) throws InvalidKeyException {
+		return Ed25519RawPublicKey.rawBytesOf(publicKey);
+	}
+
+	@Override
+	public final byte[] encodingOf(PrivateKey privateKey) throws InvalidKeyException {
+		return Ed25519RawPrivateKey.of(privateKey).getRawBytes();
+	}
+
+	@Override
+	public final OptionalInt publicKeyLength() {
+		return OptionalInt.of(Ed25519.PUBLIC_KEY_SIZE);
+	}
+
+	@Override
+	public final OptionalInt privateKeyLength() {
+		return OptionalInt.of(Ed25519.SECRET_KEY_SIZE);
+	}
+
+	@Override
+	public final OptionalInt length() {
+		return OptionalInt.of(Ed25519.SIGNATURE_SIZE);
+	}
+
+	private static void ensureProvider() {
+		if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null)
+	        Security.addProvider(new BouncyCastleProvider());
+	}
+}
\ No newline at end of file
@@ -16,20 +16,27 @@ limitations under the License.
 
 package io.hotmoka.crypto.internal;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import io.hotmoka.crypto.HashingAlgorithms;
 import io.hotmoka.crypto.api.Hasher;
 import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.crypto.api.HashingAlgorithmProvider;
+import io.hotmoka.crypto.api.IncrementalHasher;
+import io.hotmoka.crypto.api.Marshaller;
 
 /**
  * A partial implementation of a hashing algorithm, that
@@ -71,6 +78,19 @@ public abstract class AbstractHashingAlgorithmImpl implements HashingAlgorithm {
 	 * @return the hash; this must have length equals to {@linkplain #length()}
 	 */
 	private byte[] computeHash(byte[] bytes, int start, int length) {
+		checkPortion(bytes, start, length);
+		return hash(bytes, start, length);
+	}
+
+	/**
+	 * Checks that the given array of bytes has a portion from
+	 * {@code start} (inclusive) to {@code start + length} (exclusive).
+	 * 
+	 * @param bytes the array of bytes
+	 * @param start the initial byte position of the portion
+	 * @param length the number of bytes of the portion
+	 */
+	private static void checkPortion(byte[] bytes, int start, int length) {
 		Objects.requireNonNull(bytes, "bytes cannot be null");
 
 		if (start < 0)
@@ -81,8 +101,6 @@ public abstract class AbstractHashingAlgorithmImpl implements HashingAlgorithm {
 
 		if (start + length > bytes.length)
 			throw new IllegalArgumentException("Trying to hash a portion larger than the array of bytes");
-
-		return hash(bytes, start, length);
 	}
 
 	/**
@@ -105,6 +123,225 @@ public abstract class AbstractHashingAlgorithmImpl implements HashingAlgorithm {
 		return hash(subarray);
 	}
 
+	/**
+	 * Yields a view of a portion of the remaining bytes of the given buffer, from
+	 * {@code start} (inclusive) to {@code start + length} (exclusive), relative
+	 * to the position of the buffer. The position and limit of the buffer are not affected.
+	 * 
+	 * @param buffer the buffer
+	 * @param start the initial byte position to consider for hashing, relative to the
+	 *              position of the buffer; this must be a position inside the remaining bytes of {@code buffer}
+	 * @param length the number of bytes (starting at {@code start})
+	 *               that must be considered for hashing; this cannot be
+	 *               negative and cannot lead to a position larger than the limit of {@code buffer}
+	 * @return the view of the portion of {@code buffer}
+	 */
+	private static ByteBuffer portion(ByteBuffer buffer, int start, int length) {
+		Objects.requireNonNull(buffer, "buffer cannot be null");
+
+		if (start < 0)
+			throw new IllegalArgumentException("start cannot be negative");
+
+		if (length < 0)
+			throw new IllegalArgumentException("length cannot be negative");
+
+		if (start + length > buffer.remaining())
+			throw new IllegalArgumentException("Trying to hash a portion larger than the buffer");
+
+		int from = buffer.position() + start;
+		return buffer.duplicate().limit(from + length).position(from);
+	}
+
+	/**
+	 * Checks that there is room for a hash in the given array, from the given offset.
+	 * 
+	 * @param out the array
+	 * @param offset the offset inside {@code out} where the hash should be written
+	 */
+	private void checkRoomForHash(byte[] out, int offset) {
+		Objects.requireNonNull(out, "out cannot be null");
+
+		if (offset < 0)
+			throw new IllegalArgumentException("offset cannot be negative");
+
+		if (offset > out.length - length())
+			throw new IllegalArgumentException("There is no room for the hash in the output array");
+	}
+
+	/**
+	 * Hashes a portion of the given array of bytes, from
+	 * {@code start} (inclusive) to {@code start + length}
+	 * (exclusive) and writes the hash of that part only into {@code out},
+	 * from position {@code offset}. This implementation copies the result of
+	 * {@link #hash(byte[], int, int)} into {@code out}. Subclasses might provide
+	 * better implementations, that do not allocate any array.
+	 * 
+	 * @param bytes the bytes to hash; this is guaranteed to be non-{@code null}
+	 * @param start the initial byte position to consider for hashing;
+	 *              this is guaranteed to be a position inside {@code bytes}
+	 * @param length the number of bytes (starting at {@code start})
+	 *               that must be considered for hashing; this is guaranteed to be
+	 *               non-negative and no larger than {@code bytes.length}
+	 * @param out the array where the hash gets written; this is guaranteed to be non-{@code null}
+	 * @param offset the position inside {@code out} where the hash gets written; this
+	 *               is guaranteed to leave room for {@linkplain #length()} bytes
+	 */
+	protected void hashInto(byte[] bytes, int start, int length, byte[] out, int offset) {
+		byte[] hash = start == 0 && length == bytes.length ? hash(bytes) : hash(bytes, start, length);
+		System.arraycopy(hash, 0, out, offset, length());
+	}
+
+	/**
+	 * Hashes the remaining bytes of the given buffer and writes the hash into
+	 * {@code out}, from position {@code offset}. This implementation copies the result of
+	 * {@link #hash(ByteBuffer)} into {@code out}. Subclasses might provide
+	 * better implementations, that do not allocate any array.
+	 * 
+	 * @param buffer the buffer; this is guaranteed to be non-{@code null} and can be freely
+	 *               modified by this method
+	 * @param out the array where the hash gets written; this is guaranteed to be non-{@code null}
+	 * @param offset the position inside {@code out} where the hash gets written; this
+	 *               is guaranteed to leave room for {@linkplain #length()} bytes
+	 */
+	protected void hashInto(ByteBuffer buffer, byte[] out, int offset) {
+		System.arraycopy(hash(buffer), 0, out, offset, length());
+	}
+
+	/**
+	 * Hashes the remaining bytes of the given buffer. If the buffer is backed by an
+	 * array, this hashes the relevant portion of that array, without copying it.
+	 * Otherwise, the bytes get copied into a new array and hashed. Subclasses
+	 * might provide better implementations.
+	 * 
+	 * @param buffer the buffer; this is guaranteed to be non-{@code null} and can be freely
+	 *               modified by this method
+	 * @return the hash; this must have length equals to {@linkplain #length()}
+	 */
+	protected byte[] hash(ByteBuffer buffer) {
+		if (buffer.hasArray())
+			return hash(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+
+		var bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+
+		return hash(bytes);
+	}
+
+	/**
+	 * Hashes all the given values. Small batches are hashed sequentially. Larger batches
+	 * are split into chunks that are hashed in parallel in a fork/join pool: since the
+	 * digests are thread-confined, each worker uses its own digest.
+	 * 
+	 * @param <T> the type of the values
+	 * @param what the values
+	 * @param hasher the hasher to apply to each value
+	 * @return the hashes of the values, in the same order as {@code what}
+	 */
+	private static <T> List<byte[]> hashAll(List<? extends T> what, Function<? super T, byte[]> hasher) {
+		return hashAll(what, (BatchHasher<T>) (values, results, from, to) -> {
+			for (int pos = from; pos < to; pos++)
+				results[pos] = hasher.apply(values.get(pos));
+		});
+	}
+
+	/**
+	 * Hashes all the given values, as {@link #hashAll(List, Function)}, but
+	 * applies the given batch hasher to each chunk of values.
+	 * 
+	 * @param <T> the type of the values
+	 * @param what the values
+	 * @param hasher the hasher to apply to each chunk of values
+	 * @return the hashes of the values, in the same order as {@code what}
+	 */
+	private static <T> List<byte[]> hashAll(List<? extends T> what, BatchHasher<T> hasher) {
+		Objects.requireNonNull(what, "what cannot be null");
+		if (!(what instanceof RandomAccess))
+			what = new ArrayList<>(what);
+
+		int size = what.size();
+		var results = new byte[size][];
+
+		if (size <= MIN_PARALLEL_CHUNK)
+			hasher.hash(what, results, 0, size);
+		else {
+			int chunk = Math.max(MIN_PARALLEL_CHUNK, size / (4 * ForkJoinPool.getCommonPoolParallelism()));
+			new HashAllTask<T>(what, hasher, results, 0, size, chunk).invoke();
+		}
+
+		return List.of(results);
+	}
+
+	/**
+	 * The minimal number of values hashed sequentially by a task, while hashing a batch.
+	 */
+	private final static int MIN_PARALLEL_CHUNK = 64;
+
+	/**
+	 * Something that hashes the values of a batch between two positions.
+	 * 
+	 * @param <T> the type of the values
+	 */
+	private interface BatchHasher<T> {
+
+		/**
+		 * Hashes the values from {@code from} (inclusive) to {@code to} (exclusive).
+		 * 
+		 * @param what the values
+		 * @param results the array where the hashes get written, at the same positions of the values
+		 * @param from the first position to hash
+		 * @param to the position after the last to hash
+		 */
+		void hash(List<? extends T> what, byte[][] results, int from, int to);
+	}
+
+	/**
+	 * Hashes all the given arrays of bytes. This implementation hashes them
+	 * one by one. Subclasses might provide better implementations, that hash more
+	 * arrays at the same time.
+	 * 
+	 * @param inputs the arrays to hash; they are guaranteed to be non-{@code null}
+	 * @param results the array where the hashes get written, at the same positions of {@code inputs};
+	 *                this is guaranteed to have the same length as {@code inputs}
+	 */
+	protected void hashBatch(byte[][] inputs, byte[][] results) {
+		for (int pos = 0; pos < inputs.length; pos++)
+			results[pos] = hash(inputs[pos]);
+	}
+
+	/**
+	 * A task that hashes a portion of a batch of values, splitting it in two halves if it is too big.
+	 * 
+	 * @param <T> the type of the values
+	 */
+	private static class HashAllTask<T> extends RecursiveAction {
+		private final static long serialVersionUID = 1L;
+		private final List<? extends T> what;
+		private final BatchHasher<T> hasher;
+		private final byte[][] results;
+		private final int from;
+		private final int to;
+		private final int chunk;
+
+		private HashAllTask(List<? extends T> what, BatchHasher<T> hasher, byte[][] results, int from, int to, int chunk) {
+			this.what = what;
+			this.hasher = hasher;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+			this.chunk = chunk;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= chunk)
+				hasher.hash(what, results, from, to);
+			else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new HashAllTask<T>(what, hasher, results, from, middle, chunk), new HashAllTask<T>(what, hasher, results, middle, to, chunk));
+			}
+		}
+	}
+
 	@Override
 	public <T> Hasher<T> getHasher(Function<? super T, byte[]> toBytes) {
 		return new Hasher<>() {
@@ -119,6 +356,27 @@ public abstract class AbstractHashingAlgorithmImpl implements HashingAlgorithm {
 				return computeHash(toBytes.apply(what), start, length);
 			}
 
+			@Override
+			public void hashInto(T what, byte[] out, int offset) {
+				var bytes = toBytes.apply(what);
+				Objects.requireNonNull(bytes, "bytes cannot be null");
+				checkRoomForHash(out, offset);
+				AbstractHashingAlgorithmImpl.this.hashInto(bytes, 0, bytes.length, out, offset);
+			}
+
+			@Override
+			public List<byte[]> hashAll(List<? extends T> what) {
+				return AbstractHashingAlgorithmImpl.hashAll(what, (BatchHasher<T>) (values, results, from, to) -> {
+					var inputs = new byte[to - from][];
+					for (int pos = from; pos < to; pos++)
+						inputs[pos - from] = Objects.requireNonNull(toBytes.apply(values.get(pos)), "bytes cannot be null");
+
+					var hashes = new byte[inputs.length][];
+					hashBatch(inputs, hashes);
+					System.arraycopy(hashes, 0, results, from, hashes.length);
+				});
+			}
+
 			@Override
 			public int length() {
 				return AbstractHashingAlgorithmImpl.this.length();
@@ -126,6 +384,290 @@ public abstract class AbstractHashingAlgorithmImpl implements HashingAlgorithm {
 		};
 	}
 
+	@Override
+	public <T> Hasher<T> getBufferHasher(Function<? super T, ByteBuffer> toByteBuffer) {
+		return new Hasher<>() {
+
+			@Override
+			public byte[] hash(T what) {
+				var buffer = toByteBuffer.apply(what);
+				Objects.requireNonNull(buffer, "buffer cannot be null");
+				return AbstractHashingAlgorithmImpl.this.hash(portion(buffer, 0, buffer.remaining()));
+			}
+
+			@Override
+			public byte[] hash(T what, int start, int length) {
+				return AbstractHashingAlgorithmImpl.this.hash(portion(toByteBuffer.apply(what), start, length));
+			}
+
+			@Override
+			public void hashInto(T what, byte[] out, int offset) {
+				var buffer = toByteBuffer.apply(what);
+				Objects.requireNonNull(buffer, "buffer cannot be null");
+				checkRoomForHash(out, offset);
+				AbstractHashingAlgorithmImpl.this.hashInto(portion(buffer, 0, buffer.remaining()), out, offset);
+			}
+
+			@Override
+			public List<byte[]> hashAll(List<? extends T> what) {
+				return AbstractHashingAlgorithmImpl.hashAll(what, this::hash);
+			}
+
+			@Override
+			public int length() {
+				return AbstractHashingAlgorithmImpl.this.length();
+			}
+		};
+	}
+
+	@Override
+	public byte[] hashChain(byte[] seed, long n) {
+		var result = new byte[length()];
+		hashChain(seed, n, n == 0 ? 1 : n, checkpoint -> System.arraycopy(checkpoint, 0, result, 0, result.length));
+
+		return n == 0 ? seed.clone() : result;
+	}
+
+	@Override
+	public List<byte[]> hashChain(byte[] seed, long n, long every) {
+		var checkpoints = new ArrayList<byte[]>();
+		hashChain(seed, n, every, checkpoint -> checkpoints.add(checkpoint.clone()));
+
+		return checkpoints;
+	}
+
+	/**
+	 * Computes a hash chain, passing its checkpoints every {@code every} steps to the given consumer.
+	 * The chain alternates between two arrays, hence no array is allocated at each iteration.
+	 * 
+	 * @param seed the seed of the chain
+	 * @param n the number of times hashing gets applied
+	 * @param every the distance between consecutive checkpoints
+	 * @param onCheckpoint the consumer of the checkpoints; the array it receives is reused later
+	 */
+	private void hashChain(byte[] seed, long n, long every, Consumer<byte[]> onCheckpoint) {
+		Objects.requireNonNull(seed, "seed cannot be null");
+
+		if (n < 0)
+			throw new IllegalArgumentException("n cannot be negative");
+
+		if (every <= 0)
+			throw new IllegalArgumentException("every must be positive");
+
+		if (n == 0)
+			return;
+
+		int length = length();
+		var current = new byte[length];
+		var next = new byte[length];
+		hashInto(seed, 0, seed.length, current, 0);
+		if (every == 1)
+			onCheckpoint.accept(current);
+
+		for (long step = 2; step <= n; step++) {
+			hashInto(current, 0, length, next, 0);
+			var temp = current;
+			current = next;
+			next = temp;
+
+			if (step % every == 0)
+				onCheckpoint.accept(current);
+		}
+	}
+
+	/**
+	 * An object that hashes portions of arrays of bytes, preceded by a fixed prefix.
+	 */
+	protected interface PrefixedHashing {
+
+		/**
+		 * Hashes the prefix followed by a portion of the given array of bytes, from
+		 * {@code start} (inclusive) to {@code start + length} (exclusive),
+		 * and writes the hash into {@code out}, from position {@code offset}.
+		 * 
+		 * @param bytes the bytes to hash after the prefix; this is guaranteed to be non-{@code null}
+		 * @param start the initial byte position to consider for hashing;
+		 *              this is guaranteed to be a position inside {@code bytes}
+		 * @param length the number of bytes (starting at {@code start})
+		 *               that must be considered for hashing; this is guaranteed to be
+		 *               non-negative and no larger than {@code bytes.length}
+		 * @param out the array where the hash gets written; this is guaranteed to be non-{@code null}
+		 * @param offset the position inside {@code out} where the hash gets written; this
+		 *               is guaranteed to leave room for {@linkplain #length()} bytes
+		 */
+		void hashInto(byte[] bytes, int start, int length, byte[] out, int offset);
+	}
+
+	/**
+	 * Yields an object that hashes portions of arrays of bytes, preceded by the given prefix.
+	 * This implementation concatenates the prefix and the bytes before hashing them.
+	 * Subclasses might provide better implementations, that process the prefix only once.
+	 * 
+	 * @param prefix the prefix; this is guaranteed to be non-{@code null} and is never modified later
+	 * @return the object that hashes the bytes after {@code prefix}
+	 */
+	protected PrefixedHashing absorb(byte[] prefix) {
+		return (bytes, start, length, out, offset) -> {
+			var concatenation = new byte[prefix.length + length];
+			System.arraycopy(prefix, 0, concatenation, 0, prefix.length);
+			System.arraycopy(bytes, start, concatenation, prefix.length, length);
+			hashInto(concatenation, 0, concatenation.length, out, offset);
+		};
+	}
+
+	@Override
+	public <T> Hasher<T> getPrefixedHasher(byte[] prefix, Function<? super T, byte[]> toBytes) {
+		var hashing = absorb(Objects.requireNonNull(prefix, "prefix cannot be null").clone());
+
+		return new Hasher<>() {
+
+			@Override
+			public byte[] hash(T what) {
+				var bytes = toBytes.apply(what);
+				Objects.requireNonNull(bytes, "bytes cannot be null");
+				var result = new byte[length()];
+				hashing.hashInto(bytes, 0, bytes.length, result, 0);
+				return result;
+			}
+
+			@Override
+			public byte[] hash(T what, int start, int length) {
+				var bytes = toBytes.apply(what);
+				checkPortion(bytes, start, length);
+				var result = new byte[length()];
+				hashing.hashInto(bytes, start, length, result, 0);
+				return result;
+			}
+
+			@Override
+			public void hashInto(T what, byte[] out, int offset) {
+				var bytes = toBytes.apply(what);
+				Objects.requireNonNull(bytes, "bytes cannot be null");
+				checkRoomForHash(out, offset);
+				hashing.hashInto(bytes, 0, bytes.length, out, offset);
+			}
+
+			@Override
+			public List<byte[]> hashAll(List<? extends T> what) {
+				return AbstractHashingAlgorithmImpl.hashAll(what, this::hash);
+			}
+
+			@Override
+			public int length() {
+				return AbstractHashingAlgorithmImpl.this.length();
+			}
+		};
+	}
+
+	/**
+	 * Yields a hasher that marshals each value into a fresh incremental hasher.
+	 * A fresh incremental hasher is used for each value, since the marshaller might
+	 * itself hash other values with this same algorithm.
+	 */
+	@Override
+	public <T> Hasher<T> getMarshallingHasher(Marshaller<? super T> marshaller) {
+		Objects.requireNonNull(marshaller, "marshaller cannot be null");
+
+		return new Hasher<>() {
+
+			@Override
+			public byte[] hash(T what) {
+				var result = new byte[length()];
+				hashInto(what, result, 0);
+				return result;
+			}
+
+			@Override
+			public byte[] hash(T what, int start, int length) {
+				if (start < 0)
+					throw new IllegalArgumentException("start cannot be negative");
+
+				if (length < 0)
+					throw new IllegalArgumentException("length cannot be negative");
+
+				var result = new byte[length()];
+				marshalInto(what, start, length, result, 0);
+				return result;
+			}
+
+			@Override
+			public void hashInto(T what, byte[] out, int offset) {
+				checkRoomForHash(out, offset);
+				marshalInto(what, 0, Long.MAX_VALUE, out, offset);
+			}
+
+			/**
+			 * Hashes the marshalled bytes of the given value, from {@code start} (inclusive)
+			 * to {@code start + length} (exclusive), and writes the hash into {@code out}, from {@code offset}.
+			 */
+			private void marshalInto(T what, long start, long length, byte[] out, int offset) {
+				var hasher = getIncrementalHasher();
+				var stream = new IncrementalHasherOutputStream(hasher, start, start + length);
+
+				try {
+					marshaller.marshal(what, stream);
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+
+				if (length != Long.MAX_VALUE && stream.position < start + length)
+					throw new IllegalArgumentException("Trying to hash a portion larger than the marshalled bytes");
+
+				hasher.finishInto(out, offset);
+			}
+
+			@Override
+			public List<byte[]> hashAll(List<? extends T> what) {
+				return AbstractHashingAlgorithmImpl.hashAll(what, this::hash);
+			}
+
+			@Override
+			public int length() {
+				return AbstractHashingAlgorithmImpl.this.length();
+			}
+		};
+	}
+
+	/**
+	 * An output stream that feeds into an incremental hasher the bytes
+	 * written at positions from {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	private static class IncrementalHasherOutputStream extends OutputStream {
+		private final IncrementalHasher hasher;
+		private final long from;
+		private final long to;
+
+		/**
+		 * The number of bytes written so far.
+		 */
+		private long position;
+
+		private IncrementalHasherOutputStream(IncrementalHasher hasher, long from, long to) {
+			this.hasher = hasher;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public void write(int b) {
+			if (position >= from && position < to)
+				hasher.update((byte) b);
+
+			position++;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			Objects.checkFromIndexSize(offset, length, bytes.length);
+			long start = Math.max(position, from), end = Math.min(position + length, to);
+			if (start < end)
+				hasher.update(bytes, offset + (int) (start - position), (int) (end - start));
+
+			position += length;
+		}
+	}
+
 	/**
 	 * Yields this same instance. Subclasses may redefine.
 	 * 
@@ -157,58 +699,31 @@ public abstract class AbstractHashingAlgorithmImpl implements HashingAlgorithm {
 	}
 
 	/**
-	 * Yields the hashing algorithm with the given name.
-	 * It looks for a factory method with the given name and invokes it.
-	 * 
-	 * @param name the name of the algorithm, case-insensitive
-	 * @return the algorithm
-	 * @throws NoSuchAlgorithmException if the installation does not include the given algorithm
+	 * The registry of the hashing algorithms, created lazily, at the first lookup.
 	 */
-	public static HashingAlgorithm of(String name) throws NoSuchAlgorithmException {
-		name = name.toLowerCase();
-
-		try {
-			// only sha256, shabal256 are currently found below
-			Method method = HashingAlgorithms.class.getMethod(name);
-			return (HashingAlgorithm) method.invoke(null);
-		}
-		catch (NoSuchMethodException | SecurityException | InvocationTargetException | IllegalAccessException | IllegalArgumentException e) {
-			throw new NoSuchAlgorithmException("Unknown hashing algorithm " + name +
-					" (alternatives are " + available().map(HashingAlgorithm::toString).collect(Collectors.joining(", ")) + ")", e);
-		}
+	private static class Registry {
+		private final static AlgorithmRegistry<HashingAlgorithm> INSTANCE = new AlgorithmRegistry<>("hashing", Map.ofEntries(
+			Map.entry("sha256", HashingAlgorithms::sha256),
+			Map.entry("shabal256", HashingAlgorithms::shabal256),
+			Map.entry("blake2b256", HashingAlgorithms::blake2b256),
+			Map.entry("blake2s256", HashingAlgorithms::blake2s256),
+			Map.entry("blake3", HashingAlgorithms::blake3),
+			Map.entry("keccak256", HashingAlgorithms::keccak256),
+			Map.entry("sha3_256", HashingAlgorithms::sha3_256),
+			Map.entry("identity1", HashingAlgorithms::identity1),
+			Map.entry("identity32", HashingAlgorithms::identity32)
+		), HashingAlgorithmProvider.class, HashingAlgorithmProvider::getName, provider -> provider::get);
 	}
 
 	/**
-	 * Yields the available hashing algorithms.
+	 * Yields the hashing algorithm with the given name. It looks for the name among
+	 * the built-in algorithms and those of the installed providers.
 	 * 
-	 * @return the available hashing algorithms
-	 */
-	private static Stream<HashingAlgorithm> available() {
-		return Stream.of(HashingAlgorithms.class.getDeclaredMethods())
-			.filter(method -> Modifier.isPublic(method.getModifiers()))
-			.filter(method -> Modifier.isStatic(method.getModifiers()))
-			.filter(method -> method.getParameterCount() == 0)
-			.filter(method -> method.getReturnType() == HashingAlgorithm.class)
-			.map(AbstractHashingAlgorithmImpl::tryCreation)
-			.flatMap(Optional::stream);
-	}
-
-	private final static Logger LOGGER = Logger.getLogger(HashingAlgorithms.class.getName());
-
-	/**
-	 * Tries to create a hashing algorithm by using the given supplier method.
-	 * It yields an empty optional if the creation fails.
-	 * 
-	 * @param supplier the supplier method
-	 * @return the hashing algorithm, if any
+	 * @param name the name of the algorithm, case-insensitive
+	 * @return the algorithm
+	 * @throws NoSuchAlgorithmException if the installation does not include the given algorithm
 	 */
-	private static Optional<HashingAlgorithm> tryCreation(Method supplier) {
-		try {
-			return Optional.of((HashingAlgorithm) supplier.invoke(null));
-		}
-		catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-			LOGGER.warning("discarding hashing algorithm " + supplier.getName() + " since it could not be created: " + e.getMessage());
-			return Optional.empty();
-		}
+	public static HashingAlgorithm of(String name) throws NoSuchAlgorithmException {
+		return Registry.INSTANCE.get(name);
 	}
 }
\ No newline at end of file
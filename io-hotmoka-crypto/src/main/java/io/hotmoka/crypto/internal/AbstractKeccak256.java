@@ -0,0 +1,177 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import io.hotmoka.crypto.AbstractHashingAlgorithm;
+import io.hotmoka.crypto.api.IncrementalHasher;
+
+/**
+ * Partial implementation of the hashing algorithms of the Keccak family with
+ * 32 bytes of output. They differ only in the domain separation bits of their padding.
+ * Each thread works on its own sponge, created lazily and reused for all its hashes.
+ */
+public abstract class AbstractKeccak256 extends AbstractHashingAlgorithm {
+
+	/**
+	 * The rate of the sponge, in bytes, for a capacity of 512 bits.
+	 */
+	private final static int RATE = 136;
+
+	/**
+	 * The domain separation bits of the algorithm.
+	 */
+	private final byte suffix;
+
+	/**
+	 * The sponges of the threads that use this algorithm.
+	 */
+	private final ThreadLocal<KeccakSponge> sponges = ThreadLocal.withInitial(this::mkSponge);
+
+	/**
+	 * Creates the algorithm.
+	 * 
+	 * @param suffix the domain separation bits appended to the message: 0x01 for Keccak, 0x06 for SHA-3
+	 */
+	protected AbstractKeccak256(byte suffix) {
+		this.suffix = suffix;
+	}
+
+	private KeccakSponge mkSponge() {
+		return new KeccakSponge(RATE, suffix);
+	}
+
+	@Override
+	public int length() {
+		return 32;
+	}
+
+	@Override
+	protected byte[] hash(byte[] bytes) {
+		return hash(bytes, 0, bytes.length);
+	}
+
+	@Override
+	protected byte[] hash(byte[] bytes, int start, int length) {
+		var result = new byte[32];
+		hashInto(bytes, start, length, result, 0);
+		return result;
+	}
+
+	@Override
+	protected void hashInto(byte[] bytes, int start, int length, byte[] out, int offset) {
+		var sponge = sponges.get();
+		sponge.reset();
+		sponge.absorb(bytes, start, length);
+		sponge.squeeze(out, offset, 32);
+	}
+
+	@Override
+	protected void hashInto(ByteBuffer buffer, byte[] out, int offset) {
+		var sponge = sponges.get();
+		sponge.reset();
+		sponge.absorb(buffer);
+		sponge.squeeze(out, offset, 32);
+	}
+
+	@Override
+	protected byte[] hash(ByteBuffer buffer) {
+		var result = new byte[32];
+		hashInto(buffer, result, 0);
+		return result;
+	}
+
+	/**
+	 * Yields an object that hashes portions of arrays of bytes, preceded by the given prefix.
+	 * The prefix is absorbed only once and each hash continues from a copy of that sponge.
+	 */
+	@Override
+	protected PrefixedHashing absorb(byte[] prefix) {
+		var snapshot = mkSponge();
+		snapshot.absorb(prefix, 0, prefix.length);
+
+		return (bytes, start, length, out, offset) -> {
+			var sponge = sponges.get();
+			sponge.copyFrom(snapshot);
+			sponge.absorb(bytes, start, length);
+			sponge.squeeze(out, offset, 32);
+		};
+	}
+
+	@Override
+	public IncrementalHasher getIncrementalHasher() {
+		return new KeccakIncrementalHasher(mkSponge());
+	}
+
+	/**
+	 * An incremental hasher that absorbs the bytes into its own sponge, as they arrive.
+	 */
+	private static class KeccakIncrementalHasher implements IncrementalHasher {
+		private final KeccakSponge sponge;
+
+		private KeccakIncrementalHasher(KeccakSponge sponge) {
+			this.sponge = sponge;
+		}
+
+		@Override
+		public void update(byte b) {
+			sponge.absorb(b);
+		}
+
+		@Override
+		public void update(byte[] bytes) {
+			sponge.absorb(bytes, 0, bytes.length);
+		}
+
+		@Override
+		public void update(byte[] bytes, int start, int length) {
+			Objects.checkFromIndexSize(start, length, bytes.length);
+			sponge.absorb(bytes, start, length);
+		}
+
+		@Override
+		public void update(ByteBuffer buffer) {
+			sponge.absorb(buffer);
+		}
+
+		@Override
+		public byte[] finish() {
+			var result = new byte[32];
+			finishInto(result, 0);
+			return result;
+		}
+
+		@Override
+		public void finishInto(byte[] out, int offset) {
+			Objects.checkFromIndexSize(offset, 32, out.length);
+			sponge.squeeze(out, offset, 32);
+			sponge.reset();
+		}
+
+		@Override
+		public void reset() {
+			sponge.reset();
+		}
+
+		@Override
+		public int length() {
+			return 32;
+		}
+	}
+}
\ No newline at end of file
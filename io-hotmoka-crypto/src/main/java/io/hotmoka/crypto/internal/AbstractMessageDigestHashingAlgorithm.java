@@ -0,0 +1,229 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import io.hotmoka.crypto.AbstractHashingAlgorithm;
+import io.hotmoka.crypto.api.IncrementalHasher;
+
+/**
+ * Partial implementation of a hashing algorithm that delegates to a {@link MessageDigest}.
+ * Each thread works on its own digest, created lazily, hence threads sharing
+ * the same hashing algorithm do not contend for a single digest.
+ */
+public abstract class AbstractMessageDigestHashingAlgorithm extends AbstractHashingAlgorithm {
+
+	/**
+	 * The digests of the threads that use this algorithm.
+	 */
+	private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(this::mkDigestOrFail);
+
+	/**
+	 * Creates the algorithm.
+	 */
+	protected AbstractMessageDigestHashingAlgorithm() {}
+
+	/**
+	 * Creates a new digest for this algorithm.
+	 *
+	 * @return the digest
+	 * @throws NoSuchAlgorithmException if the installation of Java does not include the digest
+	 */
+	protected abstract MessageDigest mkDigest() throws NoSuchAlgorithmException;
+
+	/**
+	 * Yields the digest of the current thread.
+	 *
+	 * @return the digest
+	 */
+	protected final MessageDigest getDigest() {
+		return digests.get();
+	}
+
+	private MessageDigest mkDigestOrFail() {
+		try {
+			return mkDigest();
+		}
+		catch (NoSuchAlgorithmException e) {
+			// impossible, since this algorithm was already created successfully, unless the provider has been removed
+			throw new RuntimeException("Cannot create the digest for " + getName() + " since the provider is not available", e);
+		}
+	}
+
+	@Override
+	protected byte[] hash(byte[] bytes) {
+		var digest = digests.get();
+		digest.reset();
+		return digest.digest(bytes);
+	}
+
+	@Override
+	protected byte[] hash(byte[] bytes, int start, int length) {
+		var digest = digests.get();
+		digest.reset();
+		digest.update(bytes, start, length);
+		return digest.digest();
+	}
+
+	@Override
+	protected void hashInto(byte[] bytes, int start, int length, byte[] out, int offset) {
+		var digest = digests.get();
+		digest.reset();
+		digest.update(bytes, start, length);
+		digestInto(digest, out, offset);
+	}
+
+	@Override
+	protected void hashInto(ByteBuffer buffer, byte[] out, int offset) {
+		var digest = digests.get();
+		digest.reset();
+		digest.update(buffer);
+		digestInto(digest, out, offset);
+	}
+
+	@Override
+	protected byte[] hash(ByteBuffer buffer) {
+		var digest = digests.get();
+		digest.reset();
+		digest.update(buffer);
+		return digest.digest();
+	}
+
+	/**
+	 * Completes the hash computation of the given digest and writes the
+	 * result into the given array, from the given offset.
+	 * 
+	 * @param digest the digest
+	 * @param out the array
+	 * @param offset the offset inside {@code out}
+	 */
+	private static void digestInto(MessageDigest digest, byte[] out, int offset) {
+		try {
+			digest.digest(out, offset, digest.getDigestLength());
+		}
+		catch (DigestException e) {
+			throw new IllegalArgumentException("There is no room for the hash in the output array", e);
+		}
+	}
+
+	/**
+	 * Yields an object that hashes portions of arrays of bytes, preceded by the given prefix.
+	 * The prefix is fed into a digest only once and each hash continues from a copy
+	 * of that digest. If the digest cannot be copied, the prefix and the bytes get concatenated instead.
+	 */
+	@Override
+	protected PrefixedHashing absorb(byte[] prefix) {
+		var snapshot = mkDigestOrFail();
+		snapshot.update(prefix);
+
+		try {
+			restore(snapshot, digests.get());
+		}
+		catch (CloneNotSupportedException e) {
+			return super.absorb(prefix);
+		}
+
+		return (bytes, start, length, out, offset) -> {
+			MessageDigest digest;
+
+			try {
+				digest = restore(snapshot, digests.get());
+			}
+			catch (CloneNotSupportedException e) {
+				// impossible, since the snapshot has already been copied successfully
+				throw new RuntimeException("Cannot copy the digest for " + getName(), e);
+			}
+
+			digest.update(bytes, start, length);
+			digestInto(digest, out, offset);
+		};
+	}
+
+	/**
+	 * Yields a digest in the same state as the given snapshot, from which hashing can continue.
+	 * This implementation clones the snapshot. Subclasses might provide better implementations,
+	 * that copy the snapshot into {@code target}, without allocating.
+	 * 
+	 * @param snapshot the digest to copy; this must not be modified
+	 * @param target the digest of the current thread, that can be freely modified
+	 * @return the digest in the same state as {@code snapshot}
+	 * @throws CloneNotSupportedException if the digest cannot be copied
+	 */
+	protected MessageDigest restore(MessageDigest snapshot, MessageDigest target) throws CloneNotSupportedException {
+		return (MessageDigest) snapshot.clone();
+	}
+
+	@Override
+	public IncrementalHasher getIncrementalHasher() {
+		return new MessageDigestIncrementalHasher(mkDigestOrFail());
+	}
+
+	/**
+	 * An incremental hasher that feeds the bytes into its own digest, as they arrive.
+	 */
+	private static class MessageDigestIncrementalHasher implements IncrementalHasher {
+		private final MessageDigest digest;
+
+		private MessageDigestIncrementalHasher(MessageDigest digest) {
+			this.digest = digest;
+		}
+
+		@Override
+		public void update(byte b) {
+			digest.update(b);
+		}
+
+		@Override
+		public void update(byte[] bytes) {
+			digest.update(bytes);
+		}
+
+		@Override
+		public void update(byte[] bytes, int start, int length) {
+			digest.update(bytes, start, length);
+		}
+
+		@Override
+		public void update(ByteBuffer buffer) {
+			digest.update(buffer);
+		}
+
+		@Override
+		public byte[] finish() {
+			return digest.digest();
+		}
+
+		@Override
+		public void finishInto(byte[] out, int offset) {
+			digestInto(digest, out, offset);
+		}
+
+		@Override
+		public void reset() {
+			digest.reset();
+		}
+
+		@Override
+		public int length() {
+			return digest.getDigestLength();
+		}
+	}
+}
\ No newline at end of file
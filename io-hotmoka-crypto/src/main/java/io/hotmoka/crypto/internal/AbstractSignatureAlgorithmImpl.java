@@ -21,31 +21,36 @@ limitations under the License.
  */
 package io.hotmoka.crypto.internal;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
+import java.security.Signature;
 import java.security.SignatureException;
-import java.util.Optional;
+import java.security.spec.InvalidKeySpecException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import org.bouncycastle.crypto.digests.SHA512Digest;
-import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
-import org.bouncycastle.crypto.params.KeyParameter;
-
 import io.hotmoka.crypto.SignatureAlgorithms;
 import io.hotmoka.crypto.api.BIP39Dictionary;
+import io.hotmoka.crypto.api.Marshaller;
+import io.hotmoka.crypto.api.PublicKeyCache;
 import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.crypto.api.SignatureAlgorithmProvider;
 import io.hotmoka.crypto.api.Signer;
 import io.hotmoka.crypto.api.Verifier;
 
@@ -54,22 +59,45 @@ import io.hotmoka.crypto.api.Verifier;
  */
 public abstract class AbstractSignatureAlgorithmImpl implements SignatureAlgorithm {
 
-	private final static Logger LOGGER = Logger.getLogger(AbstractSignatureAlgorithmImpl.class.getName());
+	/**
+	 * The default maximal number of public keys kept in the cache of the decoded public keys.
+	 */
+	private final static int DEFAULT_PUBLIC_KEY_CACHE_CAPACITY = 4096;
 
 	/**
-	 * Yields the signature of the given value, by using the given private key.
+	 * The cache of the decoded public keys.
+	 */
+	private final PublicKeyCacheImpl publicKeyCache;
+
+	/**
+	 * Creates the algorithm, with a cache of the decoded public keys of default capacity.
+	 */
+	protected AbstractSignatureAlgorithmImpl() {
+		this(DEFAULT_PUBLIC_KEY_CACHE_CAPACITY);
+	}
+
+	/**
+	 * Creates the algorithm, with a cache of the decoded public keys of the given capacity.
+	 * 
+	 * @param publicKeyCacheCapacity the maximal number of public keys kept in the cache; 0 disables the cache
+	 */
+	protected AbstractSignatureAlgorithmImpl(int publicKeyCacheCapacity) {
+		this.publicKeyCache = new PublicKeyCacheImpl(publicKeyCacheCapacity);
+	}
+
+	/**
+	 * Yields the signature of the given value, by using the given signer of bytes.
 	 * 
 	 * @param <T> the type of values that get signed
 	 * @param what the value to sign
 	 * @param toBytes a function applied to transform the value into bytes before signing
-	 * @param privateKey the private key used for signing
+	 * @param signer the signer of bytes, bound to the private key used for signing
 	 * @return the signature
-	 * @throws InvalidKeyException if the provided private key is invalid
 	 * @throws SignatureException if the value cannot be signed
 	 */
-	private <T> byte[] sign(T what, Function<? super T, byte[]> toBytes, PrivateKey privateKey) throws InvalidKeyException, SignatureException {
+	private static <T> byte[] sign(T what, Function<? super T, byte[]> toBytes, BytesSigner signer) throws SignatureException {
 		try {
-			return sign(toBytes.apply(what), privateKey);
+			return signer.sign(toBytes.apply(what));
         }
         catch (Exception e) {
             throw new SignatureException("Cannot transform the value into bytes before signing", e);
@@ -77,20 +105,19 @@ public abstract class AbstractSignatureAlgorithmImpl implements SignatureAlgorit
 	}
 
 	/**
-	 * Verifies that the given signature is derived from the given value, by using the given public key.
+	 * Verifies that the given signature is derived from the given value, by using the given verifier of bytes.
 	 * 
 	 * @param <T> the type of values that get verified
 	 * @param what the value whose signature gets verified
 	 * @param toBytes a function applied to transform the value into bytes before verification
-	 * @param publicKey the public key; its corresponding private key should have been used for signing
+	 * @param verifier the verifier of bytes, bound to the public key whose corresponding private key should have been used for signing
 	 * @param signature the signature to verify
 	 * @return true if and only if the signature matches
-	 * @throws InvalidKeyException if the provided public key is invalid
-	 * @throws SignatureException if the value cannot be signed
+	 * @throws SignatureException if the value cannot be verified
 	 */
-	private <T> boolean verify(T what, Function<? super T, byte[]> toBytes, PublicKey publicKey, byte[] signature) throws InvalidKeyException, SignatureException {
+	private static <T> boolean verify(T what, Function<? super T, byte[]> toBytes, BytesVerifier verifier, byte[] signature) throws SignatureException {
 		try {
-			return verify(toBytes.apply(what), publicKey, signature);
+			return verifier.verify(toBytes.apply(what), signature);
         }
         catch (Exception e) {
             throw new SignatureException("Cannot transform the value into bytes before signature verification", e);
@@ -128,6 +155,92 @@ public abstract class AbstractSignatureAlgorithmImpl implements SignatureAlgorit
 	 */
 	protected abstract KeyPairGenerator mkKeyPairGenerator(SecureRandom random);
 
+	/**
+	 * Creates a key pair for this signature algorithm, with the entropy of the given source
+	 * of randomness. It is used also to derive key pairs from entropy and password.
+	 * By default, it uses the key pair generator of {@link #mkKeyPairGenerator(SecureRandom)}.
+	 * Subclasses can redefine it if they generate their key pairs without such a generator.
+	 * 
+	 * @param random the generator of entropy to use for the key pair
+	 * @return the key pair
+	 */
+	protected KeyPair mkKeyPair(SecureRandom random) {
+		return mkKeyPairGenerator(random).generateKeyPair();
+	}
+
+	/**
+	 * A supplier of engines of the Java cryptography architecture, such as key factories.
+	 *
+	 * @param <E> the type of the engines
+	 */
+	protected interface EngineSupplier<E> {
+
+		/**
+		 * Yields a new engine.
+		 * 
+		 * @return the engine
+		 * @throws NoSuchAlgorithmException if the engine is not available
+		 * @throws NoSuchProviderException if the provider of the engine is not available
+		 */
+		E get() throws NoSuchAlgorithmException, NoSuchProviderException;
+	}
+
+	/**
+	 * Yields a thread-local that creates lazily an engine for each thread that uses it.
+	 * Engines are not thread-safe, hence they cannot be shared among the threads that
+	 * use the same algorithm. The supplier is expected to have been already used successfully
+	 * at construction time, in order to check that the engine is available.
+	 * 
+	 * @param <E> the type of the engines
+	 * @param supplier the supplier of the engines
+	 * @return the thread-local
+	 */
+	protected final <E> ThreadLocal<E> perThread(EngineSupplier<E> supplier) {
+		return ThreadLocal.withInitial(() -> {
+			try {
+				return supplier.get();
+			}
+			catch (NoSuchAlgorithmException | NoSuchProviderException e) {
+				// impossible, since the engine was already created successfully, unless the provider has been removed
+				throw new RuntimeException("Cannot create an engine for " + getName() + " since the provider is not available", e);
+			}
+		});
+	}
+
+	/**
+	 * Something that decodes public keys.
+	 */
+	protected interface PublicKeyDecoder {
+
+		/**
+		 * Decodes a public key.
+		 * 
+		 * @param encoding the encoding of the public key
+		 * @return the public key
+		 * @throws InvalidKeySpecException if {@code encoding} does not match the expected specification
+		 */
+		PublicKey decode(byte[] encoding) throws InvalidKeySpecException;
+	}
+
+	/**
+	 * Yields the public key with the given encoding, from the cache of the decoded public keys
+	 * if possible. Otherwise it decodes the public key and adds it to the cache. Subclasses
+	 * can use this method in their implementation of {@link #publicKeyFromEncoding(byte[])}.
+	 * 
+	 * @param encoding the encoding of the public key
+	 * @param decoder the decoder used if the public key is not in the cache
+	 * @return the public key
+	 * @throws InvalidKeySpecException if {@code encoding} does not match the expected specification
+	 */
+	protected final PublicKey publicKeyFromEncoding(byte[] encoding, PublicKeyDecoder decoder) throws InvalidKeySpecException {
+		return publicKeyCache.get(Objects.requireNonNull(encoding, "encoding cannot be null"), decoder);
+	}
+
+	@Override
+	public PublicKeyCache getPublicKeyCache() {
+		return publicKeyCache;
+	}
+
 	@Override
 	public KeyPair getKeyPair(byte[] entropy, BIP39Dictionary dictionary, String password) {
 		// we create a random object that we use only once and always provides the seed
@@ -147,24 +260,251 @@ public abstract class AbstractSignatureAlgorithmImpl implements SignatureAlgorit
 		    	String salt = String.format("mnemonic%s", password);
 		    	
 		    	// 2048 iterations of the key-stretching algorithm PBKDF2 using HMAC-SHA512
-		    	var gen = new PKCS5S2ParametersGenerator(new SHA512Digest());
-		    	gen.init(mnemonic.getBytes(StandardCharsets.UTF_8), salt.getBytes(StandardCharsets.UTF_8), 2048);
-
-		    	return ((KeyParameter) gen.generateDerivedParameters(512)).getKey();
+		    	return new PBKDF2HmacSHA512(mnemonic.getBytes(StandardCharsets.UTF_8)).derive(salt.getBytes(StandardCharsets.UTF_8), 2048, 512);
 		    }
 		};
 
-		return mkKeyPairGenerator(random).generateKeyPair();
+		return mkKeyPair(random);
     }
 
+	/**
+	 * Something that signs bytes with a private key.
+	 */
+	protected interface BytesSigner {
+
+		/**
+		 * Signs the given bytes.
+		 * 
+		 * @param bytes the bytes
+		 * @return the signature
+		 * @throws InvalidKeyException if the private key is invalid
+		 * @throws SignatureException if the bytes cannot be signed
+		 */
+		byte[] sign(byte[] bytes) throws InvalidKeyException, SignatureException;
+	}
+
+	/**
+	 * Something that verifies signatures with a public key.
+	 */
+	protected interface BytesVerifier {
+
+		/**
+		 * Verifies that the given signature is derived from the given bytes.
+		 * 
+		 * @param bytes the bytes
+		 * @param signature the signature
+		 * @return true if and only if the signature matches
+		 * @throws InvalidKeyException if the public key is invalid
+		 * @throws SignatureException if the signature cannot be verified
+		 */
+		boolean verify(byte[] bytes, byte[] signature) throws InvalidKeyException, SignatureException;
+	}
+
+	/**
+	 * Yields an object that signs bytes with the given private key. It is called once for each
+	 * signer returned by {@link #getSigner(PrivateKey, Function)}, hence subclasses can redefine it
+	 * in order to prepare the key once for all the signatures of that signer. The result must be
+	 * thread-safe, since signers can be used concurrently. This implementation calls
+	 * {@link #sign(byte[], PrivateKey)} for each signature.
+	 * 
+	 * @param key the private key
+	 * @return the signer of bytes
+	 */
+	protected BytesSigner signerFor(PrivateKey key) {
+		return bytes -> sign(bytes, key);
+	}
+
+	/**
+	 * Yields an object that verifies signatures with the given public key. It is called once for each
+	 * verifier returned by {@link #getVerifier(PublicKey, Function)}, hence subclasses can redefine it
+	 * in order to prepare the key once for all the verifications of that verifier. The result must be
+	 * thread-safe, since verifiers can be used concurrently. This implementation calls
+	 * {@link #verify(byte[], PublicKey, byte[])} for each verification.
+	 * 
+	 * @param key the public key
+	 * @return the verifier of bytes
+	 */
+	protected BytesVerifier verifierFor(PublicKey key) {
+		return (bytes, signature) -> verify(bytes, key, signature);
+	}
+
 	@Override
 	public final <T> Signer<T> getSigner(PrivateKey key, Function<? super T, byte[]> toBytes) {
-		return what -> sign(what, toBytes, key);
+		var signer = signerFor(key);
+		return what -> sign(what, toBytes, signer);
 	}
 
 	@Override
 	public final <T> Verifier<T> getVerifier(PublicKey key, Function<? super T, byte[]> toBytes) {
-		return (what, bytes) -> verify(what, toBytes, key, bytes);
+		var verifier = verifierFor(key);
+		return (what, bytes) -> verify(what, toBytes, verifier, bytes);
+	}
+
+	@Override
+	public final <T> Signer<T> getMarshallingSigner(PrivateKey key, Marshaller<? super T> marshaller) {
+		return what -> sign(what, marshaller, key);
+	}
+
+	@Override
+	public final <T> Verifier<T> getMarshallingVerifier(PublicKey key, Marshaller<? super T> marshaller) {
+		return (what, bytes) -> verify(what, marshaller, key, bytes);
+	}
+
+	@Override
+	public final <T> BitSet verifyAll(List<? extends T> values, Function<? super T, byte[]> toBytes, List<? extends PublicKey> keys, List<byte[]> signatures) {
+		Objects.requireNonNull(values, "values cannot be null");
+		Objects.requireNonNull(toBytes, "toBytes cannot be null");
+		Objects.requireNonNull(keys, "keys cannot be null");
+		Objects.requireNonNull(signatures, "signatures cannot be null");
+
+		int size = values.size();
+		if (keys.size() != size || signatures.size() != size)
+			throw new IllegalArgumentException("values, keys and signatures must have the same size");
+
+		var messages = new byte[size][];
+		int pos = 0;
+		for (var value: values) {
+			try {
+				messages[pos++] = toBytes.apply(value);
+			}
+			catch (RuntimeException e) {
+				// the signature of this value will be considered invalid
+			}
+		}
+
+		return verifyAll(messages, keys.toArray(PublicKey[]::new), signatures.toArray(byte[][]::new));
+	}
+
+	/**
+	 * Verifies a batch of signatures. This implementation verifies each signature
+	 * separately. Subclasses might provide better implementations. In any case,
+	 * a failure in the verification of a signature must not affect the others.
+	 * 
+	 * @param messages the messages whose signatures get verified; an element is {@code null}
+	 *                 if its value could not be transformed into bytes: its signature is invalid
+	 * @param keys the public keys, one for each message; an element is {@code null}
+	 *             if its signature is invalid
+	 * @param signatures the signatures, one for each message; an element is {@code null}
+	 *                   if it is invalid
+	 * @return the set of the positions of the valid signatures
+	 */
+	protected BitSet verifyAll(byte[][] messages, PublicKey[] keys, byte[][] signatures) {
+		var result = new BitSet(messages.length);
+
+		for (int pos = 0; pos < messages.length; pos++) {
+			if (messages[pos] == null || keys[pos] == null || signatures[pos] == null)
+				continue;
+
+			try {
+				if (verify(messages[pos], keys[pos], signatures[pos]))
+					result.set(pos);
+			}
+			catch (InvalidKeyException | SignatureException | RuntimeException e) {
+				// the signature is invalid
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Yields the signature of the given value, by using the given private key.
+	 * This implementation marshals the value into an array of bytes and signs it.
+	 * Subclasses might provide better implementations, that feed the bytes into
+	 * the signature algorithm while they get marshalled.
+	 * 
+	 * @param <T> the type of values that get signed
+	 * @param what the value to sign
+	 * @param marshaller the marshaller that writes the bytes of the value
+	 * @param privateKey the private key used for signing
+	 * @return the signature
+	 * @throws InvalidKeyException if the provided private key is invalid
+	 * @throws SignatureException if the value cannot be signed
+	 */
+	protected <T> byte[] sign(T what, Marshaller<? super T> marshaller, PrivateKey privateKey) throws InvalidKeyException, SignatureException {
+		return sign(marshal(what, marshaller), privateKey);
+	}
+
+	/**
+	 * Verifies that the given signature is derived from the given value, by using the given public key.
+	 * This implementation marshals the value into an array of bytes and verifies the signature of the latter.
+	 * Subclasses might provide better implementations, that feed the bytes into
+	 * the signature algorithm while they get marshalled.
+	 * 
+	 * @param <T> the type of values that get verified
+	 * @param what the value whose signature gets verified
+	 * @param marshaller the marshaller that writes the bytes of the value
+	 * @param publicKey the public key; its corresponding private key should have been used for signing
+	 * @param signature the signature to verify
+	 * @return true if and only if the signature matches
+	 * @throws InvalidKeyException if the provided public key is invalid
+	 * @throws SignatureException if the value cannot be verified
+	 */
+	protected <T> boolean verify(T what, Marshaller<? super T> marshaller, PublicKey publicKey, byte[] signature) throws InvalidKeyException, SignatureException {
+		return verify(marshal(what, marshaller), publicKey, signature);
+	}
+
+	private static <T> byte[] marshal(T what, Marshaller<? super T> marshaller) throws SignatureException {
+		var baos = new ByteArrayOutputStream();
+
+		try {
+			marshaller.marshal(what, baos);
+		}
+		catch (IOException e) {
+			throw new SignatureException("Cannot marshal the value", e);
+		}
+
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Feeds the bytes of the given value into the given signature engine, while they get marshalled.
+	 * 
+	 * @param <T> the type of the value
+	 * @param engine the signature engine, already initialized for signing or verification
+	 * @param what the value
+	 * @param marshaller the marshaller that writes the bytes of the value
+	 * @throws SignatureException if the value cannot be marshalled or fed into {@code engine}
+	 */
+	protected static <T> void update(Signature engine, T what, Marshaller<? super T> marshaller) throws SignatureException {
+		var out = new OutputStream() {
+
+			@Override
+			public void write(int b) throws IOException {
+				try {
+					engine.update((byte) b);
+				}
+				catch (SignatureException e) {
+					throw new IOException(e);
+				}
+			}
+
+			@Override
+			public void write(byte[] bytes, int offset, int length) throws IOException {
+				try {
+					engine.update(bytes, offset, length);
+				}
+				catch (SignatureException e) {
+					throw new IOException(e);
+				}
+			}
+		};
+
+		try {
+			marshaller.marshal(what, out);
+		}
+		catch (IOException e) {
+			throw new SignatureException("Cannot marshal the value", e);
+		}
+	}
+
+	@Override
+	public Stream<KeyPair> streamOfKeyPairs(int count) {
+		if (count < 0)
+			throw new IllegalArgumentException("count cannot be negative");
+
+		// getKeyPair() uses a distinct generator, with its own source of randomness, in each thread
+		return IntStream.range(0, count).parallel().mapToObj(i -> getKeyPair());
 	}
 
 	@Override
@@ -203,55 +543,29 @@ public abstract class AbstractSignatureAlgorithmImpl implements SignatureAlgorit
 	}
 
 	/**
-	 * Yields the signature algorithm with the given name.
-	 * It looks for a factory method with the given name and invokes it.
-	 * 
-	 * @param name the name of the algorithm, case-insensitive
-	 * @return the algorithm
-	 * @throws NoSuchAlgorithmException if the installation does not include the given algorithm
-	 */
-	public static SignatureAlgorithm of(String name) throws NoSuchAlgorithmException {
-		name = name.toLowerCase();
-
-		try {
-			Method method = SignatureAlgorithms.class.getMethod(name);
-			return (SignatureAlgorithm) method.invoke(null);
-		}
-		catch (InvocationTargetException | NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException e) {
-			throw new NoSuchAlgorithmException("Unknown signature algorithm " + name +
-				" (alternatives are " + available().map(SignatureAlgorithm::toString).collect(Collectors.joining(", ")) + ")", e);
-		}
-	}
-
-	/**
-	 * Yields the signature available algorithms.
-	 * 
-	 * @return the available signature algorithms
+	 * The registry of the signature algorithms, created lazily, at the first lookup.
 	 */
-	private static Stream<SignatureAlgorithm> available() {
-		return Stream.of(SignatureAlgorithms.class.getDeclaredMethods())
-			.filter(method -> Modifier.isPublic(method.getModifiers()))
-			.filter(method -> Modifier.isStatic(method.getModifiers()))
-			.filter(method -> method.getParameterCount() == 0)
-			.filter(method -> method.getReturnType() == SignatureAlgorithm.class)
-			.map(AbstractSignatureAlgorithmImpl::tryCreation)
-			.flatMap(Optional::stream);
+	private static class Registry {
+		private final static AlgorithmRegistry<SignatureAlgorithm> INSTANCE = new AlgorithmRegistry<>("signature", Map.ofEntries(
+			Map.entry("sha256dsa", SignatureAlgorithms::sha256dsa),
+			Map.entry("ed25519", SignatureAlgorithms::ed25519),
+			Map.entry("ed25519cofactored", SignatureAlgorithms::ed25519cofactored),
+			Map.entry("ed25519det", SignatureAlgorithms::ed25519det),
+			Map.entry("qtesla1", SignatureAlgorithms::qtesla1),
+			Map.entry("qtesla3", SignatureAlgorithms::qtesla3),
+			Map.entry("empty", SignatureAlgorithms::empty)
+		), SignatureAlgorithmProvider.class, SignatureAlgorithmProvider::getName, provider -> provider::get);
 	}
 
 	/**
-	 * Tries to create a signature algorithm by using the given supplier method.
-	 * It yields an empty optional if the creation fails.
+	 * Yields the signature algorithm with the given name. It looks for the name among
+	 * the built-in algorithms and those of the installed providers.
 	 * 
-	 * @param supplier the supplier method
-	 * @return the signature algorithm, if any
+	 * @param name the name of the algorithm, case-insensitive
+	 * @return the algorithm
+	 * @throws NoSuchAlgorithmException if the installation does not include the given algorithm
 	 */
-	private static Optional<SignatureAlgorithm> tryCreation(Method supplier) {
-		try {
-			return Optional.of((SignatureAlgorithm) supplier.invoke(null));
-		}
-		catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-			LOGGER.warning("discarding signature algorithm " + supplier.getName() + " since it could not be created: " + e.getMessage());
-			return Optional.empty();
-		}
+	public static SignatureAlgorithm of(String name) throws NoSuchAlgorithmException {
+		return Registry.INSTANCE.get(name);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * An immutable map from the names of some algorithms to their factories. It is
+ * computed only once, from the built-in algorithms and from the providers
+ * found through the {@link ServiceLoader} mechanism. Lookups do not use
+ * reflection and do not allocate, if the name is already lower case.
+ *
+ * @param <A> the type of the algorithms
+ */
+public final class AlgorithmRegistry<A> {
+
+	/**
+	 * A factory of an algorithm.
+	 *
+	 * @param <A> the type of the algorithm
+	 */
+	public interface Factory<A> {
+
+		/**
+		 * Yields the algorithm.
+		 * 
+		 * @return the algorithm
+		 * @throws NoSuchAlgorithmException if the installation does not include the algorithm
+		 */
+		A get() throws NoSuchAlgorithmException;
+	}
+
+	private final static Logger LOGGER = Logger.getLogger(AlgorithmRegistry.class.getName());
+
+	/**
+	 * The kind of algorithms in this registry, used in the error messages.
+	 */
+	private final String kind;
+
+	/**
+	 * The factories of the algorithms, by name.
+	 */
+	private final Map<String, Factory<A>> factories;
+
+	/**
+	 * The names of the algorithms, in alphabetical order, separated by commas.
+	 */
+	private final String alternatives;
+
+	/**
+	 * Creates the registry.
+	 *
+	 * @param <P> the type of the providers of the algorithms
+	 * @param kind the kind of algorithms in the registry, used in the error messages
+	 * @param builtIns the factories of the built-in algorithms, by lower case name
+	 * @param providerClass the class of the providers of further algorithms
+	 * @param nameOf the function that yields the name of the algorithm of a provider
+	 * @param factoryOf the function that yields the factory of the algorithm of a provider
+	 */
+	public <P> AlgorithmRegistry(String kind, Map<String, Factory<A>> builtIns, Class<P> providerClass, Function<P, String> nameOf, Function<P, Factory<A>> factoryOf) {
+		this.kind = kind;
+
+		var factories = new HashMap<>(builtIns);
+
+		try {
+			for (var provider: ServiceLoader.load(providerClass)) {
+				String name = nameOf.apply(provider).toLowerCase(Locale.ROOT);
+				if (factories.putIfAbsent(name, factoryOf.apply(provider)) != null)
+					LOGGER.warning("discarding " + kind + " algorithm " + name + " from " + provider.getClass().getName() + " since an algorithm with the same name already exists");
+			}
+		}
+		catch (ServiceConfigurationError e) {
+			LOGGER.warning("cannot load the providers of " + kind + " algorithms: " + e.getMessage());
+		}
+
+		this.factories = Map.copyOf(factories);
+		this.alternatives = String.join(", ", new TreeSet<>(factories.keySet()));
+	}
+
+	/**
+	 * Yields the algorithm with the given name.
+	 * 
+	 * @param name the name of the algorithm, case-insensitive
+	 * @return the algorithm
+	 * @throws NoSuchAlgorithmException if the installation does not include the given algorithm
+	 */
+	public A get(String name) throws NoSuchAlgorithmException {
+		Objects.requireNonNull(name, "name cannot be null");
+
+		// names are usually lower case already: we avoid the allocation of a lower case copy in that case
+		var factory = factories.get(name);
+		if (factory == null) {
+			name = name.toLowerCase(Locale.ROOT);
+			factory = factories.get(name);
+		}
+
+		if (factory == null)
+			throw new NoSuchAlgorithmException("Unknown " + kind + " algorithm " + name + " (alternatives are " + alternatives + ")");
+
+		return factory.get();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.MessageDigest;
+
+import org.bouncycastle.crypto.digests.Blake2sDigest;
+
+/**
+ * The BLAKE2s hashing algorithm, with 32 bytes of output. It is optimized
+ * for 32-bit platforms. It can be keyed, with keys of at most 32 bytes,
+ * and personalized, with 8 bytes.
+ */
+public class BLAKE2S256 extends AbstractBLAKE2 {
+
+	/**
+	 * Creates the algorithm, not keyed nor personalized.
+	 */
+	public BLAKE2S256() {
+		this(null, null);
+	}
+
+	/**
+	 * Creates the algorithm.
+	 * 
+	 * @param key the key of the algorithm, of at most 32 bytes; this is {@code null}
+	 *            or empty if the algorithm is not keyed
+	 * @param personalization the personalization of the algorithm, of 8 bytes; this is
+	 *                        {@code null} if the algorithm is not personalized
+	 */
+	public BLAKE2S256(byte[] key, byte[] personalization) {
+		super("blake2s256", key, personalization, 32, 8);
+	}
+
+	@Override
+	protected MessageDigest mkDigest() {
+		return new LightweightMessageDigest(new Blake2sDigest(key, 32, null, personalization), digest -> new Blake2sDigest((Blake2sDigest) digest));
+	}
+
+	@Override
+	public BLAKE2S256 clone() {
+		return new BLAKE2S256(key, personalization);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,584 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.RecursiveAction;
+
+import io.hotmoka.crypto.AbstractHashingAlgorithm;
+import io.hotmoka.crypto.api.IncrementalHasher;
+
+/**
+ * The BLAKE3 hashing algorithm, with 32 bytes of output. The input is split into
+ * chunks of 1024 bytes, that are the leaves of a binary tree of compressions.
+ * Large inputs are hashed in tree mode: the subtrees are hashed in parallel,
+ * in a fork/join pool.
+ */
+public class BLAKE3 extends AbstractHashingAlgorithm {
+
+	private final static int[] IV = {
+		0x6A09E667, 0xBB67AE85, 0x3C6EF372, 0xA54FF53A, 0x510E527F, 0x9B05688C, 0x1F83D9AB, 0x5BE0CD19
+	};
+
+	private final static int BLOCK_LEN = 64;
+	private final static int CHUNK_LEN = 1024;
+	private final static int CHUNK_START = 1;
+	private final static int CHUNK_END = 2;
+	private final static int PARENT = 4;
+	private final static int ROOT = 8;
+
+	/**
+	 * The minimal size of a subtree that gets hashed in a separate task, in tree mode.
+	 */
+	private final static int MIN_PARALLEL_SUBTREE = 64 * CHUNK_LEN;
+
+	public BLAKE3() {}
+
+	@Override
+	public int length() {
+		return 32;
+	}
+
+	@Override
+	public String getName() {
+		return "blake3"; // optimization
+	}
+
+	@Override
+	protected byte[] hash(byte[] bytes) {
+		return hash(bytes, 0, bytes.length);
+	}
+
+	@Override
+	protected byte[] hash(byte[] bytes, int start, int length) {
+		var result = new byte[32];
+		hashInto(bytes, start, length, result, 0);
+		return result;
+	}
+
+	@Override
+	protected void hashInto(byte[] bytes, int start, int length, byte[] out, int offset) {
+		var cv = new int[8];
+		var m = new int[16];
+
+		if (length <= CHUNK_LEN)
+			chunk(bytes, start, length, 0L, ROOT, cv, m);
+		else {
+			// the root is the parent of two subtrees, hashed in parallel if they are large
+			var left = new int[8];
+			var right = new int[8];
+			int leftLength = leftLength(length);
+			if (length >= 2 * MIN_PARALLEL_SUBTREE)
+				RecursiveAction.invokeAll(new SubtreeTask(bytes, start, leftLength, 0L, left),
+					new SubtreeTask(bytes, start + leftLength, length - leftLength, leftLength / CHUNK_LEN, right));
+			else {
+				subtree(bytes, start, leftLength, 0L, left, m);
+				subtree(bytes, start + leftLength, length - leftLength, leftLength / CHUNK_LEN, right, m);
+			}
+
+			parent(left, right, ROOT, cv, m);
+		}
+
+		intsToBytes(cv, out, offset);
+	}
+
+	@Override
+	public IncrementalHasher getIncrementalHasher() {
+		return new BLAKE3IncrementalHasher();
+	}
+
+	/**
+	 * Yields the length of the left subtree of a tree for the given number of bytes,
+	 * larger than a chunk: the left subtree contains the largest power of two of chunks
+	 * that leaves at least a byte to the right subtree.
+	 * 
+	 * @param length the number of bytes
+	 * @return the number of bytes in the left subtree
+	 */
+	private static int leftLength(int length) {
+		int fullChunks = (length - 1) / CHUNK_LEN;
+		return Integer.highestOneBit(fullChunks) * CHUNK_LEN;
+	}
+
+	/**
+	 * Computes the chaining value of the subtree for the given bytes.
+	 * 
+	 * @param bytes the bytes
+	 * @param start the position of the first byte of the subtree
+	 * @param length the number of bytes of the subtree
+	 * @param counter the index of the first chunk of the subtree
+	 * @param cv the array where the chaining value gets written
+	 * @param m the array used for the words of the blocks
+	 */
+	private static void subtree(byte[] bytes, int start, int length, long counter, int[] cv, int[] m) {
+		if (length <= CHUNK_LEN)
+			chunk(bytes, start, length, counter, 0, cv, m);
+		else {
+			var left = new int[8];
+			var right = new int[8];
+			int leftLength = leftLength(length);
+			subtree(bytes, start, leftLength, counter, left, m);
+			subtree(bytes, start + leftLength, length - leftLength, counter + leftLength / CHUNK_LEN, right, m);
+			parent(left, right, 0, cv, m);
+		}
+	}
+
+	/**
+	 * A task that computes the chaining value of a subtree, splitting it if it is large.
+	 */
+	private static class SubtreeTask extends RecursiveAction {
+		private final static long serialVersionUID = 1L;
+		private final byte[] bytes;
+		private final int start;
+		private final int length;
+		private final long counter;
+		private final int[] cv;
+
+		private SubtreeTask(byte[] bytes, int start, int length, long counter, int[] cv) {
+			this.bytes = bytes;
+			this.start = start;
+			this.length = length;
+			this.counter = counter;
+			this.cv = cv;
+		}
+
+		@Override
+		protected void compute() {
+			if (length < 2 * MIN_PARALLEL_SUBTREE)
+				subtree(bytes, start, length, counter, cv, new int[16]);
+			else {
+				var left = new int[8];
+				var right = new int[8];
+				int leftLength = leftLength(length);
+				invokeAll(new SubtreeTask(bytes, start, leftLength, counter, left),
+					new SubtreeTask(bytes, start + leftLength, length - leftLength, counter + leftLength / CHUNK_LEN, right));
+				parent(left, right, 0, cv, new int[16]);
+			}
+		}
+	}
+
+	/**
+	 * Computes the chaining value of a chunk.
+	 * 
+	 * @param bytes the bytes
+	 * @param start the position of the first byte of the chunk
+	 * @param length the number of bytes of the chunk, at most {@link #CHUNK_LEN}
+	 * @param counter the index of the chunk
+	 * @param flags the extra flags of the last block of the chunk
+	 * @param cv the array where the chaining value gets written
+	 * @param m the array used for the words of the blocks
+	 */
+	private static void chunk(byte[] bytes, int start, int length, long counter, int flags, int[] cv, int[] m) {
+		System.arraycopy(IV, 0, cv, 0, 8);
+
+		int blockFlags = CHUNK_START;
+		for (; length > BLOCK_LEN; start += BLOCK_LEN, length -= BLOCK_LEN) {
+			bytesToInts(bytes, start, BLOCK_LEN, m);
+			compress(cv, m, counter, BLOCK_LEN, blockFlags, cv);
+			blockFlags = 0;
+		}
+
+		bytesToInts(bytes, start, length, m);
+		compress(cv, m, counter, length, blockFlags | CHUNK_END | flags, cv);
+	}
+
+	/**
+	 * Computes the chaining value of a parent node.
+	 * 
+	 * @param left the chaining value of the left child
+	 * @param right the chaining value of the right child
+	 * @param flags the extra flags of the node
+	 * @param cv the array where the chaining value gets written
+	 * @param m the array used for the words of the block
+	 */
+	private static void parent(int[] left, int[] right, int flags, int[] cv, int[] m) {
+		System.arraycopy(left, 0, m, 0, 8);
+		System.arraycopy(right, 0, m, 8, 8);
+		compress(IV, m, 0L, BLOCK_LEN, PARENT | flags, cv);
+	}
+
+	/**
+	 * Decodes a block of at most 64 bytes into little-endian words, padding it with zeros.
+	 * 
+	 * @param bytes the bytes
+	 * @param start the position of the first byte of the block
+	 * @param length the number of bytes of the block
+	 * @param m the array where the words get written
+	 */
+	private static void bytesToInts(byte[] bytes, int start, int length, int[] m) {
+		if (length == BLOCK_LEN)
+			for (int i = 0; i < 16; i++, start += 4)
+				m[i] = (bytes[start] & 0xFF) | ((bytes[start + 1] & 0xFF) << 8) | ((bytes[start + 2] & 0xFF) << 16) | ((bytes[start + 3] & 0xFF) << 24);
+		else {
+			Arrays.fill(m, 0);
+			for (int i = 0; i < length; i++)
+				m[i >> 2] |= (bytes[start + i] & 0xFF) << ((i & 3) << 3);
+		}
+	}
+
+	/**
+	 * Encodes a chaining value into 32 little-endian bytes.
+	 * 
+	 * @param words the chaining value
+	 * @param out the array where the bytes get written
+	 * @param offset the position inside {@code out} where the bytes get written
+	 */
+	private static void intsToBytes(int[] words, byte[] out, int offset) {
+		for (int i = 0; i < 8; i++) {
+			int w = words[i];
+			out[offset++] = (byte) w;
+			out[offset++] = (byte) (w >>> 8);
+			out[offset++] = (byte) (w >>> 16);
+			out[offset++] = (byte) (w >>> 24);
+		}
+	}
+
+	/**
+	 * The compression function of BLAKE3, truncated to its first 8 words.
+	 * 
+	 * @param cv the input chaining value
+	 * @param m the words of the block
+	 * @param counter the counter of the block
+	 * @param blockLen the number of bytes in the block
+	 * @param flags the flags of the block
+	 * @param out the array where the output chaining value gets written; this can be {@code cv} itself
+	 */
+	private static void compress(int[] cv, int[] m, long counter, int blockLen, int flags, int[] out) {
+		int m0 = m[0], m1 = m[1], m2 = m[2], m3 = m[3], m4 = m[4], m5 = m[5], m6 = m[6], m7 = m[7];
+		int m8 = m[8], m9 = m[9], m10 = m[10], m11 = m[11], m12 = m[12], m13 = m[13], m14 = m[14], m15 = m[15];
+
+		int s0 = cv[0], s1 = cv[1], s2 = cv[2], s3 = cv[3], s4 = cv[4], s5 = cv[5], s6 = cv[6], s7 = cv[7];
+		int s8 = IV[0], s9 = IV[1], s10 = IV[2], s11 = IV[3];
+		int s12 = (int) counter, s13 = (int) (counter >>> 32), s14 = blockLen, s15 = flags;
+
+		// the message words are permuted at each round: this is done by using them in a different order
+		// round 1
+		s0 += s4 + m0; s12 = Integer.rotateRight(s12 ^ s0, 16); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 12);
+		s0 += s4 + m1; s12 = Integer.rotateRight(s12 ^ s0, 8); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 7);
+		s1 += s5 + m2; s13 = Integer.rotateRight(s13 ^ s1, 16); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 12);
+		s1 += s5 + m3; s13 = Integer.rotateRight(s13 ^ s1, 8); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 7);
+		s2 += s6 + m4; s14 = Integer.rotateRight(s14 ^ s2, 16); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 12);
+		s2 += s6 + m5; s14 = Integer.rotateRight(s14 ^ s2, 8); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 7);
+		s3 += s7 + m6; s15 = Integer.rotateRight(s15 ^ s3, 16); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 12);
+		s3 += s7 + m7; s15 = Integer.rotateRight(s15 ^ s3, 8); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 7);
+		s0 += s5 + m8; s15 = Integer.rotateRight(s15 ^ s0, 16); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 12);
+		s0 += s5 + m9; s15 = Integer.rotateRight(s15 ^ s0, 8); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 7);
+		s1 += s6 + m10; s12 = Integer.rotateRight(s12 ^ s1, 16); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 12);
+		s1 += s6 + m11; s12 = Integer.rotateRight(s12 ^ s1, 8); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 7);
+		s2 += s7 + m12; s13 = Integer.rotateRight(s13 ^ s2, 16); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 12);
+		s2 += s7 + m13; s13 = Integer.rotateRight(s13 ^ s2, 8); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 7);
+		s3 += s4 + m14; s14 = Integer.rotateRight(s14 ^ s3, 16); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 12);
+		s3 += s4 + m15; s14 = Integer.rotateRight(s14 ^ s3, 8); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 7);
+
+		// round 2
+		s0 += s4 + m2; s12 = Integer.rotateRight(s12 ^ s0, 16); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 12);
+		s0 += s4 + m6; s12 = Integer.rotateRight(s12 ^ s0, 8); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 7);
+		s1 += s5 + m3; s13 = Integer.rotateRight(s13 ^ s1, 16); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 12);
+		s1 += s5 + m10; s13 = Integer.rotateRight(s13 ^ s1, 8); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 7);
+		s2 += s6 + m7; s14 = Integer.rotateRight(s14 ^ s2, 16); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 12);
+		s2 += s6 + m0; s14 = Integer.rotateRight(s14 ^ s2, 8); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 7);
+		s3 += s7 + m4; s15 = Integer.rotateRight(s15 ^ s3, 16); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 12);
+		s3 += s7 + m13; s15 = Integer.rotateRight(s15 ^ s3, 8); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 7);
+		s0 += s5 + m1; s15 = Integer.rotateRight(s15 ^ s0, 16); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 12);
+		s0 += s5 + m11; s15 = Integer.rotateRight(s15 ^ s0, 8); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 7);
+		s1 += s6 + m12; s12 = Integer.rotateRight(s12 ^ s1, 16); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 12);
+		s1 += s6 + m5; s12 = Integer.rotateRight(s12 ^ s1, 8); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 7);
+		s2 += s7 + m9; s13 = Integer.rotateRight(s13 ^ s2, 16); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 12);
+		s2 += s7 + m14; s13 = Integer.rotateRight(s13 ^ s2, 8); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 7);
+		s3 += s4 + m15; s14 = Integer.rotateRight(s14 ^ s3, 16); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 12);
+		s3 += s4 + m8; s14 = Integer.rotateRight(s14 ^ s3, 8); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 7);
+
+		// round 3
+		s0 += s4 + m3; s12 = Integer.rotateRight(s12 ^ s0, 16); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 12);
+		s0 += s4 + m4; s12 = Integer.rotateRight(s12 ^ s0, 8); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 7);
+		s1 += s5 + m10; s13 = Integer.rotateRight(s13 ^ s1, 16); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 12);
+		s1 += s5 + m12; s13 = Integer.rotateRight(s13 ^ s1, 8); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 7);
+		s2 += s6 + m13; s14 = Integer.rotateRight(s14 ^ s2, 16); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 12);
+		s2 += s6 + m2; s14 = Integer.rotateRight(s14 ^ s2, 8); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 7);
+		s3 += s7 + m7; s15 = Integer.rotateRight(s15 ^ s3, 16); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 12);
+		s3 += s7 + m14; s15 = Integer.rotateRight(s15 ^ s3, 8); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 7);
+		s0 += s5 + m6; s15 = Integer.rotateRight(s15 ^ s0, 16); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 12);
+		s0 += s5 + m5; s15 = Integer.rotateRight(s15 ^ s0, 8); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 7);
+		s1 += s6 + m9; s12 = Integer.rotateRight(s12 ^ s1, 16); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 12);
+		s1 += s6 + m0; s12 = Integer.rotateRight(s12 ^ s1, 8); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 7);
+		s2 += s7 + m11; s13 = Integer.rotateRight(s13 ^ s2, 16); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 12);
+		s2 += s7 + m15; s13 = Integer.rotateRight(s13 ^ s2, 8); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 7);
+		s3 += s4 + m8; s14 = Integer.rotateRight(s14 ^ s3, 16); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 12);
+		s3 += s4 + m1; s14 = Integer.rotateRight(s14 ^ s3, 8); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 7);
+
+		// round 4
+		s0 += s4 + m10; s12 = Integer.rotateRight(s12 ^ s0, 16); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 12);
+		s0 += s4 + m7; s12 = Integer.rotateRight(s12 ^ s0, 8); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 7);
+		s1 += s5 + m12; s13 = Integer.rotateRight(s13 ^ s1, 16); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 12);
+		s1 += s5 + m9; s13 = Integer.rotateRight(s13 ^ s1, 8); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 7);
+		s2 += s6 + m14; s14 = Integer.rotateRight(s14 ^ s2, 16); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 12);
+		s2 += s6 + m3; s14 = Integer.rotateRight(s14 ^ s2, 8); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 7);
+		s3 += s7 + m13; s15 = Integer.rotateRight(s15 ^ s3, 16); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 12);
+		s3 += s7 + m15; s15 = Integer.rotateRight(s15 ^ s3, 8); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 7);
+		s0 += s5 + m4; s15 = Integer.rotateRight(s15 ^ s0, 16); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 12);
+		s0 += s5 + m0; s15 = Integer.rotateRight(s15 ^ s0, 8); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 7);
+		s1 += s6 + m11; s12 = Integer.rotateRight(s12 ^ s1, 16); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 12);
+		s1 += s6 + m2; s12 = Integer.rotateRight(s12 ^ s1, 8); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 7);
+		s2 += s7 + m5; s13 = Integer.rotateRight(s13 ^ s2, 16); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 12);
+		s2 += s7 + m8; s13 = Integer.rotateRight(s13 ^ s2, 8); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 7);
+		s3 += s4 + m1; s14 = Integer.rotateRight(s14 ^ s3, 16); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 12);
+		s3 += s4 + m6; s14 = Integer.rotateRight(s14 ^ s3, 8); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 7);
+
+		// round 5
+		s0 += s4 + m12; s12 = Integer.rotateRight(s12 ^ s0, 16); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 12);
+		s0 += s4 + m13; s12 = Integer.rotateRight(s12 ^ s0, 8); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 7);
+		s1 += s5 + m9; s13 = Integer.rotateRight(s13 ^ s1, 16); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 12);
+		s1 += s5 + m11; s13 = Integer.rotateRight(s13 ^ s1, 8); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 7);
+		s2 += s6 + m15; s14 = Integer.rotateRight(s14 ^ s2, 16); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 12);
+		s2 += s6 + m10; s14 = Integer.rotateRight(s14 ^ s2, 8); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 7);
+		s3 += s7 + m14; s15 = Integer.rotateRight(s15 ^ s3, 16); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 12);
+		s3 += s7 + m8; s15 = Integer.rotateRight(s15 ^ s3, 8); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 7);
+		s0 += s5 + m7; s15 = Integer.rotateRight(s15 ^ s0, 16); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 12);
+		s0 += s5 + m2; s15 = Integer.rotateRight(s15 ^ s0, 8); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 7);
+		s1 += s6 + m5; s12 = Integer.rotateRight(s12 ^ s1, 16); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 12);
+		s1 += s6 + m3; s12 = Integer.rotateRight(s12 ^ s1, 8); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 7);
+		s2 += s7 + m0; s13 = Integer.rotateRight(s13 ^ s2, 16); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 12);
+		s2 += s7 + m1; s13 = Integer.rotateRight(s13 ^ s2, 8); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 7);
+		s3 += s4 + m6; s14 = Integer.rotateRight(s14 ^ s3, 16); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 12);
+		s3 += s4 + m4; s14 = Integer.rotateRight(s14 ^ s3, 8); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 7);
+
+		// round 6
+		s0 += s4 + m9; s12 = Integer.rotateRight(s12 ^ s0, 16); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 12);
+		s0 += s4 + m14; s12 = Integer.rotateRight(s12 ^ s0, 8); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 7);
+		s1 += s5 + m11; s13 = Integer.rotateRight(s13 ^ s1, 16); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 12);
+		s1 += s5 + m5; s13 = Integer.rotateRight(s13 ^ s1, 8); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 7);
+		s2 += s6 + m8; s14 = Integer.rotateRight(s14 ^ s2, 16); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 12);
+		s2 += s6 + m12; s14 = Integer.rotateRight(s14 ^ s2, 8); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 7);
+		s3 += s7 + m15; s15 = Integer.rotateRight(s15 ^ s3, 16); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 12);
+		s3 += s7 + m1; s15 = Integer.rotateRight(s15 ^ s3, 8); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 7);
+		s0 += s5 + m13; s15 = Integer.rotateRight(s15 ^ s0, 16); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 12);
+		s0 += s5 + m3; s15 = Integer.rotateRight(s15 ^ s0, 8); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 7);
+		s1 += s6 + m0; s12 = Integer.rotateRight(s12 ^ s1, 16); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 12);
+		s1 += s6 + m10; s12 = Integer.rotateRight(s12 ^ s1, 8); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 7);
+		s2 += s7 + m2; s13 = Integer.rotateRight(s13 ^ s2, 16); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 12);
+		s2 += s7 + m6; s13 = Integer.rotateRight(s13 ^ s2, 8); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 7);
+		s3 += s4 + m4; s14 = Integer.rotateRight(s14 ^ s3, 16); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 12);
+		s3 += s4 + m7; s14 = Integer.rotateRight(s14 ^ s3, 8); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 7);
+
+		// round 7
+		s0 += s4 + m11; s12 = Integer.rotateRight(s12 ^ s0, 16); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 12);
+		s0 += s4 + m15; s12 = Integer.rotateRight(s12 ^ s0, 8); s8 += s12; s4 = Integer.rotateRight(s4 ^ s8, 7);
+		s1 += s5 + m5; s13 = Integer.rotateRight(s13 ^ s1, 16); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 12);
+		s1 += s5 + m0; s13 = Integer.rotateRight(s13 ^ s1, 8); s9 += s13; s5 = Integer.rotateRight(s5 ^ s9, 7);
+		s2 += s6 + m1; s14 = Integer.rotateRight(s14 ^ s2, 16); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 12);
+		s2 += s6 + m9; s14 = Integer.rotateRight(s14 ^ s2, 8); s10 += s14; s6 = Integer.rotateRight(s6 ^ s10, 7);
+		s3 += s7 + m8; s15 = Integer.rotateRight(s15 ^ s3, 16); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 12);
+		s3 += s7 + m6; s15 = Integer.rotateRight(s15 ^ s3, 8); s11 += s15; s7 = Integer.rotateRight(s7 ^ s11, 7);
+		s0 += s5 + m14; s15 = Integer.rotateRight(s15 ^ s0, 16); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 12);
+		s0 += s5 + m10; s15 = Integer.rotateRight(s15 ^ s0, 8); s10 += s15; s5 = Integer.rotateRight(s5 ^ s10, 7);
+		s1 += s6 + m2; s12 = Integer.rotateRight(s12 ^ s1, 16); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 12);
+		s1 += s6 + m12; s12 = Integer.rotateRight(s12 ^ s1, 8); s11 += s12; s6 = Integer.rotateRight(s6 ^ s11, 7);
+		s2 += s7 + m3; s13 = Integer.rotateRight(s13 ^ s2, 16); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 12);
+		s2 += s7 + m4; s13 = Integer.rotateRight(s13 ^ s2, 8); s8 += s13; s7 = Integer.rotateRight(s7 ^ s8, 7);
+		s3 += s4 + m7; s14 = Integer.rotateRight(s14 ^ s3, 16); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 12);
+		s3 += s4 + m13; s14 = Integer.rotateRight(s14 ^ s3, 8); s9 += s14; s4 = Integer.rotateRight(s4 ^ s9, 7);
+
+		out[0] = s0 ^ s8;
+		out[1] = s1 ^ s9;
+		out[2] = s2 ^ s10;
+		out[3] = s3 ^ s11;
+		out[4] = s4 ^ s12;
+		out[5] = s5 ^ s13;
+		out[6] = s6 ^ s14;
+		out[7] = s7 ^ s15;
+	}
+
+	/**
+	 * An incremental hasher for BLAKE3. It keeps the state of the current chunk and
+	 * a stack of the chaining values of the complete subtrees on its left.
+	 * Blocks and chunks are compressed only when more bytes arrive, since the last
+	 * ones must be compressed with special flags.
+	 */
+	private static class BLAKE3IncrementalHasher implements IncrementalHasher {
+
+		/**
+		 * The chaining value of the current chunk.
+		 */
+		private final int[] cv = new int[8];
+
+		/**
+		 * The last, not yet compressed block of the current chunk.
+		 */
+		private final byte[] block = new byte[BLOCK_LEN];
+
+		/**
+		 * The number of bytes in {@link #block}.
+		 */
+		private int blockLength;
+
+		/**
+		 * The number of blocks of the current chunk already compressed.
+		 */
+		private int blocksCompressed;
+
+		/**
+		 * The index of the current chunk.
+		 */
+		private long chunkCounter;
+
+		/**
+		 * The chaining values of the complete subtrees on the left of the current chunk.
+		 * There are at most 54 of them, since the input is shorter than 2^64 bytes.
+		 */
+		private final int[][] stack = new int[54][8];
+
+		/**
+		 * The number of elements in {@link #stack}.
+		 */
+		private int stackSize;
+
+		/**
+		 * The words of the block being compressed.
+		 */
+		private final int[] m = new int[16];
+
+		/**
+		 * A buffer for the update of a single byte.
+		 */
+		private final byte[] single = new byte[1];
+
+		private BLAKE3IncrementalHasher() {
+			reset();
+		}
+
+		@Override
+		public void update(byte b) {
+			single[0] = b;
+			update(single, 0, 1);
+		}
+
+		@Override
+		public void update(byte[] bytes) {
+			update(bytes, 0, bytes.length);
+		}
+
+		@Override
+		public void update(byte[] bytes, int start, int length) {
+			Objects.checkFromIndexSize(start, length, bytes.length);
+
+			while (length > 0) {
+				if (blocksCompressed * BLOCK_LEN + blockLength == CHUNK_LEN)
+					endChunk();
+
+				if (blockLength == BLOCK_LEN) {
+					compressBlock(block, 0);
+					blockLength = 0;
+				}
+
+				// full blocks are compressed directly from the input, if more bytes follow them in the chunk
+				if (blockLength == 0)
+					while (length > BLOCK_LEN && blocksCompressed < CHUNK_LEN / BLOCK_LEN - 1) {
+						compressBlock(bytes, start);
+						start += BLOCK_LEN;
+						length -= BLOCK_LEN;
+					}
+
+				int taken = Math.min(BLOCK_LEN - blockLength, length);
+				System.arraycopy(bytes, start, block, blockLength, taken);
+				blockLength += taken;
+				start += taken;
+				length -= taken;
+			}
+		}
+
+		@Override
+		public void update(ByteBuffer buffer) {
+			if (buffer.hasArray()) {
+				update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+				buffer.position(buffer.limit());
+			}
+			else {
+				var piece = new byte[Math.min(buffer.remaining(), CHUNK_LEN)];
+				while (buffer.hasRemaining()) {
+					int length = Math.min(buffer.remaining(), piece.length);
+					buffer.get(piece, 0, length);
+					update(piece, 0, length);
+				}
+			}
+		}
+
+		private void compressBlock(byte[] bytes, int start) {
+			bytesToInts(bytes, start, BLOCK_LEN, m);
+			compress(cv, m, chunkCounter, BLOCK_LEN, blocksCompressed == 0 ? CHUNK_START : 0, cv);
+			blocksCompressed++;
+		}
+
+		/**
+		 * Completes the current chunk, that is full, and merges its chaining
+		 * value with those of the complete subtrees on its left.
+		 */
+		private void endChunk() {
+			bytesToInts(block, 0, blockLength, m);
+			compress(cv, m, chunkCounter, blockLength, (blocksCompressed == 0 ? CHUNK_START : 0) | CHUNK_END, cv);
+
+			// a subtree is complete for each trailing zero in the number of chunks so far
+			for (long chunks = chunkCounter + 1; (chunks & 1) == 0; chunks >>= 1)
+				parent(stack[--stackSize], cv, 0, cv, m);
+
+			System.arraycopy(cv, 0, stack[stackSize++], 0, 8);
+			chunkCounter++;
+			System.arraycopy(IV, 0, cv, 0, 8);
+			blocksCompressed = 0;
+			blockLength = 0;
+		}
+
+		@Override
+		public byte[] finish() {
+			var result = new byte[32];
+			finishInto(result, 0);
+			return result;
+		}
+
+		@Override
+		public void finishInto(byte[] out, int offset) {
+			Objects.checkFromIndexSize(offset, 32, out.length);
+
+			int flags = (blocksCompressed == 0 ? CHUNK_START : 0) | CHUNK_END;
+			bytesToInts(block, 0, blockLength, m);
+			compress(cv, m, chunkCounter, blockLength, stackSize == 0 ? flags | ROOT : flags, cv);
+
+			while (stackSize > 0) {
+				stackSize--;
+				parent(stack[stackSize], cv, stackSize == 0 ? ROOT : 0, cv, m);
+			}
+
+			intsToBytes(cv, out, offset);
+			reset();
+		}
+
+		@Override
+		public void reset() {
+			System.arraycopy(IV, 0, cv, 0, 8);
+			blockLength = 0;
+			blocksCompressed = 0;
+			chunkCounter = 0L;
+			stackSize = 0;
+		}
+
+		@Override
+		public int length() {
+			return 32;
+		}
+	}
+}
\ No newline at end of file
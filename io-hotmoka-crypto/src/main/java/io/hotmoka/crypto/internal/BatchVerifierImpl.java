@@ -0,0 +1,218 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.hotmoka.crypto.api.BatchVerifier;
+import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.crypto.api.SignatureToVerify;
+
+/**
+ * Implementation of an object that verifies batches of signatures. The signatures
+ * are grouped by algorithm and each group is split into chunks, that are verified
+ * in parallel in a fork/join pool. Each chunk is verified with the batch verification
+ * of its algorithm, that uses the engines of the worker thread that runs it.
+ */
+public class BatchVerifierImpl implements BatchVerifier {
+
+	/**
+	 * The number of signatures verified sequentially by a task. It is large enough
+	 * to profit from the batch verification of the algorithms that support it.
+	 */
+	private final static int CHUNK = 64;
+
+	private final ForkJoinPool pool;
+
+	/**
+	 * The statistics about the verifications, for each algorithm.
+	 */
+	private final ConcurrentMap<SignatureAlgorithm, Statistics> statistics = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a batch verifier that runs its verifications in the common fork/join pool.
+	 */
+	public BatchVerifierImpl() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a batch verifier that runs its verifications in the given fork/join pool.
+	 * 
+	 * @param pool the pool
+	 */
+	public BatchVerifierImpl(ForkJoinPool pool) {
+		this.pool = Objects.requireNonNull(pool, "pool cannot be null");
+	}
+
+	@Override
+	public BitSet verifyAll(List<? extends SignatureToVerify> signatures) {
+		return verify(signatures, false);
+	}
+
+	@Override
+	public BitSet verifyUntilFailure(List<? extends SignatureToVerify> signatures) {
+		return verify(signatures, true);
+	}
+
+	@Override
+	public long getVerifications(SignatureAlgorithm algorithm) {
+		var statisticsOfAlgorithm = statistics.get(Objects.requireNonNull(algorithm, "algorithm cannot be null"));
+		return statisticsOfAlgorithm == null ? 0L : statisticsOfAlgorithm.verifications.sum();
+	}
+
+	@Override
+	public long getNanosSpent(SignatureAlgorithm algorithm) {
+		var statisticsOfAlgorithm = statistics.get(Objects.requireNonNull(algorithm, "algorithm cannot be null"));
+		return statisticsOfAlgorithm == null ? 0L : statisticsOfAlgorithm.nanosSpent.sum();
+	}
+
+	@Override
+	public double getThroughput(SignatureAlgorithm algorithm) {
+		long nanos = getNanosSpent(algorithm);
+		return nanos == 0 ? 0.0 : getVerifications(algorithm) * 1_000_000_000.0 / nanos;
+	}
+
+	private BitSet verify(List<? extends SignatureToVerify> signatures, boolean failFast) {
+		Objects.requireNonNull(signatures, "signatures cannot be null");
+		var toVerify = signatures.toArray(SignatureToVerify[]::new);
+
+		// the positions of the signatures, grouped by algorithm, in order of first occurrence
+		var groups = new LinkedHashMap<SignatureAlgorithm, Group>();
+		for (int pos = 0; pos < toVerify.length; pos++) {
+			var signature = Objects.requireNonNull(toVerify[pos], "signatures cannot contain null");
+			groups.computeIfAbsent(signature.getAlgorithm(), Group::new).add(pos);
+		}
+
+		var valid = new boolean[toVerify.length];
+		var failed = new AtomicBoolean();
+		var tasks = new ArrayList<VerificationTask>();
+		for (var group: groups.values())
+			for (int from = 0; from < group.size; from += CHUNK)
+				tasks.add(new VerificationTask(group, from, Math.min(group.size, from + CHUNK), toVerify, valid, failed, failFast));
+
+		if (tasks.size() == 1)
+			// no reason to pay for the synchronization with the workers
+			tasks.get(0).compute();
+		else if (!tasks.isEmpty())
+			pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+		var result = new BitSet(valid.length);
+		for (int pos = 0; pos < valid.length; pos++)
+			if (valid[pos])
+				result.set(pos);
+
+		return result;
+	}
+
+	/**
+	 * The positions of the signatures of the same algorithm, inside a batch.
+	 */
+	private class Group {
+		private final SignatureAlgorithm algorithm;
+		private final Statistics statistics;
+		private int[] positions = new int[16];
+		private int size;
+
+		private Group(SignatureAlgorithm algorithm) {
+			this.algorithm = algorithm;
+			this.statistics = BatchVerifierImpl.this.statistics.computeIfAbsent(algorithm, key -> new Statistics());
+		}
+
+		private void add(int position) {
+			if (size == positions.length)
+				positions = Arrays.copyOf(positions, size * 2);
+
+			positions[size++] = position;
+		}
+	}
+
+	/**
+	 * The statistics about the verifications of an algorithm.
+	 */
+	private static class Statistics {
+		private final LongAdder verifications = new LongAdder();
+		private final LongAdder nanosSpent = new LongAdder();
+	}
+
+	/**
+	 * A task that verifies a chunk of the signatures of a group.
+	 */
+	private static class VerificationTask extends RecursiveAction {
+		private final static long serialVersionUID = 1L;
+		private final Group group;
+		private final int from;
+		private final int to;
+		private final SignatureToVerify[] toVerify;
+		private final boolean[] valid;
+		private final AtomicBoolean failed;
+		private final boolean failFast;
+
+		private VerificationTask(Group group, int from, int to, SignatureToVerify[] toVerify, boolean[] valid, AtomicBoolean failed, boolean failFast) {
+			this.group = group;
+			this.from = from;
+			this.to = to;
+			this.toVerify = toVerify;
+			this.valid = valid;
+			this.failed = failed;
+			this.failFast = failFast;
+		}
+
+		@Override
+		protected void compute() {
+			// in fail-fast mode, it is useless to go on after an invalid signature has been found
+			if (failFast && failed.get())
+				return;
+
+			long start = System.nanoTime();
+			int size = to - from;
+			var messages = new ArrayList<byte[]>(size);
+			var keys = new ArrayList<PublicKey>(size);
+			var signatures = new ArrayList<byte[]>(size);
+			for (int pos = from; pos < to; pos++) {
+				var signature = toVerify[group.positions[pos]];
+				messages.add(signature.getMessage());
+				keys.add(signature.getPublicKey());
+				signatures.add(signature.getSignature());
+			}
+
+			BitSet result = group.algorithm.verifyAll(messages, Function.identity(), keys, signatures);
+			for (int pos = from; pos < to; pos++)
+				valid[group.positions[pos]] = result.get(pos - from);
+
+			group.statistics.verifications.add(size);
+			group.statistics.nanosSpent.add(System.nanoTime() - start);
+
+			if (result.cardinality() < size)
+				failed.set(true);
+		}
+	}
+}
\ No newline at end of file
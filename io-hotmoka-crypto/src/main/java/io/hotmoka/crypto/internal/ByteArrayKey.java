@@ -0,0 +1,48 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.util.Arrays;
+
+/**
+ * An array of bytes used as key of a map, compared by content.
+ * The array is not copied, hence it must not be modified later.
+ */
+final class ByteArrayKey {
+	private final byte[] bytes;
+	private final int hashCode;
+
+	/**
+	 * Creates the key.
+	 * 
+	 * @param bytes the bytes of the key; this is not copied
+	 */
+	ByteArrayKey(byte[] bytes) {
+		this.bytes = bytes;
+		this.hashCode = Arrays.hashCode(bytes);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof ByteArrayKey bak && hashCode == bak.hashCode && Arrays.equals(bytes, bak.bytes);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded map that evicts its entries with the CLOCK policy: the entries are kept
+ * in a circular buffer and a hand sweeps it, giving a second chance to the entries
+ * used since its last visit. Lookups go through a concurrent map and never lock.
+ * Insertions, that are expected to follow an expensive computation, lock the cache.
+ * 
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class ClockCache<K, V> {
+
+	/**
+	 * The entries of the cache, by key.
+	 */
+	private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * The circular buffer of the entries, swept by the hand of the clock.
+	 * Guarded by {@code this}.
+	 */
+	private Entry<K, V>[] clock;
+
+	/**
+	 * The number of entries in {@link #clock}. Guarded by {@code this}.
+	 */
+	private int size;
+
+	/**
+	 * The position of the hand of the clock. Guarded by {@code this}.
+	 */
+	private int hand;
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates an empty cache.
+	 * 
+	 * @param capacity the maximal number of entries kept in the cache; 0 disables the cache
+	 * @throws IllegalArgumentException if {@code capacity} is negative
+	 */
+	ClockCache(int capacity) {
+		this.clock = mkClock(capacity);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> Entry<K, V>[] mkClock(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("The capacity cannot be negative");
+
+		return (Entry<K, V>[]) new Entry<?, ?>[capacity];
+	}
+
+	/**
+	 * Yields the value bound to the given key and marks it as used.
+	 * 
+	 * @param key the key
+	 * @return the value, or {@code null} if the key is not in the cache
+	 */
+	V get(K key) {
+		var entry = entries.get(key);
+		if (entry == null)
+			return null;
+
+		// we avoid writing into shared memory if not needed
+		if (!entry.used)
+			entry.used = true;
+
+		return entry.value;
+	}
+
+	/**
+	 * Binds the given value to the given key, unless the key is already in the cache.
+	 * If the cache is full, an entry gets evicted.
+	 * 
+	 * @param key the key
+	 * @param value the value
+	 */
+	synchronized void add(K key, V value) {
+		var entry = new Entry<>(key, value);
+		if (clock.length == 0 || entries.putIfAbsent(key, entry) != null)
+			return;
+
+		if (size < clock.length) {
+			clock[size++] = entry;
+			return;
+		}
+
+		// the cache is full: the hand looks for an entry not used since its last visit
+		while (clock[hand].used) {
+			clock[hand].used = false;
+			hand = (hand + 1) % clock.length;
+		}
+
+		entries.remove(clock[hand].key);
+		evictions.increment();
+		clock[hand] = entry;
+		hand = (hand + 1) % clock.length;
+	}
+
+	/**
+	 * Yields the maximal number of entries kept in this cache.
+	 * 
+	 * @return the maximal number of entries
+	 */
+	synchronized int getCapacity() {
+		return clock.length;
+	}
+
+	/**
+	 * Sets the maximal number of entries kept in this cache. If the cache
+	 * currently contains more entries, the oldest ones get evicted.
+	 * 
+	 * @param capacity the maximal number of entries; 0 disables the cache
+	 * @throws IllegalArgumentException if {@code capacity} is negative
+	 */
+	synchronized void setCapacity(int capacity) {
+		Entry<K, V>[] newClock = mkClock(capacity);
+		int newSize = Math.min(size, capacity);
+
+		// we keep the entries that the hand would visit last, that is, those inserted most recently
+		for (int pos = 0; pos < size; pos++) {
+			var entry = clock[(hand + size - 1 - pos) % size];
+			if (pos < newSize)
+				newClock[newSize - 1 - pos] = entry;
+			else {
+				entries.remove(entry.key);
+				evictions.increment();
+			}
+		}
+
+		clock = newClock;
+		size = newSize;
+		hand = 0;
+	}
+
+	/**
+	 * Yields the number of entries currently in this cache.
+	 * 
+	 * @return the number of entries
+	 */
+	synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	synchronized void clear() {
+		entries.clear();
+		Arrays.fill(clock, null);
+		size = 0;
+		hand = 0;
+	}
+
+	/**
+	 * Yields the number of entries evicted from this cache so far, to make room for other entries.
+	 * 
+	 * @return the number of evictions
+	 */
+	long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * An entry of the cache.
+	 */
+	private static class Entry<K, V> {
+		private final K key;
+		private final V value;
+
+		/**
+		 * True if and only if the entry has been used since the last visit of the hand of the clock.
+		 * This is written without synchronization: a lost update only affects the choice of the
+		 * entry to evict, not the correctness of the cache.
+		 */
+		private volatile boolean used;
+
+		private Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
\ No newline at end of file
@@ -21,178 +21,31 @@ limitations under the License.
  */
 package io.hotmoka.crypto.internal;
 
-import java.io.IOException;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.InvalidKeyException;
-import java.security.KeyFactory;
 import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.NoSuchAlgorithmException;
-import java.security.NoSuchProviderException;
-import java.security.PrivateKey;
-import java.security.PublicKey;
 import java.security.SecureRandom;
-import java.security.Security;
-import java.security.Signature;
-import java.security.SignatureException;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
-import java.util.OptionalInt;
 
-import org.bouncycastle.asn1.ASN1Encodable;
-import org.bouncycastle.asn1.ASN1OctetString;
-import org.bouncycastle.asn1.ASN1Primitive;
-import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.crypto.CryptoServicesRegistrar;
-import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
-import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
-import org.bouncycastle.crypto.util.PrivateKeyInfoFactory;
-import org.bouncycastle.crypto.util.SubjectPublicKeyInfoFactory;
-import org.bouncycastle.jcajce.spec.EdDSAParameterSpec;
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
 /**
  * A signature algorithm that uses the ED25519 cryptography.
+ * Each thread generates its key pairs with its own source of randomness.
  */
-public class ED25519 extends AbstractSignatureAlgorithmImpl {
+public class ED25519 extends AbstractED25519 {
 
     /**
-     * The actual signing algorithm.
+     * The sources of randomness of the threads that create key pairs with this algorithm, created lazily.
      */
-    private final Signature signature;
+    private final ThreadLocal<SecureRandom> randoms = ThreadLocal.withInitial(CryptoServicesRegistrar::getSecureRandom);
 
-    /**
-     * The key pair generator.
-     */
-    private final KeyPairGenerator keyPairGenerator;
-
-    /**
-     * The key factory.
-     */
-    private final KeyFactory keyFactory;
-
-    public ED25519() throws NoSuchAlgorithmException {
-    	try {
-    		ensureProvider();
-    		// the BC version of this algorithm is faster than the native Java version
-    		this.signature = Signature.getInstance("Ed25519", "BC");
-    		this.keyFactory = KeyFactory.getInstance("Ed25519", "BC");
-    		this.keyPairGenerator = mkKeyPairGenerator(CryptoServicesRegistrar.getSecureRandom());
-    	}
-    	catch (NoSuchProviderException e) {
-    		throw new NoSuchAlgorithmException(e);
-    	}
-    }
-
-    private KeyPairGenerator newKeyPairGenerator(SecureRandom random) throws NoSuchAlgorithmException, NoSuchProviderException {
-		var keyPairGenerator = KeyPairGenerator.getInstance("Ed25519", "BC");
-
-		try {
-			keyPairGenerator.initialize(new EdDSAParameterSpec(EdDSAParameterSpec.Ed25519), random);
-			return keyPairGenerator;
-		}
-		catch (InvalidAlgorithmParameterException e) {
-			throw new IllegalStateException(e);
-		}
-	}
-
-    @Override
-	protected KeyPairGenerator mkKeyPairGenerator(SecureRandom random) {
-    	try {
-			return newKeyPairGenerator(random);
-		}
-    	catch (NoSuchAlgorithmException | NoSuchProviderException e) {
-    		// impossible, since this object has been already constructed successfully
-    		throw new RuntimeException("unexpected exception", e);
-		}
-	}
+    public ED25519() {}
 
 	@Override
     public KeyPair getKeyPair() {
-		return keyPairGenerator.generateKeyPair();
-    }
-
-    @Override
-    protected byte[] sign(byte[] bytes, PrivateKey privateKey) throws InvalidKeyException, SignatureException {
-        synchronized (signature) {
-            signature.initSign(privateKey);
-            signature.update(bytes);
-            return signature.sign();
-        }
-    }
-
-    @Override
-    protected boolean verify(byte[] bytes, PublicKey publicKey, byte[] signature) throws InvalidKeyException, SignatureException {
-        synchronized (this.signature) {
-            this.signature.initVerify(publicKey);
-            this.signature.update(bytes);
-            return this.signature.verify(signature);
-        }
-    }
-
-    @Override
-    public PublicKey publicKeyFromEncoding(byte[] encoded) throws InvalidKeySpecException {
-    	try {
-    		var publicKeyParams = new Ed25519PublicKeyParameters(encoded, 0);
-			return keyFactory.generatePublic(new X509EncodedKeySpec(SubjectPublicKeyInfoFactory.createSubjectPublicKeyInfo(publicKeyParams).getEncoded()));
-		}
-		catch (IOException | ArrayIndexOutOfBoundsException e) {
-			throw new InvalidKeySpecException(e);
-		}
-    }
-
-    @Override
-   	public PrivateKey privateKeyFromEncoding(byte[] encoded) throws InvalidKeySpecException {
-    	try {
-    		Ed25519PrivateKeyParameters privateKeyParams = new Ed25519PrivateKeyParameters(encoded, 0);
-			return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(PrivateKeyInfoFactory.createPrivateKeyInfo(privateKeyParams).getEncoded()));
-		}
-		catch (IOException | ArrayIndexOutOfBoundsException e) {
-			throw new InvalidKeySpecException(e);
-		}
-   	}
-
-    @Override
-    public byte[] encodingOf(PublicKey publicKey) {
-    	// we drop the initial 12 bytes
-		return new Ed25519PublicKeyParameters(publicKey.getEncoded(), 12).getEncoded();
-    }
-
-    @Override
-    public byte[] encodingOf(PrivateKey privateKey) throws InvalidKeyException {
-    	try {
-    		PrivateKeyInfo privateKeyInfo = PrivateKeyInfo.getInstance(ASN1Primitive.fromByteArray(new PKCS8EncodedKeySpec(privateKey.getEncoded()).getEncoded()));
-    		ASN1Encodable privateKey2 = privateKeyInfo.parsePrivateKey();
-    		return new Ed25519PrivateKeyParameters(((ASN1OctetString) privateKey2).getOctets(), 0).getEncoded();
-    	}
-    	catch (IOException e) {
-    		throw new InvalidKeyException("cannot encode the private key", e);
-    	}
+		return mkKeyPair(randoms.get());
     }
 
     @Override
 	public String getName() {
 		return "ed25519"; // optimization
 	}
-
-    @Override
-	public OptionalInt publicKeyLength() {
-		return OptionalInt.of(32);
-	}
-
-	@Override
-	public OptionalInt privateKeyLength() {
-		return OptionalInt.of(32);
-	}
-
-	@Override
-	public OptionalInt length() {
-		return OptionalInt.of(64);
-	}
-
-	private static void ensureProvider() {
-		if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null)
-	        Security.addProvider(new BouncyCastleProvider());
-	}
 }
\ No newline at end of file
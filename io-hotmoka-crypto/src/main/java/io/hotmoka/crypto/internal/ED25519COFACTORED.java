@@ -0,0 +1,50 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.util.BitSet;
+
+/**
+ * A signature algorithm that uses the ED25519 cryptography, with the cofactored
+ * verification equation {@code [8] (s B - R - h A) = 0}, both one by one and in batch.
+ * It accepts all signatures accepted by {@link ED25519}, and also some signatures,
+ * that no honest signer ever produces, whose points have a component of small order.
+ * Hence it is not interchangeable with {@link ED25519}. In exchange, batches of
+ * signatures are verified through a single multi-scalar multiplication, much faster
+ * than one by one. It differs from {@link ED25519} only in the verification of the signatures.
+ */
+public class ED25519COFACTORED extends ED25519 {
+
+	public ED25519COFACTORED() {}
+
+	@Override
+	protected final boolean verify(byte[] bytes, PublicKey publicKey, byte[] signature) throws InvalidKeyException {
+		return Ed25519BatchVerifier.verify(bytes, Ed25519RawPublicKey.rawBytesOf(publicKey), signature);
+	}
+
+	@Override
+	protected final BitSet verifyAll(byte[][] messages, PublicKey[] keys, byte[][] signatures) {
+		return Ed25519BatchVerifier.verify(messages, keys, signatures);
+	}
+
+	@Override
+	public String getName() {
+		return "ed25519cofactored"; // optimization
+	}
+}
\ No newline at end of file
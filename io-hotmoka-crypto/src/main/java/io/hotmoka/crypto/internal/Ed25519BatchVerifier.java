@@ -0,0 +1,605 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.math.BigInteger;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.bouncycastle.math.ec.rfc7748.X25519Field;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+
+/**
+ * A verifier of batches of Ed25519 signatures. It checks the randomized batch equation
+ * <pre>
+ * [8] (sum z_i R_i + sum (z_i h_i) A_i - (sum z_i s_i) B) = 0
+ * </pre>
+ * where {@code z_i} are random 128-bit scalars, with a single multi-scalar multiplication,
+ * computed with the bucket method of Pippenger. If the equation does not hold,
+ * the signatures are verified one by one, in order to identify the invalid ones.
+ * The batch equation is cofactored, hence also the verification of a single signature
+ * is cofactored, that is, it checks that {@code [8] (s B - R - h A) = 0}, otherwise
+ * the two might disagree on signatures whose points have a component of small order,
+ * that no honest signer ever produces, and nodes verifying the same signatures in
+ * batch or one by one might disagree. In both cases, the encodings of the points and
+ * the scalar {@code s} must be canonical. This verifier is used by {@link ED25519COFACTORED}
+ * only, since the cofactorless verification of RFC 8032 rejects some signatures that
+ * it accepts, and no batch equation is known that agrees with RFC 8032 and is cheaper
+ * than verifying the signatures one by one.
+ */
+final class Ed25519BatchVerifier {
+
+	/**
+	 * The order of the prime subgroup of the curve.
+	 */
+	private final static BigInteger L = BigInteger.ONE.shiftLeft(252).add(new BigInteger("27742317777372353535851937790883648493"));
+
+	/**
+	 * The prime of the field.
+	 */
+	private final static BigInteger P = BigInteger.ONE.shiftLeft(255).subtract(BigInteger.valueOf(19));
+
+	/**
+	 * The constant {@code d} of the curve.
+	 */
+	private final static int[] D = fieldElement(new BigInteger("37095705934669439343138083508754565189542113879843219016388785533085940283555"));
+
+	/**
+	 * The constant {@code 2d} of the curve.
+	 */
+	private final static int[] D2 = fieldElement(new BigInteger("37095705934669439343138083508754565189542113879843219016388785533085940283555").shiftLeft(1).mod(P));
+
+	/**
+	 * The base point of the curve.
+	 */
+	private final static AffinePoint B = new AffinePoint(
+		fieldElement(new BigInteger("15112221349535400772501151409588531511454012693041857206046113283949847762202")),
+		fieldElement(new BigInteger("46316835694926478169428394003475163141307993866256225615783033603165251855960")));
+
+	/**
+	 * The source of the random scalars of the batch equation.
+	 */
+	private final static SecureRandom RANDOM = new SecureRandom();
+
+	private Ed25519BatchVerifier() {}
+
+	/**
+	 * Verifies a single signature, with the cofactored equation. Since the cofactorless
+	 * equation implies the cofactored one, the former gets checked first, through the faster
+	 * engine of BouncyCastle, which also requires canonical encodings. Only the signatures
+	 * that do not satisfy it get checked against the cofactored equation.
+	 * 
+	 * @param message the message
+	 * @param publicKey the raw 32 bytes public key
+	 * @param signature the raw 64 bytes signature
+	 * @return true if and only if the signature is valid
+	 */
+	static boolean verify(byte[] message, byte[] publicKey, byte[] signature) {
+		if (publicKey.length != 32 || signature.length != 64)
+			return false;
+
+		if (Ed25519.verify(signature, 0, publicKey, 0, message, 0, message.length))
+			return true;
+
+		var s = littleEndianToBigInteger(signature, 32, 32);
+		if (s.compareTo(L) >= 0)
+			return false;
+
+		var a = decode(publicKey, 0);
+		if (a == null)
+			return false;
+
+		var r = decode(signature, 0);
+		if (r == null)
+			return false;
+
+		var h = challenge(mkSHA512(), message, publicKey, signature);
+
+		// s B - h A - R, where the scalars are reduced modulo L, which is irrelevant after multiplying by the cofactor
+		var points = new AffinePoint[] { B, a, r };
+		var scalars = new BigInteger[] { s, L.subtract(h).mod(L), L.subtract(BigInteger.ONE) };
+		return isSmallOrder(multiScalarMultiplication(points, scalars, 3));
+	}
+
+	/**
+	 * Verifies a batch of signatures.
+	 * 
+	 * @param messages the messages; an element is {@code null} if its signature is invalid anyway
+	 * @param keys the public keys
+	 * @param signatures the raw 64 bytes signatures
+	 * @return the set of the positions of the valid signatures
+	 */
+	static BitSet verify(byte[][] messages, PublicKey[] keys, byte[][] signatures) {
+		var publicKeys = new byte[keys.length][];
+		for (int pos = 0; pos < keys.length; pos++)
+			publicKeys[pos] = rawBytesOf(keys[pos]);
+
+		return verify(messages, publicKeys, signatures);
+	}
+
+	/**
+	 * Yields the raw 32 bytes of the given Ed25519 public key.
+	 * 
+	 * @param key the key
+	 * @return the raw bytes, or {@code null} if {@code key} is not an Ed25519 public key
+	 */
+	private static byte[] rawBytesOf(PublicKey key) {
+		try {
+			return Ed25519RawPublicKey.rawBytesOf(key);
+		}
+		catch (InvalidKeyException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Verifies a batch of signatures.
+	 * 
+	 * @param messages the messages; an element is {@code null} if its signature is invalid anyway
+	 * @param publicKeys the raw 32 bytes public keys; an element is {@code null} if its signature is invalid anyway
+	 * @param signatures the raw 64 bytes signatures
+	 * @return the set of the positions of the valid signatures
+	 */
+	static BitSet verify(byte[][] messages, byte[][] publicKeys, byte[][] signatures) {
+		int size = messages.length;
+		var result = new BitSet(size);
+
+		// the signatures that are not invalid already at parsing time
+		var candidates = new int[size];
+		var points = new AffinePoint[2 * size + 1];
+		var scalars = new BigInteger[2 * size + 1];
+		BigInteger sumOfS = BigInteger.ZERO;
+		int count = 0;
+		MessageDigest sha512 = mkSHA512();
+		var randomness = new byte[16];
+
+		for (int pos = 0; pos < size; pos++) {
+			byte[] message = messages[pos], publicKey = publicKeys[pos], signature = signatures[pos];
+			if (message == null || publicKey == null || signature == null || publicKey.length != 32 || signature.length != 64)
+				continue;
+
+			var s = littleEndianToBigInteger(signature, 32, 32);
+			if (s.compareTo(L) >= 0)
+				continue;
+
+			var a = decode(publicKey, 0);
+			if (a == null)
+				continue;
+
+			var r = decode(signature, 0);
+			if (r == null)
+				continue;
+
+			var h = challenge(sha512, message, publicKey, signature);
+
+			RANDOM.nextBytes(randomness);
+			var z = new BigInteger(1, randomness);
+
+			points[2 * count] = r;
+			scalars[2 * count] = z;
+			points[2 * count + 1] = a;
+			scalars[2 * count + 1] = z.multiply(h).mod(L);
+			sumOfS = sumOfS.add(z.multiply(s));
+			candidates[count++] = pos;
+		}
+
+		if (count == 0)
+			return result;
+
+		boolean batchHolds = false;
+		if (count > 1) {
+			points[2 * count] = B;
+			scalars[2 * count] = L.subtract(sumOfS.mod(L)).mod(L);
+			batchHolds = isSmallOrder(multiScalarMultiplication(points, scalars, 2 * count + 1));
+		}
+
+		for (int i = 0; i < count; i++) {
+			int pos = candidates[i];
+			// if the batch equation does not hold, we look for the invalid signatures
+			if (batchHolds || verify(messages[pos], publicKeys[pos], signatures[pos]))
+				result.set(pos);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Computes the challenge {@code h = SHA512(R || A || M)} of a signature, modulo L.
+	 * 
+	 * @param sha512 the engine used for hashing
+	 * @param message the message M
+	 * @param publicKey the raw 32 bytes public key A
+	 * @param signature the raw 64 bytes signature, that starts with R
+	 * @return the challenge
+	 */
+	private static BigInteger challenge(MessageDigest sha512, byte[] message, byte[] publicKey, byte[] signature) {
+		sha512.reset();
+		sha512.update(signature, 0, 32);
+		sha512.update(publicKey);
+		sha512.update(message);
+		return littleEndianToBigInteger(sha512.digest(), 0, 64).mod(L);
+	}
+
+	private static MessageDigest mkSHA512() {
+		try {
+			return MessageDigest.getInstance("SHA-512");
+		}
+		catch (NoSuchAlgorithmException e) {
+			// impossible, since every installation of Java must provide SHA-512
+			throw new RuntimeException("SHA-512 is not available", e);
+		}
+	}
+
+	/**
+	 * A point of the curve, in affine coordinates, with its precomputed
+	 * values {@code y + x}, {@code y - x} and {@code 2dxy}, that speed up additions.
+	 */
+	private static class AffinePoint {
+		private final int[] x;
+		private final int[] y;
+		private final int[] yPlusX = X25519Field.create();
+		private final int[] yMinusX = X25519Field.create();
+		private final int[] xy2d = X25519Field.create();
+
+		private AffinePoint(int[] x, int[] y) {
+			this.x = x;
+			this.y = y;
+			X25519Field.add(y, x, yPlusX);
+			X25519Field.carry(yPlusX);
+			X25519Field.sub(y, x, yMinusX);
+			X25519Field.carry(yMinusX);
+			X25519Field.mul(x, y, xy2d);
+			X25519Field.mul(xy2d, D2, xy2d);
+		}
+	}
+
+	/**
+	 * A point of the curve, in extended coordinates (X:Y:Z:T), with x = X/Z, y = Y/Z and xy = T/Z.
+	 * Its operations modify the point itself.
+	 */
+	private static class ExtendedPoint {
+		private final int[] x = X25519Field.create();
+		private final int[] y = X25519Field.create();
+		private final int[] z = X25519Field.create();
+		private final int[] t = X25519Field.create();
+
+		// temporary field elements
+		private final int[] a = X25519Field.create(), b = X25519Field.create(), c = X25519Field.create(), d = X25519Field.create();
+		private final int[] e = X25519Field.create(), f = X25519Field.create(), g = X25519Field.create(), h = X25519Field.create();
+
+		/**
+		 * Sets this point to the given affine point, possibly negated.
+		 */
+		private void set(AffinePoint p, boolean negate) {
+			if (negate) {
+				X25519Field.negate(p.x, x);
+				X25519Field.carry(x);
+			}
+			else
+				X25519Field.copy(p.x, 0, x, 0);
+
+			X25519Field.copy(p.y, 0, y, 0);
+			X25519Field.one(z);
+			X25519Field.mul(x, y, t);
+		}
+
+		private void set(ExtendedPoint p) {
+			X25519Field.copy(p.x, 0, x, 0);
+			X25519Field.copy(p.y, 0, y, 0);
+			X25519Field.copy(p.z, 0, z, 0);
+			X25519Field.copy(p.t, 0, t, 0);
+		}
+
+		/**
+		 * Adds the given affine point, possibly negated, to this point.
+		 */
+		private void add(AffinePoint p, boolean negate) {
+			X25519Field.sub(y, x, a);
+			X25519Field.carry(a);
+			X25519Field.add(y, x, b);
+			X25519Field.carry(b);
+			// the negation of p swaps y + x with y - x and negates 2dxy
+			X25519Field.mul(a, negate ? p.yPlusX : p.yMinusX, a);
+			X25519Field.mul(b, negate ? p.yMinusX : p.yPlusX, b);
+			X25519Field.mul(t, p.xy2d, c);
+			X25519Field.add(z, z, d);
+			X25519Field.carry(d);
+			finish(negate);
+		}
+
+		/**
+		 * Adds the given point to this point.
+		 */
+		private void add(ExtendedPoint p) {
+			X25519Field.sub(y, x, a);
+			X25519Field.carry(a);
+			X25519Field.sub(p.y, p.x, e);
+			X25519Field.carry(e);
+			X25519Field.mul(a, e, a);
+			X25519Field.add(y, x, b);
+			X25519Field.carry(b);
+			X25519Field.add(p.y, p.x, e);
+			X25519Field.carry(e);
+			X25519Field.mul(b, e, b);
+			X25519Field.mul(t, p.t, c);
+			X25519Field.mul(c, D2, c);
+			X25519Field.mul(z, p.z, d);
+			X25519Field.add(d, d, d);
+			X25519Field.carry(d);
+			finish(false);
+		}
+
+		/**
+		 * Completes an addition, from A = (y1 - x1)(y2 - x2), B = (y1 + x1)(y2 + x2),
+		 * C = 2d t1 t2 and D = 2 z1 z2, that is, computes E = B - A, F = D - C, G = D + C
+		 * and H = B + A and then the resulting coordinates.
+		 * 
+		 * @param negateC true if and only if C must be negated before being used
+		 */
+		private void finish(boolean negateC) {
+			X25519Field.sub(b, a, e);
+			X25519Field.carry(e);
+			X25519Field.add(b, a, h);
+			X25519Field.carry(h);
+			if (negateC) {
+				X25519Field.add(d, c, f);
+				X25519Field.sub(d, c, g);
+			}
+			else {
+				X25519Field.sub(d, c, f);
+				X25519Field.add(d, c, g);
+			}
+
+			X25519Field.carry(f);
+			X25519Field.carry(g);
+			X25519Field.mul(e, f, x);
+			X25519Field.mul(g, h, y);
+			X25519Field.mul(e, h, t);
+			X25519Field.mul(f, g, z);
+		}
+
+		/**
+		 * Doubles this point.
+		 */
+		private void twice() {
+			X25519Field.sqr(x, a);
+			X25519Field.sqr(y, b);
+			X25519Field.sqr(z, c);
+			X25519Field.add(c, c, c);
+			X25519Field.carry(c);
+			X25519Field.add(x, y, e);
+			X25519Field.carry(e);
+			X25519Field.sqr(e, e);
+			X25519Field.add(a, b, h);
+			X25519Field.carry(h);
+			X25519Field.sub(h, e, e);
+			X25519Field.carry(e);
+			X25519Field.sub(a, b, g);
+			X25519Field.carry(g);
+			X25519Field.add(c, g, f);
+			X25519Field.carry(f);
+			X25519Field.mul(e, f, x);
+			X25519Field.mul(g, h, y);
+			X25519Field.mul(e, h, t);
+			X25519Field.mul(f, g, z);
+		}
+	}
+
+	/**
+	 * Computes the sum of the given points, each multiplied by its scalar.
+	 * It uses the bucket method of Pippenger, with signed digits.
+	 * 
+	 * @param points the points
+	 * @param scalars the scalars, between 0 (inclusive) and L (exclusive)
+	 * @param count the number of points and scalars to consider
+	 * @return the sum, or {@code null} if it is the identity
+	 */
+	private static ExtendedPoint multiScalarMultiplication(AffinePoint[] points, BigInteger[] scalars, int count) {
+		// the width of the windows: larger windows mean less windows but more buckets to sum up
+		int c = count < 160 ? 4 : count < 400 ? 5 : count < 1000 ? 6 : 7;
+		int windows = 253 / c + 2;
+		int half = 1 << (c - 1);
+
+		// the signed digits of the scalars: digits[i][w] is in [-half, half]
+		var digits = new int[count][];
+		for (int i = 0; i < count; i++)
+			digits[i] = signedDigits(scalars[i], c, windows);
+
+		var buckets = new ExtendedPoint[half];
+		for (int j = 0; j < half; j++)
+			buckets[j] = new ExtendedPoint();
+
+		var inBucket = new boolean[half];
+		var sum = new ExtendedPoint();
+		var windowSum = new ExtendedPoint();
+		var result = new ExtendedPoint();
+		boolean resultIsIdentity = true;
+
+		for (int w = windows - 1; w >= 0; w--) {
+			if (!resultIsIdentity)
+				for (int i = 0; i < c; i++)
+					result.twice();
+
+			Arrays.fill(inBucket, false);
+			boolean nonZero = false;
+
+			for (int i = 0; i < count; i++) {
+				int digit = digits[i][w];
+				if (digit != 0) {
+					int j = Math.abs(digit) - 1;
+					if (inBucket[j])
+						buckets[j].add(points[i], digit < 0);
+					else {
+						buckets[j].set(points[i], digit < 0);
+						inBucket[j] = true;
+					}
+
+					nonZero = true;
+				}
+			}
+
+			if (!nonZero)
+				continue;
+
+			// windowSum = sum_j (j + 1) buckets[j], computed as a sum of running sums
+			boolean sumIsIdentity = true, windowSumIsIdentity = true;
+			for (int j = half - 1; j >= 0; j--) {
+				if (inBucket[j]) {
+					if (sumIsIdentity) {
+						sum.set(buckets[j]);
+						sumIsIdentity = false;
+					}
+					else
+						sum.add(buckets[j]);
+				}
+
+				if (!sumIsIdentity) {
+					if (windowSumIsIdentity) {
+						windowSum.set(sum);
+						windowSumIsIdentity = false;
+					}
+					else
+						windowSum.add(sum);
+				}
+			}
+
+			if (resultIsIdentity) {
+				result.set(windowSum);
+				resultIsIdentity = false;
+			}
+			else
+				result.add(windowSum);
+		}
+
+		return resultIsIdentity ? null : result;
+	}
+
+	/**
+	 * Yields the signed digits of the given scalar, in base {@code 2^c}, from the least significant.
+	 */
+	private static int[] signedDigits(BigInteger scalar, int c, int windows) {
+		var digits = new int[windows];
+		int mask = (1 << c) - 1, half = 1 << (c - 1), carry = 0;
+
+		for (int w = 0; w < windows; w++) {
+			int digit = carry;
+			for (int bit = 0; bit < c; bit++)
+				if (scalar.testBit(w * c + bit))
+					digit += 1 << bit;
+
+			if (digit > half) {
+				digits[w] = digit - (mask + 1);
+				carry = 1;
+			}
+			else {
+				digits[w] = digit;
+				carry = 0;
+			}
+		}
+
+		return digits;
+	}
+
+	/**
+	 * Determines if the given point, multiplied by the cofactor 8, is the identity.
+	 * 
+	 * @param point the point; this is {@code null} for the identity itself
+	 * @return true if and only if that condition holds
+	 */
+	private static boolean isSmallOrder(ExtendedPoint point) {
+		if (point == null)
+			return true;
+
+		point.twice();
+		point.twice();
+		point.twice();
+
+		// the identity has x = 0 and y = 1, that is, X = 0 and Y = Z
+		X25519Field.normalize(point.x);
+		X25519Field.normalize(point.y);
+		X25519Field.normalize(point.z);
+
+		return X25519Field.isZeroVar(point.x) && X25519Field.areEqualVar(point.y, point.z);
+	}
+
+	/**
+	 * Decodes a point from its 32 bytes encoding, as in RFC 8032.
+	 * 
+	 * @param bytes the bytes containing the encoding
+	 * @param offset the position of the encoding inside {@code bytes}
+	 * @return the point, or {@code null} if the encoding is not valid
+	 */
+	private static AffinePoint decode(byte[] bytes, int offset) {
+		var encoding = new byte[32];
+		System.arraycopy(bytes, offset, encoding, 0, 32);
+		int sign = (encoding[31] & 0xFF) >>> 7;
+		encoding[31] &= 0x7F;
+
+		// y must be smaller than the prime of the field
+		if (littleEndianToBigInteger(encoding, 0, 32).compareTo(P) >= 0)
+			return null;
+
+		var x = X25519Field.create();
+		var y = X25519Field.create();
+		var u = X25519Field.create();
+		var v = X25519Field.create();
+		X25519Field.decode(encoding, 0, y);
+
+		// x^2 = (y^2 - 1) / (d y^2 + 1)
+		X25519Field.sqr(y, u);
+		X25519Field.mul(D, u, v);
+		X25519Field.subOne(u);
+		X25519Field.addOne(v);
+		if (!X25519Field.sqrtRatioVar(u, v, x))
+			return null;
+
+		X25519Field.normalize(x);
+		if (sign == 1 && X25519Field.isZeroVar(x))
+			return null;
+
+		if ((x[0] & 1) != sign) {
+			X25519Field.negate(x, x);
+			X25519Field.normalize(x);
+		}
+
+		return new AffinePoint(x, y);
+	}
+
+	private static int[] fieldElement(BigInteger value) {
+		var bytes = new byte[32];
+		byte[] bigEndian = value.toByteArray();
+		for (int i = 0; i < bigEndian.length && i < 32; i++)
+			bytes[i] = bigEndian[bigEndian.length - 1 - i];
+
+		var result = X25519Field.create();
+		X25519Field.decode(bytes, 0, result);
+		return result;
+	}
+
+	private static BigInteger littleEndianToBigInteger(byte[] bytes, int offset, int length) {
+		var bigEndian = new byte[length];
+		for (int i = 0; i < length; i++)
+			bigEndian[i] = bytes[offset + length - 1 - i];
+
+		return new BigInteger(1, bigEndian);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.io.IOException;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.util.Arrays;
+
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+
+/**
+ * An Ed25519 private key that holds its 32 bytes directly, so that it can be
+ * encoded and decoded without going through ASN.1 and the key factories of the
+ * Java cryptography architecture. It keeps its PKCS#8 encoding, whose last 32 bytes
+ * are the key, and the corresponding public key, that is needed for signing.
+ */
+final class Ed25519RawPrivateKey implements PrivateKey {
+	private final static long serialVersionUID = 1L;
+
+	/**
+	 * The prefix of the PKCS#8 encoding of Ed25519 private keys, that precedes their 32 bytes.
+	 */
+	private final static byte[] PKCS8_PREFIX = { 0x30, 0x2e, 0x02, 0x01, 0x00, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x04, 0x22, 0x04, 0x20 };
+
+	/**
+	 * The PKCS#8 encoding of the key.
+	 */
+	private final byte[] encoded;
+
+	/**
+	 * The raw bytes of the public key corresponding to this private key.
+	 */
+	private final byte[] publicKey = new byte[Ed25519.PUBLIC_KEY_SIZE];
+
+	/**
+	 * Creates the key.
+	 * 
+	 * @param key the 32 bytes of the key
+	 * @param offset the position of the key inside {@code key}
+	 */
+	Ed25519RawPrivateKey(byte[] key, int offset) {
+		this.encoded = Arrays.copyOf(PKCS8_PREFIX, PKCS8_PREFIX.length + Ed25519.SECRET_KEY_SIZE);
+		System.arraycopy(key, offset, encoded, PKCS8_PREFIX.length, Ed25519.SECRET_KEY_SIZE);
+		Ed25519.generatePublicKey(encoded, PKCS8_PREFIX.length, publicKey, 0);
+	}
+
+	/**
+	 * Yields the given Ed25519 private key as an {@link Ed25519RawPrivateKey}.
+	 * 
+	 * @param key the key; if it is not an {@link Ed25519RawPrivateKey}, its PKCS#8 encoding is parsed
+	 * @return the raw key
+	 * @throws InvalidKeyException if {@code key} is not an Ed25519 private key
+	 */
+	static Ed25519RawPrivateKey of(PrivateKey key) throws InvalidKeyException {
+		if (key instanceof Ed25519RawPrivateKey raw)
+			return raw;
+
+		try {
+			byte[] encoded = key == null ? null : key.getEncoded();
+			if (encoded == null)
+				throw new InvalidKeyException("The key is not an Ed25519 private key");
+
+			byte[] octets = ((ASN1OctetString) PrivateKeyInfo.getInstance(encoded).parsePrivateKey()).getOctets();
+			if (octets.length != Ed25519.SECRET_KEY_SIZE)
+				throw new InvalidKeyException("The key is not an Ed25519 private key");
+
+			return new Ed25519RawPrivateKey(octets, 0);
+		}
+		catch (IOException | ClassCastException | IllegalArgumentException e) {
+			throw new InvalidKeyException("The key is not an Ed25519 private key", e);
+		}
+	}
+
+	/**
+	 * Yields the raw 32 bytes of this key.
+	 * 
+	 * @return the raw bytes
+	 */
+	byte[] getRawBytes() {
+		return Arrays.copyOfRange(encoded, PKCS8_PREFIX.length, encoded.length);
+	}
+
+	/**
+	 * Signs the given bytes with this key.
+	 * 
+	 * @param bytes the bytes
+	 * @return the signature
+	 */
+	byte[] sign(byte[] bytes) {
+		var signature = new byte[Ed25519.SIGNATURE_SIZE];
+		Ed25519.sign(encoded, PKCS8_PREFIX.length, publicKey, 0, bytes, 0, bytes.length, signature, 0);
+		return signature;
+	}
+
+	/**
+	 * Yields the public key corresponding to this private key.
+	 * 
+	 * @return the public key
+	 */
+	Ed25519RawPublicKey getPublicKey() {
+		return new Ed25519RawPublicKey(publicKey, 0);
+	}
+
+	@Override
+	public String getAlgorithm() {
+		return "Ed25519";
+	}
+
+	@Override
+	public String getFormat() {
+		return "PKCS#8";
+	}
+
+	@Override
+	public byte[] getEncoded() {
+		return encoded.clone();
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		// constant-time comparison, since the key is secret
+		return other instanceof Ed25519RawPrivateKey raw && MessageDigest.isEqual(encoded, raw.encoded);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(publicKey);
+	}
+}
\ No newline at end of file
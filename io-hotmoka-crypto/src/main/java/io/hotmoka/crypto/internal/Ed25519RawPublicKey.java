@@ -0,0 +1,106 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.util.Arrays;
+
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+
+/**
+ * An Ed25519 public key that holds its 32 bytes directly, so that it can be
+ * encoded and decoded without going through ASN.1 and the key factories of the
+ * Java cryptography architecture. It keeps its X.509 encoding, whose last 32 bytes are the key.
+ */
+final class Ed25519RawPublicKey implements PublicKey {
+	private final static long serialVersionUID = 1L;
+
+	/**
+	 * The prefix of the X.509 encoding of Ed25519 public keys, that precedes their 32 bytes.
+	 */
+	private final static byte[] X509_PREFIX = { 0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00 };
+
+	/**
+	 * The X.509 encoding of the key.
+	 */
+	private final byte[] encoded;
+
+	/**
+	 * Creates the key.
+	 * 
+	 * @param key the 32 bytes of the key
+	 * @param offset the position of the key inside {@code key}
+	 */
+	Ed25519RawPublicKey(byte[] key, int offset) {
+		this.encoded = Arrays.copyOf(X509_PREFIX, X509_PREFIX.length + Ed25519.PUBLIC_KEY_SIZE);
+		System.arraycopy(key, offset, encoded, X509_PREFIX.length, Ed25519.PUBLIC_KEY_SIZE);
+	}
+
+	/**
+	 * Yields the raw 32 bytes of the given Ed25519 public key.
+	 * 
+	 * @param key the key; if it is not an {@link Ed25519RawPublicKey}, its X.509 encoding is used
+	 * @return the raw bytes
+	 * @throws InvalidKeyException if {@code key} is not an Ed25519 public key
+	 */
+	static byte[] rawBytesOf(PublicKey key) throws InvalidKeyException {
+		if (key instanceof Ed25519RawPublicKey raw)
+			return raw.getRawBytes();
+
+		byte[] encoded = key == null ? null : key.getEncoded();
+		if (encoded == null || encoded.length != X509_PREFIX.length + Ed25519.PUBLIC_KEY_SIZE
+				|| !Arrays.equals(encoded, 0, X509_PREFIX.length, X509_PREFIX, 0, X509_PREFIX.length))
+			throw new InvalidKeyException("The key is not an Ed25519 public key");
+
+		return Arrays.copyOfRange(encoded, X509_PREFIX.length, encoded.length);
+	}
+
+	/**
+	 * Yields the raw 32 bytes of this key.
+	 * 
+	 * @return the raw bytes
+	 */
+	byte[] getRawBytes() {
+		return Arrays.copyOfRange(encoded, X509_PREFIX.length, encoded.length);
+	}
+
+	@Override
+	public String getAlgorithm() {
+		return "Ed25519";
+	}
+
+	@Override
+	public String getFormat() {
+		return "X.509";
+	}
+
+	@Override
+	public byte[] getEncoded() {
+		return encoded.clone();
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof Ed25519RawPublicKey raw && Arrays.equals(encoded, raw.encoded);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(encoded);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.hotmoka.crypto.api.FileHasher;
+import io.hotmoka.crypto.api.HashingAlgorithm;
+
+/**
+ * Implementation of an object that hashes the content of files. Each file is
+ * mapped in memory one window at a time and each window is fed into an
+ * incremental hasher, so that the content of the file is never copied into the heap.
+ */
+public class FileHasherImpl implements FileHasher {
+
+	/**
+	 * The default size of the windows: large enough to make the cost
+	 * of each mapping negligible, small enough to fit in the address space.
+	 */
+	private final static int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private final HashingAlgorithm algorithm;
+	private final int windowSize;
+	private final LongAdder bytesHashed = new LongAdder();
+	private final LongAdder nanosSpent = new LongAdder();
+
+	/**
+	 * Creates a file hasher that maps files in memory in windows of default size.
+	 * 
+	 * @param algorithm the hashing algorithm used for hashing the files
+	 */
+	public FileHasherImpl(HashingAlgorithm algorithm) {
+		this(algorithm, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Creates a file hasher that maps files in memory in windows of the given size.
+	 * 
+	 * @param algorithm the hashing algorithm used for hashing the files
+	 * @param windowSize the size of the windows, in bytes; this must be positive
+	 */
+	public FileHasherImpl(HashingAlgorithm algorithm, int windowSize) {
+		this.algorithm = Objects.requireNonNull(algorithm, "algorithm cannot be null");
+
+		if (windowSize <= 0)
+			throw new IllegalArgumentException("The window size must be positive");
+
+		this.windowSize = windowSize;
+	}
+
+	@Override
+	public byte[] hash(Path path) throws IOException {
+		Objects.requireNonNull(path, "path cannot be null");
+		long start = System.nanoTime();
+		var hasher = algorithm.getIncrementalHasher();
+
+		try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			for (long position = 0; position < size; position += windowSize)
+				hasher.update(channel.map(MapMode.READ_ONLY, position, Math.min(windowSize, size - position)));
+
+			byte[] result = hasher.finish();
+			bytesHashed.add(size);
+			return result;
+		}
+		finally {
+			nanosSpent.add(System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public HashingAlgorithm getHashingAlgorithm() {
+		return algorithm;
+	}
+
+	@Override
+	public long getBytesHashed() {
+		return bytesHashed.sum();
+	}
+
+	@Override
+	public long getNanosSpent() {
+		return nanosSpent.sum();
+	}
+
+	@Override
+	public double getThroughput() {
+		long nanos = getNanosSpent();
+		return nanos == 0 ? 0.0 : getBytesHashed() * 1_000_000_000.0 / nanos;
+	}
+}
\ No newline at end of file
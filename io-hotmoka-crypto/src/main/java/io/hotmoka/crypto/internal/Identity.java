@@ -16,6 +16,8 @@ limitations under the License.
 
 package io.hotmoka.crypto.internal;
 
+import java.nio.ByteBuffer;
+
 import io.hotmoka.crypto.AbstractHashingAlgorithm;
 
 /**
@@ -63,6 +65,17 @@ public class Identity extends AbstractHashingAlgorithm {
 		return copy;
 	}
 
+	@Override
+	protected byte[] hash(ByteBuffer buffer) {
+		if (buffer.remaining() != size)
+			throw new IllegalArgumentException("This hashing algorithm works over buffers with " + size + " remaining bytes only");
+
+		var bytes = new byte[size];
+		buffer.get(bytes);
+
+		return bytes;
+	}
+
 	@Override
 	public int length() {
 		return size;
@@ -0,0 +1,299 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * A Keccak sponge over the Keccak-f[1600] permutation. Its state of 25 lanes
+ * is allocated only once and reused after each reset. Bytes can be absorbed
+ * incrementally and the output can be squeezed into arrays supplied by the caller.
+ * Sponges are not thread-safe.
+ */
+class KeccakSponge {
+
+	/**
+	 * The round constants of the iota step.
+	 */
+	private final static long[] ROUND_CONSTANTS = {
+		0x0000000000000001L, 0x0000000000008082L, 0x800000000000808AL, 0x8000000080008000L,
+		0x000000000000808BL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+		0x000000000000008AL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000AL,
+		0x000000008000808BL, 0x800000000000008BL, 0x8000000000008089L, 0x8000000000008003L,
+		0x8000000000008002L, 0x8000000000000080L, 0x000000000000800AL, 0x800000008000000AL,
+		0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L
+	};
+
+	/**
+	 * Reads little-endian lanes from arrays of bytes.
+	 */
+	private final static VarHandle LANE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+	/**
+	 * The state of the sponge: lane (x, y) is at position x + 5y.
+	 */
+	private final long[] state = new long[25];
+
+	/**
+	 * The number of bytes absorbed or squeezed at each permutation.
+	 */
+	private final int rate;
+
+	/**
+	 * The domain separation bits appended to the message, before the final bit of the padding.
+	 */
+	private final byte suffix;
+
+	/**
+	 * The position inside the current block of the rate, for absorbing or squeezing.
+	 */
+	private int position;
+
+	/**
+	 * True if and only if the sponge has been padded and is squeezing its output.
+	 */
+	private boolean squeezing;
+
+	/**
+	 * Creates a sponge.
+	 * 
+	 * @param rate the number of bytes absorbed or squeezed at each permutation; this must be a multiple of 8
+	 * @param suffix the domain separation bits appended to the message: 0x01 for Keccak, 0x06 for SHA-3
+	 */
+	KeccakSponge(int rate, byte suffix) {
+		this.rate = rate;
+		this.suffix = suffix;
+	}
+
+	/**
+	 * Brings this sponge into the state of the given one.
+	 * 
+	 * @param other the other sponge, with the same rate and suffix as this
+	 */
+	void copyFrom(KeccakSponge other) {
+		System.arraycopy(other.state, 0, state, 0, 25);
+		position = other.position;
+		squeezing = other.squeezing;
+	}
+
+	/**
+	 * Brings this sponge back to its initial state.
+	 */
+	void reset() {
+		Arrays.fill(state, 0L);
+		position = 0;
+		squeezing = false;
+	}
+
+	/**
+	 * Absorbs the given portion of an array of bytes.
+	 * 
+	 * @param bytes the bytes
+	 * @param start the position of the first byte to absorb
+	 * @param length the number of bytes to absorb
+	 * @throws IllegalStateException if this sponge is already squeezing its output
+	 */
+	void absorb(byte[] bytes, int start, int length) {
+		if (squeezing)
+			throw new IllegalStateException("Cannot absorb after squeezing");
+
+		// bytes up to the next lane boundary
+		while (length > 0 && (position & 7) != 0) {
+			absorb(bytes[start++]);
+			length--;
+		}
+
+		// whole lanes are read at once
+		while (length >= 8) {
+			state[position >> 3] ^= (long) LANE.get(bytes, start);
+			start += 8;
+			length -= 8;
+			position += 8;
+			if (position == rate) {
+				permute();
+				position = 0;
+			}
+		}
+
+		while (length-- > 0)
+			absorb(bytes[start++]);
+	}
+
+	/**
+	 * Absorbs the remaining bytes of the given buffer.
+	 * 
+	 * @param buffer the buffer, whose position gets moved to its limit
+	 * @throws IllegalStateException if this sponge is already squeezing its output
+	 */
+	void absorb(ByteBuffer buffer) {
+		if (buffer.hasArray()) {
+			absorb(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			buffer.position(buffer.limit());
+		}
+		else if (squeezing)
+			throw new IllegalStateException("Cannot absorb after squeezing");
+		else
+			while (buffer.hasRemaining())
+				absorb(buffer.get());
+	}
+
+	/**
+	 * Absorbs a byte.
+	 * 
+	 * @param b the byte
+	 */
+	void absorb(byte b) {
+		if (squeezing)
+			throw new IllegalStateException("Cannot absorb after squeezing");
+
+		state[position >> 3] ^= (b & 0xFFL) << ((position & 7) << 3);
+		if (++position == rate) {
+			permute();
+			position = 0;
+		}
+	}
+
+	/**
+	 * Squeezes output bytes into the given array. The first call pads the absorbed
+	 * message. Further calls continue the output where the previous one stopped.
+	 * 
+	 * @param out the array where the output gets written
+	 * @param offset the position inside {@code out} where the output gets written
+	 * @param length the number of output bytes
+	 */
+	void squeeze(byte[] out, int offset, int length) {
+		if (!squeezing) {
+			state[position >> 3] ^= (suffix & 0xFFL) << ((position & 7) << 3);
+			state[(rate - 1) >> 3] ^= 0x80L << 56;
+			permute();
+			position = 0;
+			squeezing = true;
+		}
+
+		while (length > 0) {
+			if (position == rate) {
+				permute();
+				position = 0;
+			}
+
+			if ((position & 7) == 0 && length >= 8) {
+				LANE.set(out, offset, state[position >> 3]);
+				offset += 8;
+				length -= 8;
+				position += 8;
+			}
+			else {
+				out[offset++] = (byte) (state[position >> 3] >>> ((position & 7) << 3));
+				length--;
+				position++;
+			}
+		}
+	}
+
+	/**
+	 * Applies the Keccak-f[1600] permutation to the state. The lanes are kept
+	 * in local variables and each round is unrolled, so that they can live in registers.
+	 */
+	private void permute() {
+		long[] state = this.state;
+		long a00 = state[0], a10 = state[1], a20 = state[2], a30 = state[3], a40 = state[4];
+		long a01 = state[5], a11 = state[6], a21 = state[7], a31 = state[8], a41 = state[9];
+		long a02 = state[10], a12 = state[11], a22 = state[12], a32 = state[13], a42 = state[14];
+		long a03 = state[15], a13 = state[16], a23 = state[17], a33 = state[18], a43 = state[19];
+		long a04 = state[20], a14 = state[21], a24 = state[22], a34 = state[23], a44 = state[24];
+
+		for (int round = 0; round < 24; round++) {
+			long c0 = a00 ^ a01 ^ a02 ^ a03 ^ a04;
+			long c1 = a10 ^ a11 ^ a12 ^ a13 ^ a14;
+			long c2 = a20 ^ a21 ^ a22 ^ a23 ^ a24;
+			long c3 = a30 ^ a31 ^ a32 ^ a33 ^ a34;
+			long c4 = a40 ^ a41 ^ a42 ^ a43 ^ a44;
+			long d0 = c4 ^ Long.rotateLeft(c1, 1);
+			long d1 = c0 ^ Long.rotateLeft(c2, 1);
+			long d2 = c1 ^ Long.rotateLeft(c3, 1);
+			long d3 = c2 ^ Long.rotateLeft(c4, 1);
+			long d4 = c3 ^ Long.rotateLeft(c0, 1);
+
+			// theta, rho and pi
+			long b00 = a00 ^ d0;
+			long b10 = Long.rotateLeft(a11 ^ d1, 44);
+			long b20 = Long.rotateLeft(a22 ^ d2, 43);
+			long b30 = Long.rotateLeft(a33 ^ d3, 21);
+			long b40 = Long.rotateLeft(a44 ^ d4, 14);
+			long b01 = Long.rotateLeft(a30 ^ d3, 28);
+			long b11 = Long.rotateLeft(a41 ^ d4, 20);
+			long b21 = Long.rotateLeft(a02 ^ d0, 3);
+			long b31 = Long.rotateLeft(a13 ^ d1, 45);
+			long b41 = Long.rotateLeft(a24 ^ d2, 61);
+			long b02 = Long.rotateLeft(a10 ^ d1, 1);
+			long b12 = Long.rotateLeft(a21 ^ d2, 6);
+			long b22 = Long.rotateLeft(a32 ^ d3, 25);
+			long b32 = Long.rotateLeft(a43 ^ d4, 8);
+			long b42 = Long.rotateLeft(a04 ^ d0, 18);
+			long b03 = Long.rotateLeft(a40 ^ d4, 27);
+			long b13 = Long.rotateLeft(a01 ^ d0, 36);
+			long b23 = Long.rotateLeft(a12 ^ d1, 10);
+			long b33 = Long.rotateLeft(a23 ^ d2, 15);
+			long b43 = Long.rotateLeft(a34 ^ d3, 56);
+			long b04 = Long.rotateLeft(a20 ^ d2, 62);
+			long b14 = Long.rotateLeft(a31 ^ d3, 55);
+			long b24 = Long.rotateLeft(a42 ^ d4, 39);
+			long b34 = Long.rotateLeft(a03 ^ d0, 41);
+			long b44 = Long.rotateLeft(a14 ^ d1, 2);
+
+			// chi
+			a00 = b00 ^ (~b10 & b20);
+			a10 = b10 ^ (~b20 & b30);
+			a20 = b20 ^ (~b30 & b40);
+			a30 = b30 ^ (~b40 & b00);
+			a40 = b40 ^ (~b00 & b10);
+			a01 = b01 ^ (~b11 & b21);
+			a11 = b11 ^ (~b21 & b31);
+			a21 = b21 ^ (~b31 & b41);
+			a31 = b31 ^ (~b41 & b01);
+			a41 = b41 ^ (~b01 & b11);
+			a02 = b02 ^ (~b12 & b22);
+			a12 = b12 ^ (~b22 & b32);
+			a22 = b22 ^ (~b32 & b42);
+			a32 = b32 ^ (~b42 & b02);
+			a42 = b42 ^ (~b02 & b12);
+			a03 = b03 ^ (~b13 & b23);
+			a13 = b13 ^ (~b23 & b33);
+			a23 = b23 ^ (~b33 & b43);
+			a33 = b33 ^ (~b43 & b03);
+			a43 = b43 ^ (~b03 & b13);
+			a04 = b04 ^ (~b14 & b24);
+			a14 = b14 ^ (~b24 & b34);
+			a24 = b24 ^ (~b34 & b44);
+			a34 = b34 ^ (~b44 & b04);
+			a44 = b44 ^ (~b04 & b14);
+
+			// iota
+			a00 ^= ROUND_CONSTANTS[round];
+		}
+
+		state[0] = a00; state[1] = a10; state[2] = a20; state[3] = a30; state[4] = a40;
+		state[5] = a01; state[6] = a11; state[7] = a21; state[8] = a31; state[9] = a41;
+		state[10] = a02; state[11] = a12; state[12] = a22; state[13] = a32; state[14] = a42;
+		state[15] = a03; state[16] = a13; state[17] = a23; state[18] = a33; state[19] = a43;
+		state[20] = a04; state[21] = a14; state[22] = a24; state[23] = a34; state[24] = a44;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.MessageDigest;
+import java.util.function.UnaryOperator;
+
+import org.bouncycastle.crypto.ExtendedDigest;
+
+/**
+ * An adapter of a lightweight BouncyCastle digest into a {@link MessageDigest}.
+ * This allows one to use digests that are configured with parameters
+ * that the provider API does not support, such as keys.
+ */
+class LightweightMessageDigest extends MessageDigest {
+
+	/**
+	 * The adapted digest.
+	 */
+	private final ExtendedDigest digest;
+
+	/**
+	 * The function that copies the adapted digest, in its current state.
+	 */
+	private final UnaryOperator<ExtendedDigest> copier;
+
+	/**
+	 * Creates the adapter.
+	 * 
+	 * @param digest the adapted digest
+	 * @param copier the function that copies the adapted digest, in its current state
+	 */
+	LightweightMessageDigest(ExtendedDigest digest, UnaryOperator<ExtendedDigest> copier) {
+		super(digest.getAlgorithmName());
+
+		this.digest = digest;
+		this.copier = copier;
+	}
+
+	@Override
+	protected void engineUpdate(byte input) {
+		digest.update(input);
+	}
+
+	@Override
+	protected void engineUpdate(byte[] input, int offset, int len) {
+		digest.update(input, offset, len);
+	}
+
+	@Override
+	protected byte[] engineDigest() {
+		var result = new byte[digest.getDigestSize()];
+		digest.doFinal(result, 0);
+		return result;
+	}
+
+	@Override
+	protected int engineDigest(byte[] buf, int offset, int len) {
+		// the length has already been checked by MessageDigest.digest(byte[], int, int)
+		return digest.doFinal(buf, offset);
+	}
+
+	@Override
+	protected int engineGetDigestLength() {
+		return digest.getDigestSize();
+	}
+
+	@Override
+	protected void engineReset() {
+		digest.reset();
+	}
+
+	@Override
+	public LightweightMessageDigest clone() {
+		return new LightweightMessageDigest(copier.apply(digest), copier);
+	}
+}
\ No newline at end of file
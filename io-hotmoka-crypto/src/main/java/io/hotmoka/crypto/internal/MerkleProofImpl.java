@@ -0,0 +1,134 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.crypto.api.MerkleProof;
+
+/**
+ * Implementation of a proof that a leaf belongs to a Merkle tree.
+ */
+public class MerkleProofImpl implements MerkleProof {
+	private final HashingAlgorithm algorithm;
+	private final int leafIndex;
+	private final int treeSize;
+	private final byte[][] siblings;
+
+	/**
+	 * Creates a proof that a leaf belongs to a Merkle tree.
+	 * 
+	 * @param algorithm the hashing algorithm used for the nodes of the tree
+	 * @param leafIndex the position of the leaf
+	 * @param treeSize the number of leaves of the tree
+	 * @param siblings the siblings of the nodes in the path from the leaf to the root, from the bottom to the top of the tree
+	 * @throws IllegalArgumentException if the number of siblings or their length does not match the shape of the tree
+	 */
+	public MerkleProofImpl(HashingAlgorithm algorithm, int leafIndex, int treeSize, List<byte[]> siblings) {
+		this.algorithm = Objects.requireNonNull(algorithm, "algorithm cannot be null");
+		Objects.requireNonNull(siblings, "siblings cannot be null");
+
+		if (treeSize <= 0)
+			throw new IllegalArgumentException("The size of the tree must be positive");
+
+		if (leafIndex < 0 || leafIndex >= treeSize)
+			throw new IllegalArgumentException("The leaf index must be between 0 (inclusive) and the size of the tree (exclusive)");
+
+		if (siblings.size() != numberOfSiblings(leafIndex, treeSize))
+			throw new IllegalArgumentException("Leaf " + leafIndex + " of a tree of size " + treeSize + " has " + numberOfSiblings(leafIndex, treeSize) + " siblings, not " + siblings.size());
+
+		int length = algorithm.length();
+		this.siblings = new byte[siblings.size()][];
+		for (int pos = 0; pos < this.siblings.length; pos++) {
+			byte[] sibling = Objects.requireNonNull(siblings.get(pos), "siblings cannot contain null");
+			if (sibling.length != length)
+				throw new IllegalArgumentException("The siblings must be " + length + " bytes long");
+
+			this.siblings[pos] = sibling.clone();
+		}
+
+		this.leafIndex = leafIndex;
+		this.treeSize = treeSize;
+	}
+
+	private static int numberOfSiblings(int index, int count) {
+		int result = 0;
+		for (; count > 1; count = (count + 1) / 2, index >>= 1)
+			if ((index ^ 1) < count)
+				result++;
+
+		return result;
+	}
+
+	@Override
+	public int getLeafIndex() {
+		return leafIndex;
+	}
+
+	@Override
+	public int getTreeSize() {
+		return treeSize;
+	}
+
+	@Override
+	public List<byte[]> getSiblings() {
+		return Arrays.stream(siblings).map(byte[]::clone).toList();
+	}
+
+	@Override
+	public HashingAlgorithm getHashingAlgorithm() {
+		return algorithm;
+	}
+
+	@Override
+	public boolean verify(byte[] value, byte[] root) {
+		Objects.requireNonNull(value, "value cannot be null");
+		Objects.requireNonNull(root, "root cannot be null");
+
+		int length = algorithm.length();
+		if (root.length != length)
+			return false;
+
+		var hasher = algorithm.getIncrementalHasher();
+		// the current node is kept at the beginning of pair, followed by its sibling if it is a left child
+		var pair = new byte[2 * length];
+		hasher.update(MerkleTreeImpl.LEAF_PREFIX);
+		hasher.update(value);
+		hasher.finishInto(pair, 0);
+
+		int next = 0;
+		for (int index = leafIndex, count = treeSize; count > 1; count = (count + 1) / 2, index >>= 1) {
+			if ((index ^ 1) < count) {
+				if ((index & 1) == 0)
+					System.arraycopy(siblings[next++], 0, pair, length, length);
+				else {
+					System.arraycopy(pair, 0, pair, length, length);
+					System.arraycopy(siblings[next++], 0, pair, 0, length);
+				}
+
+				hasher.update(MerkleTreeImpl.NODE_PREFIX);
+				hasher.update(pair);
+				hasher.finishInto(pair, 0);
+			}
+		}
+
+		return Arrays.equals(pair, 0, length, root, 0, length);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,300 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.crypto.api.IncrementalHasher;
+import io.hotmoka.crypto.api.MerkleProof;
+import io.hotmoka.crypto.api.MerkleTree;
+
+/**
+ * Implementation of a Merkle tree. The nodes of each level of the tree are kept,
+ * one after the other, inside a single array of bytes. Hence the two children
+ * of an internal node are contiguous and get hashed into their parent without
+ * allocating any intermediate array.
+ *
+ * @param <T> the type of the values in the leaves of the tree
+ */
+public class MerkleTreeImpl<T> implements MerkleTree<T> {
+
+	/**
+	 * The prefix of the bytes hashed for a leaf.
+	 */
+	final static byte LEAF_PREFIX = 0;
+
+	/**
+	 * The prefix of the bytes hashed for an internal node.
+	 */
+	final static byte NODE_PREFIX = 1;
+
+	/**
+	 * The minimal number of nodes hashed sequentially by a task, during the bulk construction of a tree.
+	 */
+	private final static int MIN_PARALLEL_CHUNK = 256;
+
+	private final HashingAlgorithm algorithm;
+	private final Function<? super T, byte[]> toBytes;
+
+	/**
+	 * The length of the nodes of the tree.
+	 */
+	private final int length;
+
+	/**
+	 * The hasher used for the updates of the tree.
+	 */
+	private final IncrementalHasher hasher;
+
+	/**
+	 * The nodes of the tree: {@code levels[0]} contains the leaves and
+	 * {@code levels[k]} the nodes at distance {@code k} from the leaves.
+	 * Each array might be larger than needed, to allow appends.
+	 */
+	private byte[][] levels;
+
+	/**
+	 * The number of leaves of the tree.
+	 */
+	private int size;
+
+	/**
+	 * Creates an empty Merkle tree.
+	 * 
+	 * @param algorithm the hashing algorithm used for the nodes of the tree
+	 * @param toBytes the function that yields the bytes of the values in the leaves
+	 */
+	public MerkleTreeImpl(HashingAlgorithm algorithm, Function<? super T, byte[]> toBytes) {
+		this.algorithm = Objects.requireNonNull(algorithm, "algorithm cannot be null");
+		this.toBytes = Objects.requireNonNull(toBytes, "toBytes cannot be null");
+		this.length = algorithm.length();
+		this.hasher = algorithm.getIncrementalHasher();
+		this.levels = new byte[1][0];
+	}
+
+	/**
+	 * Creates a Merkle tree with the given values in its leaves, in order.
+	 * Large trees are built in parallel.
+	 * 
+	 * @param algorithm the hashing algorithm used for the nodes of the tree
+	 * @param toBytes the function that yields the bytes of the values in the leaves
+	 * @param values the values
+	 */
+	public MerkleTreeImpl(HashingAlgorithm algorithm, Function<? super T, byte[]> toBytes, List<? extends T> values) {
+		this(algorithm, toBytes);
+
+		Objects.requireNonNull(values, "values cannot be null");
+		List<? extends T> leaves = values instanceof RandomAccess ? values : new ArrayList<>(values);
+		this.size = leaves.size();
+
+		int count = size;
+		levels = new byte[height(count) + 1][];
+		levels[0] = new byte[count * length];
+		computeInParallel(count, (hasher, from, to) -> {
+			for (int i = from; i < to; i++)
+				hashLeaf(hasher, leaves.get(i), i);
+		});
+
+		for (int level = 1; count > 1; level++) {
+			int below = count;
+			count = (count + 1) / 2;
+			levels[level] = new byte[count * length];
+			int current = level;
+			computeInParallel(count, (hasher, from, to) -> {
+				for (int i = from; i < to; i++)
+					hashNode(hasher, current, i, below);
+			});
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public byte[] getRoot() {
+		if (size == 0)
+			return algorithm.getHasher(Function.<byte[]> identity()).hash(new byte[0]);
+		else
+			return Arrays.copyOf(levels[height(size)], length);
+	}
+
+	@Override
+	public void add(T value) {
+		if (size == Integer.MAX_VALUE / 2)
+			throw new IllegalStateException("The tree is too big");
+
+		int index = size++;
+		ensureCapacity();
+		hashLeaf(hasher, value, index);
+		updatePathFrom(index);
+	}
+
+	@Override
+	public void set(int index, T value) {
+		Objects.checkIndex(index, size);
+		hashLeaf(hasher, value, index);
+		updatePathFrom(index);
+	}
+
+	@Override
+	public MerkleProof getProof(int index) {
+		Objects.checkIndex(index, size);
+
+		var siblings = new ArrayList<byte[]>();
+		for (int level = 0, count = size, i = index; count > 1; level++, count = (count + 1) / 2, i >>= 1) {
+			int sibling = i ^ 1;
+			// a promoted node has no sibling
+			if (sibling < count)
+				siblings.add(Arrays.copyOfRange(levels[level], sibling * length, (sibling + 1) * length));
+		}
+
+		return new MerkleProofImpl(algorithm, index, size, siblings);
+	}
+
+	@Override
+	public HashingAlgorithm getHashingAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * Yields the number of levels above the leaves, in a tree with the given number of leaves.
+	 * 
+	 * @param size the number of leaves
+	 * @return the number of levels above the leaves
+	 */
+	private static int height(int size) {
+		return size <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1);
+	}
+
+	/**
+	 * Enlarges the levels of the tree, if they are not large enough for its current size.
+	 */
+	private void ensureCapacity() {
+		int height = height(size);
+		if (levels.length <= height)
+			levels = Arrays.copyOf(levels, height + 1);
+
+		for (int level = 0, count = size; level <= height; level++, count = (count + 1) / 2) {
+			byte[] nodes = levels[level];
+			if (nodes == null)
+				levels[level] = new byte[Math.max(count, 4) * length];
+			else if (nodes.length < count * length)
+				// doubling makes the cost of the copies constant on average
+				levels[level] = Arrays.copyOf(nodes, Math.max(nodes.length * 2, count * length));
+		}
+	}
+
+	/**
+	 * Recomputes the internal nodes above the given leaf.
+	 * 
+	 * @param index the position of the leaf
+	 */
+	private void updatePathFrom(int index) {
+		for (int level = 1, below = size; below > 1; level++, below = (below + 1) / 2)
+			hashNode(hasher, level, index >>= 1, below);
+	}
+
+	private void hashLeaf(IncrementalHasher hasher, T value, int index) {
+		hasher.update(LEAF_PREFIX);
+		hasher.update(toBytes.apply(value));
+		hasher.finishInto(levels[0], index * length);
+	}
+
+	/**
+	 * Computes an internal node from its children.
+	 * 
+	 * @param hasher the hasher to use
+	 * @param level the level of the node
+	 * @param index the position of the node inside its level
+	 * @param below the number of nodes at the level below {@code level}
+	 */
+	private void hashNode(IncrementalHasher hasher, int level, int index, int below) {
+		byte[] children = levels[level - 1];
+		int left = 2 * index;
+
+		if (left + 1 < below) {
+			hasher.update(NODE_PREFIX);
+			hasher.update(children, left * length, 2 * length);
+			hasher.finishInto(levels[level], index * length);
+		}
+		else
+			// the left child has no sibling: it gets promoted
+			System.arraycopy(children, left * length, levels[level], index * length, length);
+	}
+
+	/**
+	 * Something that hashes the nodes in a range of positions of a level of the tree.
+	 */
+	private interface RangeHasher {
+		void hash(IncrementalHasher hasher, int from, int to);
+	}
+
+	/**
+	 * Runs the given range hasher on all positions from 0 to {@code count},
+	 * in parallel if {@code count} is large.
+	 * 
+	 * @param count the number of positions
+	 * @param rangeHasher the range hasher
+	 */
+	private void computeInParallel(int count, RangeHasher rangeHasher) {
+		if (count <= MIN_PARALLEL_CHUNK)
+			rangeHasher.hash(hasher, 0, count);
+		else {
+			int chunk = Math.max(MIN_PARALLEL_CHUNK, count / (4 * ForkJoinPool.getCommonPoolParallelism()));
+			new RangeTask(rangeHasher, 0, count, chunk).invoke();
+		}
+	}
+
+	/**
+	 * A task that hashes a range of positions, splitting it in two halves if it is too big.
+	 * Each task uses its own incremental hasher, since incremental hashers are not thread-safe.
+	 */
+	private class RangeTask extends RecursiveAction {
+		private final static long serialVersionUID = 1L;
+		private final RangeHasher rangeHasher;
+		private final int from;
+		private final int to;
+		private final int chunk;
+
+		private RangeTask(RangeHasher rangeHasher, int from, int to, int chunk) {
+			this.rangeHasher = rangeHasher;
+			this.from = from;
+			this.to = to;
+			this.chunk = chunk;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= chunk)
+				rangeHasher.hash(algorithm.getIncrementalHasher(), from, to);
+			else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new RangeTask(rangeHasher, from, middle, chunk), new RangeTask(rangeHasher, middle, to, chunk));
+			}
+		}
+	}
+}
\ No newline at end of file
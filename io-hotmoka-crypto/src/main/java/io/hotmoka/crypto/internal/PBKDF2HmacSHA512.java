@@ -0,0 +1,295 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.util.stream.IntStream;
+
+/**
+ * An implementation of the PBKDF2 key derivation function with HMAC-SHA512 as pseudo-random
+ * function (RFC 8018). It computes the inner and outer states of the HMAC for the password only once
+ * and then runs the iterations over arrays of longs, without allocating memory: each iteration
+ * costs exactly two compressions of SHA-512. The output blocks are independent, hence they
+ * are computed in parallel when more than one is needed.
+ */
+final class PBKDF2HmacSHA512 {
+
+	/**
+	 * The length of the blocks of SHA-512, in bytes.
+	 */
+	private final static int BLOCK_LENGTH = 128;
+
+	/**
+	 * The length of the output of SHA-512, in bytes.
+	 */
+	private final static int OUTPUT_LENGTH = 64;
+
+	/**
+	 * The length, in bits, of the messages hashed at each iteration: a block of key pad followed by an output of SHA-512.
+	 */
+	private final static long ITERATION_MESSAGE_BITS = (BLOCK_LENGTH + OUTPUT_LENGTH) * 8L;
+
+	/**
+	 * The initial state of SHA-512.
+	 */
+	private final static long[] IV = {
+		0x6a09e667f3bcc908L, 0xbb67ae8584caa73bL, 0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L,
+		0x510e527fade682d1L, 0x9b05688c2b3e6c1fL, 0x1f83d9abfb41bd6bL, 0x5be0cd19137e2179L
+	};
+
+	/**
+	 * The round constants of SHA-512.
+	 */
+	private final static long[] K = {
+		0x428a2f98d728ae22L, 0x7137449123ef65cdL, 0xb5c0fbcfec4d3b2fL, 0xe9b5dba58189dbbcL,
+		0x3956c25bf348b538L, 0x59f111f1b605d019L, 0x923f82a4af194f9bL, 0xab1c5ed5da6d8118L,
+		0xd807aa98a3030242L, 0x12835b0145706fbeL, 0x243185be4ee4b28cL, 0x550c7dc3d5ffb4e2L,
+		0x72be5d74f27b896fL, 0x80deb1fe3b1696b1L, 0x9bdc06a725c71235L, 0xc19bf174cf692694L,
+		0xe49b69c19ef14ad2L, 0xefbe4786384f25e3L, 0x0fc19dc68b8cd5b5L, 0x240ca1cc77ac9c65L,
+		0x2de92c6f592b0275L, 0x4a7484aa6ea6e483L, 0x5cb0a9dcbd41fbd4L, 0x76f988da831153b5L,
+		0x983e5152ee66dfabL, 0xa831c66d2db43210L, 0xb00327c898fb213fL, 0xbf597fc7beef0ee4L,
+		0xc6e00bf33da88fc2L, 0xd5a79147930aa725L, 0x06ca6351e003826fL, 0x142929670a0e6e70L,
+		0x27b70a8546d22ffcL, 0x2e1b21385c26c926L, 0x4d2c6dfc5ac42aedL, 0x53380d139d95b3dfL,
+		0x650a73548baf63deL, 0x766a0abb3c77b2a8L, 0x81c2c92e47edaee6L, 0x92722c851482353bL,
+		0xa2bfe8a14cf10364L, 0xa81a664bbc423001L, 0xc24b8b70d0f89791L, 0xc76c51a30654be30L,
+		0xd192e819d6ef5218L, 0xd69906245565a910L, 0xf40e35855771202aL, 0x106aa07032bbd1b8L,
+		0x19a4c116b8d2d0c8L, 0x1e376c085141ab53L, 0x2748774cdf8eeb99L, 0x34b0bcb5e19b48a8L,
+		0x391c0cb3c5c95a63L, 0x4ed8aa4ae3418acbL, 0x5b9cca4f7763e373L, 0x682e6ff3d6b2b8a3L,
+		0x748f82ee5defb2fcL, 0x78a5636f43172f60L, 0x84c87814a1f0ab72L, 0x8cc702081a6439ecL,
+		0x90befffa23631e28L, 0xa4506cebde82bde9L, 0xbef9a3f7b2c67915L, 0xc67178f2e372532bL,
+		0xca273eceea26619cL, 0xd186b8c721c0c207L, 0xeada7dd6cde0eb1eL, 0xf57d4f7fee6ed178L,
+		0x06f067aa72176fbaL, 0x0a637dc5a2c898a6L, 0x113f9804bef90daeL, 0x1b710b35131c471bL,
+		0x28db77f523047d84L, 0x32caab7b40c72493L, 0x3c9ebe0a15c9bebcL, 0x431d67c49c100d4cL,
+		0x4cc5d4becb3e42b6L, 0x597f299cfc657e2aL, 0x5fcb6fab3ad6faecL, 0x6c44198c4a475817L
+	};
+
+	/**
+	 * The state of SHA-512 after processing the password padded and xor-ed with {@code 0x36}.
+	 */
+	private final long[] innerState;
+
+	/**
+	 * The state of SHA-512 after processing the password padded and xor-ed with {@code 0x5c}.
+	 */
+	private final long[] outerState;
+
+	/**
+	 * Creates the key derivation function for the given password.
+	 * 
+	 * @param password the password
+	 */
+	PBKDF2HmacSHA512(byte[] password) {
+		var w = new long[80];
+		byte[] key = password;
+		if (key.length > BLOCK_LENGTH) {
+			long[] state = IV.clone();
+			hash(state, key, 0L, w);
+			key = toBytes(state, OUTPUT_LENGTH);
+		}
+
+		var pad = new byte[BLOCK_LENGTH];
+		this.innerState = padState(key, pad, (byte) 0x36, w);
+		this.outerState = padState(key, pad, (byte) 0x5c, w);
+	}
+
+	/**
+	 * Derives a key from the password of this function.
+	 * 
+	 * @param salt the salt
+	 * @param iterations the number of iterations
+	 * @param bits the length of the derived key, in bits; it must be a multiple of 8
+	 * @return the derived key
+	 * @throws IllegalArgumentException if {@code iterations} is not positive or {@code bits} is not a positive multiple of 8
+	 */
+	byte[] derive(byte[] salt, int iterations, int bits) {
+		if (iterations <= 0)
+			throw new IllegalArgumentException("iterations must be positive");
+
+		if (bits <= 0 || bits % 8 != 0)
+			throw new IllegalArgumentException("bits must be a positive multiple of 8");
+
+		var result = new byte[bits / 8];
+		int blocks = (result.length + OUTPUT_LENGTH - 1) / OUTPUT_LENGTH;
+		if (blocks == 1)
+			computeBlock(salt, iterations, 1, result);
+		else
+			// each block writes a distinct portion of the result
+			IntStream.rangeClosed(1, blocks).parallel().forEach(index -> computeBlock(salt, iterations, index, result));
+
+		return result;
+	}
+
+	/**
+	 * Computes a block of the derived key and writes it into its portion of the result.
+	 * 
+	 * @param salt the salt
+	 * @param iterations the number of iterations
+	 * @param index the index of the block, starting at 1
+	 * @param result the array where the block must be written
+	 */
+	private void computeBlock(byte[] salt, int iterations, int index, byte[] result) {
+		var w = new long[80];
+
+		// u = HMAC(password, salt || index)
+		var message = new byte[salt.length + 4];
+		System.arraycopy(salt, 0, message, 0, salt.length);
+		message[salt.length] = (byte) (index >>> 24);
+		message[salt.length + 1] = (byte) (index >>> 16);
+		message[salt.length + 2] = (byte) (index >>> 8);
+		message[salt.length + 3] = (byte) index;
+		long[] inner = innerState.clone();
+		hash(inner, message, BLOCK_LENGTH, w);
+		long[] u = outerState.clone();
+		hashOutput(u, inner, w);
+
+		long[] t = u.clone();
+		for (int iteration = 1; iteration < iterations; iteration++) {
+			// u = HMAC(password, u), that is, the hash of the outer pad followed by the hash of the inner pad followed by u
+			System.arraycopy(innerState, 0, inner, 0, 8);
+			hashOutput(inner, u, w);
+			System.arraycopy(outerState, 0, u, 0, 8);
+			hashOutput(u, inner, w);
+
+			for (int pos = 0; pos < 8; pos++)
+				t[pos] ^= u[pos];
+		}
+
+		int offset = (index - 1) * OUTPUT_LENGTH;
+		int length = Math.min(OUTPUT_LENGTH, result.length - offset);
+		for (int pos = 0; pos < length; pos++)
+			result[offset + pos] = (byte) (t[pos >>> 3] >>> (56 - ((pos & 7) << 3)));
+	}
+
+	/**
+	 * Yields the state of SHA-512 after processing a block consisting of the key, padded with zeros
+	 * and xor-ed with the given byte.
+	 * 
+	 * @param key the key, not longer than a block
+	 * @param pad a scratch array as long as a block
+	 * @param xor the byte xor-ed with the padded key
+	 * @param w the scratch array for the message schedule
+	 * @return the state
+	 */
+	private static long[] padState(byte[] key, byte[] pad, byte xor, long[] w) {
+		for (int pos = 0; pos < BLOCK_LENGTH; pos++)
+			pad[pos] = (byte) ((pos < key.length ? key[pos] : 0) ^ xor);
+
+		for (int pos = 0; pos < 16; pos++)
+			w[pos] = readLong(pad, pos * 8);
+
+		long[] state = IV.clone();
+		compress(state, w);
+		return state;
+	}
+
+	/**
+	 * Completes the hash of a message consisting of a block already processed into the state,
+	 * followed by the given output of SHA-512. This is the only hash computed at each iteration,
+	 * hence it does not allocate memory.
+	 * 
+	 * @param state the state, that gets modified into the final hash
+	 * @param output the output of SHA-512, as 8 longs
+	 * @param w the scratch array for the message schedule
+	 */
+	private static void hashOutput(long[] state, long[] output, long[] w) {
+		System.arraycopy(output, 0, w, 0, 8);
+		w[8] = 0x8000000000000000L;
+		for (int pos = 9; pos < 15; pos++)
+			w[pos] = 0L;
+		w[15] = ITERATION_MESSAGE_BITS;
+		compress(state, w);
+	}
+
+	/**
+	 * Completes the hash of a message, of which the first bytes have been already processed into the state.
+	 * 
+	 * @param state the state, that gets modified into the final hash
+	 * @param message the rest of the message
+	 * @param processed the number of bytes already processed into the state; it must be a multiple of the block length
+	 * @param w the scratch array for the message schedule
+	 */
+	private static void hash(long[] state, byte[] message, long processed, long[] w) {
+		// the message is followed by a 1 bit, zeros and the 128 bits of its length in bits
+		var padded = new byte[(message.length + 17 + BLOCK_LENGTH - 1) / BLOCK_LENGTH * BLOCK_LENGTH];
+		System.arraycopy(message, 0, padded, 0, message.length);
+		padded[message.length] = (byte) 0x80;
+		long bits = (processed + message.length) * 8L;
+		for (int pos = 0; pos < 8; pos++)
+			padded[padded.length - 1 - pos] = (byte) (bits >>> (pos * 8));
+
+		for (int block = 0; block < padded.length; block += BLOCK_LENGTH) {
+			for (int pos = 0; pos < 16; pos++)
+				w[pos] = readLong(padded, block + pos * 8);
+
+			compress(state, w);
+		}
+	}
+
+	/**
+	 * The compression function of SHA-512. It leaves the first 16 elements of {@code w} unchanged.
+	 * 
+	 * @param state the state, that gets updated
+	 * @param w the message schedule, whose first 16 elements are the block to compress
+	 */
+	private static void compress(long[] state, long[] w) {
+		for (int t = 16; t < 80; t++) {
+			long w15 = w[t - 15], w2 = w[t - 2];
+			long s0 = Long.rotateRight(w15, 1) ^ Long.rotateRight(w15, 8) ^ (w15 >>> 7);
+			long s1 = Long.rotateRight(w2, 19) ^ Long.rotateRight(w2, 61) ^ (w2 >>> 6);
+			w[t] = w[t - 16] + s0 + w[t - 7] + s1;
+		}
+
+		long a = state[0], b = state[1], c = state[2], d = state[3], e = state[4], f = state[5], g = state[6], h = state[7];
+
+		for (int t = 0; t < 80; t++) {
+			long t1 = h + (Long.rotateRight(e, 14) ^ Long.rotateRight(e, 18) ^ Long.rotateRight(e, 41)) + ((e & f) ^ (~e & g)) + K[t] + w[t];
+			long t2 = (Long.rotateRight(a, 28) ^ Long.rotateRight(a, 34) ^ Long.rotateRight(a, 39)) + ((a & b) ^ (a & c) ^ (b & c));
+			h = g;
+			g = f;
+			f = e;
+			e = d + t1;
+			d = c;
+			c = b;
+			b = a;
+			a = t1 + t2;
+		}
+
+		state[0] += a;
+		state[1] += b;
+		state[2] += c;
+		state[3] += d;
+		state[4] += e;
+		state[5] += f;
+		state[6] += g;
+		state[7] += h;
+	}
+
+	private static long readLong(byte[] bytes, int offset) {
+		long result = 0L;
+		for (int pos = 0; pos < 8; pos++)
+			result = (result << 8) | (bytes[offset + pos] & 0xffL);
+
+		return result;
+	}
+
+	private static byte[] toBytes(long[] state, int length) {
+		var result = new byte[length];
+		for (int pos = 0; pos < length; pos++)
+			result[pos] = (byte) (state[pos >>> 3] >>> (56 - ((pos & 7) << 3)));
+
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.hotmoka.crypto.api.PublicKeyCache;
+import io.hotmoka.crypto.internal.AbstractSignatureAlgorithmImpl.PublicKeyDecoder;
+
+/**
+ * Implementation of a bounded cache of decoded public keys, keyed by their encoding.
+ * Lookups never lock and keys are evicted with the CLOCK policy.
+ */
+final class PublicKeyCacheImpl implements PublicKeyCache {
+	private final ClockCache<ByteArrayKey, PublicKey> cache;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Creates an empty cache.
+	 * 
+	 * @param capacity the maximal number of public keys kept in the cache; 0 disables the cache
+	 */
+	PublicKeyCacheImpl(int capacity) {
+		this.cache = new ClockCache<>(capacity);
+	}
+
+	/**
+	 * Yields the public key with the given encoding, from this cache if possible.
+	 * Otherwise it decodes the public key and adds it to this cache.
+	 * 
+	 * @param encoding the encoding of the public key
+	 * @param decoder the decoder used if the public key is not in this cache
+	 * @return the public key
+	 * @throws InvalidKeySpecException if {@code encoding} does not match the expected specification
+	 */
+	PublicKey get(byte[] encoding, PublicKeyDecoder decoder) throws InvalidKeySpecException {
+		var publicKey = cache.get(new ByteArrayKey(encoding));
+		if (publicKey != null) {
+			hits.increment();
+			return publicKey;
+		}
+
+		misses.increment();
+		publicKey = decoder.decode(encoding);
+		// the encoding is copied, since the caller might modify it later
+		cache.add(new ByteArrayKey(encoding.clone()), publicKey);
+
+		return publicKey;
+	}
+
+	@Override
+	public int getCapacity() {
+		return cache.getCapacity();
+	}
+
+	@Override
+	public void setCapacity(int capacity) {
+		cache.setCapacity(capacity);
+	}
+
+	@Override
+	public int size() {
+		return cache.size();
+	}
+
+	@Override
+	public void clear() {
+		cache.clear();
+	}
+
+	@Override
+	public long getHits() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	@Override
+	public long getEvictions() {
+		return cache.getEvictions();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,275 @@
+/*
+Copyright 2021 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.io.IOException;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.SignatureException;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.OptionalInt;
+
+import org.bouncycastle.crypto.CryptoServicesRegistrar;
+import org.bouncycastle.pqc.crypto.qtesla.QTESLASigner;
+import org.bouncycastle.pqc.crypto.util.PrivateKeyFactory;
+import org.bouncycastle.pqc.crypto.util.PublicKeyFactory;
+import org.bouncycastle.pqc.jcajce.provider.BouncyCastlePQCProvider;
+import org.bouncycastle.pqc.jcajce.spec.QTESLAParameterSpec;
+
+/**
+ * A signature algorithm that signs data with the qTESLA signature scheme,
+ * either at its security level I (qTESLA-p-I) or III (qTESLA-p-III).
+ */
+public class QTESLA extends AbstractSignatureAlgorithmImpl {
+
+    /**
+     * The security level of this algorithm, either 1 or 3.
+     */
+    private final int securityLevel;
+
+    /**
+     * The name of the parameters of the qTESLA scheme at the security level of this algorithm.
+     */
+    private final String parameters;
+
+    /**
+     * The length of the public keys, private keys and signatures, at the security level of this algorithm.
+     */
+    private final int publicKeyLength, privateKeyLength, length;
+
+    /**
+     * The key pair generators of the threads that use this algorithm, created lazily.
+     */
+    private final ThreadLocal<KeyPairGenerator> keyPairGenerators = perThread(() -> newKeyPairGenerator(CryptoServicesRegistrar.getSecureRandom()));
+
+    /**
+     * The key factories of the threads that use this algorithm, created lazily.
+     */
+    private final ThreadLocal<KeyFactory> keyFactories = perThread(this::mkKeyFactory);
+
+    /**
+     * The capacity of the cache of the decoded public keys: qTESLA public keys
+     * are between 15KB and 38KB long, hence fewer of them are kept in memory than for other algorithms.
+     */
+    private final static int PUBLIC_KEY_CACHE_CAPACITY = 256;
+
+    /**
+     * Creates the qTESLA signature algorithm at the given security level.
+     * 
+     * @param securityLevel the security level, either 1 (qTESLA-p-I) or 3 (qTESLA-p-III)
+     * @throws NoSuchAlgorithmException if the installation does not include the qTESLA algorithm
+     * @throws IllegalArgumentException if {@code securityLevel} is neither 1 nor 3
+     */
+    public QTESLA(int securityLevel) throws NoSuchAlgorithmException {
+    	super(PUBLIC_KEY_CACHE_CAPACITY);
+
+    	this.securityLevel = securityLevel;
+
+    	switch (securityLevel) {
+    	case 1:
+    		this.parameters = QTESLAParameterSpec.PROVABLY_SECURE_I;
+    		this.publicKeyLength = 14904;
+    		this.privateKeyLength = 5254;
+    		this.length = 2592;
+    		break;
+    	case 3:
+    		this.parameters = QTESLAParameterSpec.PROVABLY_SECURE_III;
+    		this.publicKeyLength = 38456;
+    		this.privateKeyLength = 12422;
+    		this.length = 5664;
+    		break;
+    	default:
+    		throw new IllegalArgumentException("The security level of qTESLA must be 1 or 3");
+    	}
+
+    	try {
+    		ensureProvider();
+    		// we check immediately that the key factory and the key pair generator are available: the current thread will use them
+    		keyFactories.set(mkKeyFactory());
+    		keyPairGenerators.set(newKeyPairGenerator(CryptoServicesRegistrar.getSecureRandom()));
+    	}
+    	catch (NoSuchProviderException e) {
+    		throw new NoSuchAlgorithmException(e);
+    	}
+    }
+
+    private KeyFactory mkKeyFactory() throws NoSuchAlgorithmException, NoSuchProviderException {
+    	return KeyFactory.getInstance("qTESLA", "BCPQC");
+    }
+
+    private KeyPairGenerator newKeyPairGenerator(SecureRandom random) throws NoSuchAlgorithmException, NoSuchProviderException {
+    	try {
+    		var keyPairGenerator = KeyPairGenerator.getInstance("qTESLA", "BCPQC");
+    		keyPairGenerator.initialize(new QTESLAParameterSpec(parameters), random);
+    		return keyPairGenerator;
+    	}
+		catch (InvalidAlgorithmParameterException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+    @Override
+	protected KeyPairGenerator mkKeyPairGenerator(SecureRandom random) {
+    	try {
+			return newKeyPairGenerator(random);
+		}
+    	catch (NoSuchAlgorithmException | NoSuchProviderException e) {
+    		// impossible, since this object has been already constructed successfully
+    		throw new RuntimeException("unexpected exception", e);
+		}
+	}
+
+	@Override
+    public KeyPair getKeyPair() {
+    	return keyPairGenerators.get().generateKeyPair();
+    }
+
+    @Override
+    protected byte[] sign(byte[] bytes, PrivateKey privateKey) throws SignatureException {
+    	try {
+    		return mkSigner(privateKey).generateSignature(bytes);
+    	}
+    	catch (Exception e) {
+    		throw new SignatureException("cannot generate signature", e);
+    	}
+    }
+
+    @Override
+    protected boolean verify(byte[] bytes, PublicKey publicKey, byte[] signature) throws InvalidKeyException, SignatureException {
+    	try {
+    		return mkVerifier(publicKey).verifySignature(bytes, signature);
+    	}
+    	catch (InvalidKeyException e) {
+    		throw e;
+    	}
+    	catch (Exception e) {
+    		throw new SignatureException("cannot verify signature", e);
+    	}
+    }
+
+    @Override
+    protected BytesSigner signerFor(PrivateKey privateKey) {
+    	try {
+    		// the key is parsed once: the signer keeps no state besides the key, hence it can be shared by threads
+    		return mkSigner(privateKey)::generateSignature;
+    	}
+    	catch (Exception e) {
+    		// the key is invalid: each signature will report the problem
+    		return super.signerFor(privateKey);
+    	}
+    }
+
+    @Override
+    protected BytesVerifier verifierFor(PublicKey publicKey) {
+    	try {
+    		// the key is parsed once and the signer can be shared by threads, as above
+    		return mkVerifier(publicKey)::verifySignature;
+    	}
+    	catch (Exception e) {
+    		// the key is invalid: each verification will report the problem
+    		return super.verifierFor(publicKey);
+    	}
+    }
+
+    /**
+     * Yields a qTESLA signer initialized for signing with the given private key.
+     * 
+     * @param privateKey the private key
+     * @return the signer
+     * @throws InvalidKeyException if the private key cannot be encoded
+     * @throws IOException if the encoding of the private key cannot be parsed
+     */
+    private QTESLASigner mkSigner(PrivateKey privateKey) throws InvalidKeyException, IOException {
+    	var signer = new QTESLASigner();
+    	signer.init(true, PrivateKeyFactory.createKey(encodingOf(privateKey)));
+    	return signer;
+    }
+
+    /**
+     * Yields a qTESLA signer initialized for verification with the given public key.
+     * 
+     * @param publicKey the public key
+     * @return the signer
+     * @throws InvalidKeyException if the public key cannot be encoded
+     * @throws IOException if the encoding of the public key cannot be parsed
+     */
+    private QTESLASigner mkVerifier(PublicKey publicKey) throws InvalidKeyException, IOException {
+    	var signer = new QTESLASigner();
+    	signer.init(false, PublicKeyFactory.createKey(encodingOf(publicKey)));
+    	return signer;
+    }
+
+    @Override
+    public PublicKey publicKeyFromEncoding(byte[] encoded) throws InvalidKeySpecException {
+    	return publicKeyFromEncoding(encoded, this::decodePublicKey);
+    }
+
+    private PublicKey decodePublicKey(byte[] encoded) throws InvalidKeySpecException {
+        return keyFactories.get().generatePublic(new X509EncodedKeySpec(encoded));
+    }
+
+    @Override
+	public PrivateKey privateKeyFromEncoding(byte[] encoded) throws InvalidKeySpecException {
+		return keyFactories.get().generatePrivate(new PKCS8EncodedKeySpec(encoded));
+	}
+
+    @Override
+	public String getName() {
+		return "qtesla" + securityLevel;
+	}
+
+    @Override
+	public OptionalInt publicKeyLength() {
+		return OptionalInt.of(publicKeyLength);
+	}
+
+	@Override
+	public OptionalInt privateKeyLength() {
+		return OptionalInt.of(privateKeyLength);
+	}
+
+	@Override
+	public OptionalInt length() {
+		return OptionalInt.of(length);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return super.equals(other) && ((QTESLA) other).securityLevel == securityLevel;
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode() ^ securityLevel;
+	}
+
+	private static void ensureProvider() {
+    	 if (Security.getProvider(BouncyCastlePQCProvider.PROVIDER_NAME) == null)
+             Security.addProvider(new BouncyCastlePQCProvider());
+	}
+}
\ No newline at end of file
@@ -19,34 +19,20 @@ package io.hotmoka.crypto.internal;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
-import io.hotmoka.crypto.AbstractHashingAlgorithm;
-
 /**
  * The SHA256 hashing algorithm.
  */
-public class SHA256 extends AbstractHashingAlgorithm {
-
-	private final MessageDigest digest;
+public class SHA256 extends AbstractMessageDigestHashingAlgorithm {
 
 	public SHA256() throws NoSuchAlgorithmException {
-		this.digest = MessageDigest.getInstance("SHA-256");
+		// we check immediately that the digest is available: getDigest() would
+		// wrap the NoSuchAlgorithmException into a RuntimeException instead
+		mkDigest();
 	}
 
 	@Override
-	protected byte[] hash(byte[] bytes) {
-		synchronized (digest) {
-			digest.reset();
-			return digest.digest(bytes);
-		}
-	}
-
-	@Override
-	protected byte[] hash(byte[] bytes, int start, int length) {
-		synchronized (digest) {
-			digest.reset();
-			digest.update(bytes, start, length);
-			return digest.digest();
-		}
+	protected MessageDigest mkDigest() throws NoSuchAlgorithmException {
+		return MessageDigest.getInstance("SHA-256");
 	}
 
 	@Override
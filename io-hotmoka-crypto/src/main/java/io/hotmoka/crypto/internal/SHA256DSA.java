@@ -36,12 +36,10 @@ import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
 import org.bouncycastle.crypto.CryptoServicesRegistrar;
-import org.bouncycastle.crypto.digests.SHA512Digest;
-import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
-import org.bouncycastle.crypto.params.KeyParameter;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
 import io.hotmoka.crypto.api.BIP39Dictionary;
+import io.hotmoka.crypto.api.Marshaller;
 
 /**
  * A signature algorithm that hashes data with SHA256 and then
@@ -50,39 +48,45 @@ import io.hotmoka.crypto.api.BIP39Dictionary;
 public class SHA256DSA extends AbstractSignatureAlgorithmImpl {
 
 	/**
-	 * The actual signing algorithm.
+	 * The signature engines of the threads that use this algorithm, created lazily.
+	 * Threads do not contend for a single engine, hence signing and verification scale with the cores.
 	 */
-	private final Signature signature;
+	private final ThreadLocal<Signature> signatures = perThread(SHA256DSA::mkSignature);
 
 	/**
-	 * The key pair generator.
+	 * The key pair generators of the threads that use this algorithm, created lazily.
 	 */
-	private final KeyPairGenerator keyPairGenerator;
+	private final ThreadLocal<KeyPairGenerator> keyPairGenerators = ThreadLocal.withInitial(() -> mkKeyPairGenerator(CryptoServicesRegistrar.getSecureRandom()));
 
 	/**
-	 * The key factory.
+	 * The key factories of the threads that use this algorithm, created lazily.
 	 */
-	private final KeyFactory keyFactory;
+	private final ThreadLocal<KeyFactory> keyFactories = perThread(this::mkKeyFactory);
 
 	public SHA256DSA() throws NoSuchAlgorithmException {
 		try {
 			ensureProvider();
-			this.signature = Signature.getInstance("SHA256withDSA", "BC");
-			this.keyPairGenerator = mkKeyPairGenerator(CryptoServicesRegistrar.getSecureRandom());
-			this.keyFactory = KeyFactory.getInstance("DSA", "SUN");
+			// we check immediately that the signature engine is available: the current thread will use it
+			signatures.set(mkSignature());
+			// we check immediately that the key factory is available: the current thread will use it
+			keyFactories.set(mkKeyFactory());
 		}
     	catch (NoSuchProviderException e) {
     		throw new NoSuchAlgorithmException(e);
     	}
 	}
 
+	private KeyFactory mkKeyFactory() throws NoSuchAlgorithmException, NoSuchProviderException {
+		return KeyFactory.getInstance("DSA", "SUN");
+	}
+
 	private KeyPairGenerator newKeyPairGenerator(SecureRandom random) throws NoSuchAlgorithmException, NoSuchProviderException {
 		var keyPairGenerator = KeyPairGenerator.getInstance("DSA", "BC");
 		keyPairGenerator.initialize(2048, random);
 		return keyPairGenerator;
 	}
 
-    @Override
+	@Override
 	protected KeyPairGenerator mkKeyPairGenerator(SecureRandom random) {
     	try {
 			return newKeyPairGenerator(random);
@@ -112,48 +116,87 @@ public class SHA256DSA extends AbstractSignatureAlgorithmImpl {
 				String salt = String.format("mnemonic%s", password);
 
 				// 2048 iterations of the key-stretching algorithm PBKDF2 using HMAC-SHA512
-				var gen = new PKCS5S2ParametersGenerator(new SHA512Digest());
-				gen.init(mnemonic.getBytes(StandardCharsets.UTF_8), salt.getBytes(StandardCharsets.UTF_8), 2048);
-
-				return ((KeyParameter) gen.generateDerivedParameters(1792)).getKey();
+				return new PBKDF2HmacSHA512(mnemonic.getBytes(StandardCharsets.UTF_8)).derive(salt.getBytes(StandardCharsets.UTF_8), 2048, 1792);
 			}
 		};
 
-		return mkKeyPairGenerator(random).generateKeyPair();
+		return mkKeyPair(random);
 	}
 
 	@Override
 	public KeyPair getKeyPair() {
-		return keyPairGenerator.generateKeyPair();
+		return keyPairGenerators.get().generateKeyPair();
 	}
 
 	@Override
 	protected byte[] sign(byte[] bytes, PrivateKey privateKey) throws InvalidKeyException, SignatureException {
-		synchronized (signature) {
-			signature.initSign(privateKey);
-			signature.update(bytes);
-			return signature.sign();
-		}
+		var engine = signatures.get();
+		engine.initSign(privateKey);
+		engine.update(bytes);
+		return engine.sign();
 	}
 
 	@Override
 	protected boolean verify(byte[] bytes, PublicKey publicKey, byte[] signature) throws InvalidKeyException, SignatureException {
-		synchronized (this.signature) { 
-			this.signature.initVerify(publicKey);
-			this.signature.update(bytes);
-			return this.signature.verify(signature);
+		var engine = signatures.get();
+		engine.initVerify(publicKey);
+		engine.update(bytes);
+		return engine.verify(signature);
+	}
+
+	/**
+	 * Feeds the bytes of the value into a fresh signature engine, while they get marshalled.
+	 * Since the value gets hashed before being signed, its bytes are never kept in memory.
+	 * A fresh engine is used, since the marshaller might itself sign other values with this algorithm.
+	 */
+	@Override
+	protected <T> byte[] sign(T what, Marshaller<? super T> marshaller, PrivateKey privateKey) throws InvalidKeyException, SignatureException {
+		var engine = mkFreshSignature();
+		engine.initSign(privateKey);
+		update(engine, what, marshaller);
+		return engine.sign();
+	}
+
+	/**
+	 * Feeds the bytes of the value into a fresh signature engine, while they get marshalled.
+	 * Since the value gets hashed before its signature is verified, its bytes are never kept in memory.
+	 * A fresh engine is used, since the marshaller might itself verify other values with this algorithm.
+	 */
+	@Override
+	protected <T> boolean verify(T what, Marshaller<? super T> marshaller, PublicKey publicKey, byte[] signature) throws InvalidKeyException, SignatureException {
+		var engine = mkFreshSignature();
+		engine.initVerify(publicKey);
+		update(engine, what, marshaller);
+		return engine.verify(signature);
+	}
+
+	private static Signature mkSignature() throws NoSuchAlgorithmException, NoSuchProviderException {
+		return Signature.getInstance("SHA256withDSA", "BC");
+	}
+
+	private static Signature mkFreshSignature() {
+		try {
+			return mkSignature();
+		}
+		catch (NoSuchAlgorithmException | NoSuchProviderException e) {
+			// impossible, since this object has been already constructed successfully
+			throw new RuntimeException("unexpected exception", e);
 		}
 	}
 
 	@Override
 	public PublicKey publicKeyFromEncoding(byte[] encoded) throws InvalidKeySpecException {
+		return publicKeyFromEncoding(encoded, this::decodePublicKey);
+	}
+
+	private PublicKey decodePublicKey(byte[] encoded) throws InvalidKeySpecException {
 		var pubKeySpec = new X509EncodedKeySpec(encoded);
-		return keyFactory.generatePublic(pubKeySpec);
+		return keyFactories.get().generatePublic(pubKeySpec);
 	}
 
 	@Override
 	public PrivateKey privateKeyFromEncoding(byte[] encoded) throws InvalidKeySpecException {
-		return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(encoded));
+		return keyFactories.get().generatePrivate(new PKCS8EncodedKeySpec(encoded));
 	}
 
     @Override
@@ -0,0 +1,37 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+/**
+ * The the SHA3-256 hashing algorithm, as standardized in FIPS 202.
+ */
+public class SHA3_256 extends AbstractKeccak256 {
+
+	public SHA3_256() {
+		super((byte) 0x06);
+	}
+
+	@Override
+	public SHA3_256 clone() {
+		return new SHA3_256();
+	}
+
+	@Override
+	public String getName() {
+		return "sha3_256"; // optimization
+	}
+}
\ No newline at end of file
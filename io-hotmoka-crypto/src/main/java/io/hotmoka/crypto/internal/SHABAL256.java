@@ -1,36 +1,62 @@
 package io.hotmoka.crypto.internal;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.security.DigestException;
 import java.security.MessageDigest;
-
-import io.hotmoka.crypto.AbstractHashingAlgorithm;
+import java.util.Arrays;
 
 /**
  * The SHABAL256 hashing algorithm.
  */
-public class SHABAL256 extends AbstractHashingAlgorithm {
+public class SHABAL256 extends AbstractMessageDigestHashingAlgorithm {
 
-	private final MessageDigest digest;
+	public SHABAL256() {}
 
-	public SHABAL256() {
-		this.digest = new Shabal256Digest();
+	@Override
+	protected MessageDigest mkDigest() {
+		return new Shabal256Digest();
 	}
 
+	/**
+	 * Hashes runs of {@link Shabal256MultiBuffer#LANES} consecutive inputs of the same length
+	 * in lock-step, with a multi-buffer engine. The other inputs are hashed one by one.
+	 */
 	@Override
-	protected byte[] hash(byte[] bytes) {
-		synchronized (digest) {
-			digest.reset();
-			return digest.digest(bytes);
+	protected void hashBatch(byte[][] inputs, byte[][] results) {
+		Shabal256MultiBuffer engine = null;
+
+		for (int pos = 0; pos < inputs.length;) {
+			if (haveSameLength(inputs, pos, Shabal256MultiBuffer.LANES)) {
+				if (engine == null)
+					engine = new Shabal256MultiBuffer();
+
+				engine.hash(inputs, pos, results);
+				pos += Shabal256MultiBuffer.LANES;
+			}
+			else {
+				results[pos] = hash(inputs[pos]);
+				pos++;
+			}
 		}
 	}
 
+	private static boolean haveSameLength(byte[][] inputs, int from, int howMany) {
+		if (from + howMany > inputs.length)
+			return false;
+
+		int length = inputs[from].length;
+		for (int pos = from + 1; pos < from + howMany; pos++)
+			if (inputs[pos].length != length)
+				return false;
+
+		return true;
+	}
+
 	@Override
-	protected byte[] hash(byte[] bytes, int start, int length) {
-		synchronized (digest) {
-			digest.reset();
-			digest.update(bytes, start, length);
-			return digest.digest();
-		}
+	protected MessageDigest restore(MessageDigest snapshot, MessageDigest target) {
+		((Shabal256Digest) target).copyFrom((Shabal256Digest) snapshot);
+		return target;
 	}
 
 	@Override
@@ -137,6 +163,44 @@ public class SHABAL256 extends AbstractHashingAlgorithm {
 			ptr = len;
 		}
 
+		@Override
+		protected void engineUpdate(ByteBuffer input) {
+			int len = input.remaining();
+			if (input.hasArray()) {
+				engineUpdate(input.array(), input.arrayOffset() + input.position(), len);
+				input.position(input.limit());
+				return;
+			}
+
+			// whole blocks of direct buffers are compressed in place: only a pending block and the tail are staged into buf
+			int offset = input.position();
+			if (ptr != 0) {
+				int rlen = Math.min(64 - ptr, len);
+				input.get(offset, buf, ptr, rlen);
+				offset += rlen;
+				len -= rlen;
+				ptr += rlen;
+				if (ptr < 64) {
+					input.position(input.limit());
+					return;
+				}
+
+				core1();
+				ptr = 0;
+			}
+
+			int num = len >>> 6;
+			if (num > 0) {
+				core(input.order() == ByteOrder.LITTLE_ENDIAN ? input : input.duplicate().order(ByteOrder.LITTLE_ENDIAN), offset, num);
+				offset += num << 6;
+				len &= 63;
+			}
+
+			input.get(offset, buf, 0, len);
+			ptr = len;
+			input.position(input.limit());
+		}
+
 		@Override
 		protected byte[] engineDigest() {
 			var output = new byte[32];
@@ -232,14 +296,23 @@ public class SHABAL256 extends AbstractHashingAlgorithm {
 
 		@Override
 		public Shabal256Digest clone() {
-			var d = new Shabal256Digest();
-			System.arraycopy(buf, 0, d.buf, 0, ptr);
-			d.ptr = ptr;
-			System.arraycopy(state, 0, d.state, 0, 44);
-			d.W = W;
+			var d = new Shabal256Digest(false);
+			d.copyFrom(this);
 			return d;
 		}
 
+		/**
+		 * Brings this digest into the same state as the given one, without allocating.
+		 *
+		 * @param other the other digest
+		 */
+		private void copyFrom(Shabal256Digest other) {
+			System.arraycopy(other.buf, 0, buf, 0, other.ptr);
+			ptr = other.ptr;
+			System.arraycopy(other.state, 0, state, 0, 44);
+			W = other.W;
+		}
+
 		private static int decodeLEInt(byte[] data, int off) {
 			return (data[off] & 0xFF)
 					| ((data[off + 1] & 0xFF) << 8)
@@ -248,6 +321,18 @@ public class SHABAL256 extends AbstractHashingAlgorithm {
 		}
 
 		private void core(byte[] data, int off, int num) {
+			core(ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN), off, num);
+		}
+
+		/**
+		 * Compresses {@code num} blocks of 64 bytes of the given buffer, from the absolute position {@code off}.
+		 * The buffer is read through absolute accesses, hence its position is not modified.
+		 *
+		 * @param data the buffer; its order must be little-endian
+		 * @param off the position of the first block
+		 * @param num the number of blocks
+		 */
+		private void core(ByteBuffer data, int off, int num) {
 			var state = this.state;
 
 			// Extracting state vars like this yields roughly a 10%+ performance improvement
@@ -299,52 +384,52 @@ public class SHABAL256 extends AbstractHashingAlgorithm {
 			int CF = state[43];
 
 			while (num-- > 0) {
-				final int M0 = decodeLEInt(data, off);
+				final int M0 = data.getInt(off);
 				B0 += M0;
 				B0 = (B0 << 17) | (B0 >>> 15);
-				final int M1 = decodeLEInt(data, off +  4);
+				final int M1 = data.getInt(off +  4);
 				B1 += M1;
 				B1 = (B1 << 17) | (B1 >>> 15);
-				final int M2 = decodeLEInt(data, off +  8);
+				final int M2 = data.getInt(off +  8);
 				B2 += M2;
 				B2 = (B2 << 17) | (B2 >>> 15);
-				final int M3 = decodeLEInt(data, off + 12);
+				final int M3 = data.getInt(off + 12);
 				B3 += M3;
 				B3 = (B3 << 17) | (B3 >>> 15);
-				final int M4 = decodeLEInt(data, off + 16);
+				final int M4 = data.getInt(off + 16);
 				B4 += M4;
 				B4 = (B4 << 17) | (B4 >>> 15);
-				final int M5 = decodeLEInt(data, off + 20);
+				final int M5 = data.getInt(off + 20);
 				B5 += M5;
 				B5 = (B5 << 17) | (B5 >>> 15);
-				final int M6 = decodeLEInt(data, off + 24);
+				final int M6 = data.getInt(off + 24);
 				B6 += M6;
 				B6 = (B6 << 17) | (B6 >>> 15);
-				final int M7 = decodeLEInt(data, off + 28);
+				final int M7 = data.getInt(off + 28);
 				B7 += M7;
 				B7 = (B7 << 17) | (B7 >>> 15);
-				final int M8 = decodeLEInt(data, off + 32);
+				final int M8 = data.getInt(off + 32);
 				B8 += M8;
 				B8 = (B8 << 17) | (B8 >>> 15);
-				final int M9 = decodeLEInt(data, off + 36);
+				final int M9 = data.getInt(off + 36);
 				B9 += M9;
 				B9 = (B9 << 17) | (B9 >>> 15);
-				final int MA = decodeLEInt(data, off + 40);
+				final int MA = data.getInt(off + 40);
 				BA += MA;
 				BA = (BA << 17) | (BA >>> 15);
-				final int MB = decodeLEInt(data, off + 44);
+				final int MB = data.getInt(off + 44);
 				BB += MB;
 				BB = (BB << 17) | (BB >>> 15);
-				final int MC = decodeLEInt(data, off + 48);
+				final int MC = data.getInt(off + 48);
 				BC += MC;
 				BC = (BC << 17) | (BC >>> 15);
-				final int MD = decodeLEInt(data, off + 52);
+				final int MD = data.getInt(off + 52);
 				BD += MD;
 				BD = (BD << 17) | (BD >>> 15);
-				final int ME = decodeLEInt(data, off + 56);
+				final int ME = data.getInt(off + 56);
 				BE += ME;
 				BE = (BE << 17) | (BE >>> 15);
-				final int MF = decodeLEInt(data, off + 60);
+				final int MF = data.getInt(off + 60);
 				BF += MF;
 				BF = (BF << 17) | (BF >>> 15);
 
@@ -818,4 +903,167 @@ public class SHABAL256 extends AbstractHashingAlgorithm {
 			return 32;
 		}
 	}
+
+	/**
+	 * A multi-buffer engine for SHABAL256, that hashes {@link #LANES} independent
+	 * messages of the same length in lock-step. The state of the messages is kept word by word,
+	 * with the values of each word for all messages stored contiguously, so that each step of the
+	 * compression function is a loop over the messages, that the just-in-time compiler can turn
+	 * into vector instructions. Since the messages have the same length, they share the block counter.
+	 * The result is bit-identical to that of {@link Shabal256Digest}. Engines are not thread-safe.
+	 */
+	private static class Shabal256MultiBuffer {
+
+		/**
+		 * The number of messages hashed in lock-step.
+		 */
+		private final static int LANES = 32;
+
+		/**
+		 * The rows of the words used at each of the 48 steps of the permutation: the word of
+		 * {@code A} that gets updated and the previous one, the word of {@code C}, the word of {@code B} (and of {@code M})
+		 * that gets updated and those of {@code B} at distance 13, 9 and 6 from it.
+		 */
+		private final static int[] A_CURRENT = new int[48], A_PREVIOUS = new int[48], C_CURRENT = new int[48],
+			B_CURRENT = new int[48], B_PLUS_13 = new int[48], B_PLUS_9 = new int[48], B_PLUS_6 = new int[48];
+
+		static {
+			for (int step = 0; step < 48; step++) {
+				int i = step & 15;
+				A_CURRENT[step] = step % 12;
+				A_PREVIOUS[step] = (step + 11) % 12;
+				C_CURRENT[step] = (8 - i) & 15;
+				B_CURRENT[step] = i;
+				B_PLUS_13[step] = (i + 13) & 15;
+				B_PLUS_9[step] = (i + 9) & 15;
+				B_PLUS_6[step] = (i + 6) & 15;
+			}
+		}
+
+		/**
+		 * The words of the state and of the message block, one row per word, one column per lane.
+		 * Since all lanes of a row are accessed at the same index, the loops over the lanes get vectorized.
+		 */
+		private final int[][] a = new int[12][LANES];
+		private final int[][] b = new int[16][LANES];
+		private final int[][] c = new int[16][LANES];
+		private final int[][] m = new int[16][LANES];
+
+		/**
+		 * The last, padded block of each message.
+		 */
+		private final byte[] last = new byte[64];
+
+		/**
+		 * Hashes {@link #LANES} messages of the same length, from {@code inputs[from]}.
+		 *
+		 * @param inputs the messages
+		 * @param from the position of the first message to hash, inside {@code inputs}
+		 * @param results the array where the hashes get written, at the same positions of the messages
+		 */
+		private void hash(byte[][] inputs, int from, byte[][] results) {
+			int length = inputs[from].length;
+
+			for (int w = 0; w < 12; w++)
+				Arrays.fill(a[w], Shabal256Digest.IV[w]);
+			for (int w = 0; w < 16; w++)
+				Arrays.fill(b[w], Shabal256Digest.IV[12 + w]);
+			for (int w = 0; w < 16; w++)
+				Arrays.fill(c[w], Shabal256Digest.IV[28 + w]);
+
+			long W = 1;
+			int off = 0;
+			for (; off + 64 <= length; off += 64) {
+				for (int l = 0; l < LANES; l++)
+					load(inputs[from + l], off, l);
+
+				core(W++);
+			}
+
+			int rest = length - off;
+			for (int l = 0; l < LANES; l++) {
+				System.arraycopy(inputs[from + l], off, last, 0, rest);
+				last[rest] = (byte) 0x80;
+				Arrays.fill(last, rest + 1, 64, (byte) 0);
+				load(last, 0, l);
+			}
+
+			// the last block is processed four times, with the same counter
+			core(W);
+			core(W);
+			core(W);
+			core(W);
+
+			for (int l = 0; l < LANES; l++) {
+				var out = new byte[32];
+				for (int w = 0; w < 8; w++) {
+					int v = c[8 + w][l];
+					out[4 * w] = (byte) v;
+					out[4 * w + 1] = (byte) (v >>> 8);
+					out[4 * w + 2] = (byte) (v >>> 16);
+					out[4 * w + 3] = (byte) (v >>> 24);
+				}
+
+				results[from + l] = out;
+			}
+		}
+
+		/**
+		 * Loads a block of a message into the given lane of the message words.
+		 */
+		private void load(byte[] data, int off, int lane) {
+			for (int w = 0; w < 16; w++)
+				m[w][lane] = Shabal256Digest.decodeLEInt(data, off + 4 * w);
+		}
+
+		/**
+		 * Same as {@link Shabal256Digest#core(byte[], int, int)} for a single block, in all lanes.
+		 * Each of the 48 steps of the permutation, and each final addition, is a loop over the lanes.
+		 * The rows of the words used at each step come from the tables above.
+		 */
+		private void core(long W) {
+			for (int w = 0; w < 16; w++) {
+				int[] bw = b[w], mw = m[w];
+				for (int l = 0; l < LANES; l++) {
+					int y = bw[l] + mw[l];
+					bw[l] = (y << 17) | (y >>> 15);
+				}
+			}
+
+			int[] a0 = a[0], a1 = a[1];
+			for (int l = 0; l < LANES; l++) {
+				a0[l] ^= (int) W;
+				a1[l] ^= (int) (W >>> 32);
+			}
+
+			for (int step = 0; step < 48; step++) {
+				int[] ai = a[A_CURRENT[step]], ap = a[A_PREVIOUS[step]], ci = c[C_CURRENT[step]], mi = m[B_CURRENT[step]];
+				int[] bi = b[B_CURRENT[step]], b13 = b[B_PLUS_13[step]], b9 = b[B_PLUS_9[step]], b6 = b[B_PLUS_6[step]];
+
+				for (int l = 0; l < LANES; l++) {
+					int p = ap[l];
+					int x = ((ai[l] ^ (((p << 15) | (p >>> 17)) * 5) ^ ci[l]) * 3) ^ b13[l] ^ (b9[l] & ~b6[l]) ^ mi[l];
+					ai[l] = x;
+					int y = bi[l];
+					bi[l] = ~((y << 1) | (y >>> 31)) ^ x;
+				}
+			}
+
+			// A[j mod 12] += C[(j + 3) mod 16] for j = 0 to 35
+			for (int w = 0; w < 12; w++) {
+				int[] aw = a[w], c3 = c[(w + 3) & 15], c15 = c[(w + 15) & 15], c27 = c[(w + 27) & 15];
+				for (int l = 0; l < LANES; l++)
+					aw[l] += c3[l] + c15[l] + c27[l];
+			}
+
+			for (int w = 0; w < 16; w++) {
+				int[] bw = b[w], cw = c[w], mw = m[w];
+				for (int l = 0; l < LANES; l++) {
+					int tmp = bw[l];
+					bw[l] = cw[l] - mw[l];
+					cw[l] = tmp;
+				}
+			}
+		}
+	}
 }
\ No newline at end of file
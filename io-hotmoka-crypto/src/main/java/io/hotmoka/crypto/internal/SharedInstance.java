@@ -0,0 +1,68 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.NoSuchAlgorithmException;
+
+import io.hotmoka.crypto.internal.AlgorithmRegistry.Factory;
+
+/**
+ * An algorithm that is created only once, at its first request, and then shared.
+ * If its creation fails, it is attempted again at the next request.
+ *
+ * @param <A> the type of the algorithm
+ */
+public final class SharedInstance<A> {
+
+	/**
+	 * The factory of the algorithm.
+	 */
+	private final Factory<A> factory;
+
+	/**
+	 * The algorithm, if already created.
+	 */
+	private volatile A instance;
+
+	/**
+	 * Creates the shared instance, without creating the algorithm yet.
+	 * 
+	 * @param factory the factory of the algorithm
+	 */
+	public SharedInstance(Factory<A> factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Yields the algorithm, creating it if this is its first request.
+	 * 
+	 * @return the algorithm
+	 * @throws NoSuchAlgorithmException if the installation does not include the algorithm
+	 */
+	public A get() throws NoSuchAlgorithmException {
+		var result = instance;
+		if (result == null) {
+			synchronized (this) {
+				result = instance;
+				if (result == null)
+					instance = result = factory.get();
+			}
+		}
+
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.security.PublicKey;
+import java.util.Objects;
+
+import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.crypto.api.SignatureToVerify;
+
+/**
+ * Implementation of a signature to verify. The arrays of bytes are not copied,
+ * since they might be large and get verified only once.
+ */
+public class SignatureToVerifyImpl implements SignatureToVerify {
+	private final SignatureAlgorithm algorithm;
+	private final PublicKey publicKey;
+	private final byte[] message;
+	private final byte[] signature;
+
+	/**
+	 * Creates a signature to verify.
+	 * 
+	 * @param algorithm the signature algorithm used for verification
+	 * @param publicKey the public key used for verification
+	 * @param message the message whose signature must be verified; this is not copied
+	 * @param signature the signature to verify; this is not copied
+	 */
+	public SignatureToVerifyImpl(SignatureAlgorithm algorithm, PublicKey publicKey, byte[] message, byte[] signature) {
+		this.algorithm = Objects.requireNonNull(algorithm, "algorithm cannot be null");
+		this.publicKey = Objects.requireNonNull(publicKey, "publicKey cannot be null");
+		this.message = Objects.requireNonNull(message, "message cannot be null");
+		this.signature = Objects.requireNonNull(signature, "signature cannot be null");
+	}
+
+	@Override
+	public SignatureAlgorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	@Override
+	public PublicKey getPublicKey() {
+		return publicKey;
+	}
+
+	@Override
+	public byte[] getMessage() {
+		return message;
+	}
+
+	@Override
+	public byte[] getSignature() {
+		return signature;
+	}
+}
\ No newline at end of file
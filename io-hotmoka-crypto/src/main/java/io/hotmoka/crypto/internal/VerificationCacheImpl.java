@@ -0,0 +1,173 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.SignatureException;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.crypto.api.VerificationCache;
+import io.hotmoka.crypto.api.Verifier;
+
+/**
+ * Implementation of a bounded cache of the successful verifications of signatures.
+ * A verification is identified by the SHA256 hash of a random salt, chosen at
+ * construction time, followed by the name of the algorithm, the encoding of the public key,
+ * the signature and the message. The salt prevents an attacker from precomputing
+ * colliding verifications. Lookups never lock and verifications are evicted with the CLOCK policy.
+ */
+public class VerificationCacheImpl implements VerificationCache {
+
+	/**
+	 * The hashing algorithm used for identifying the verifications.
+	 */
+	private final HashingAlgorithm sha256;
+
+	/**
+	 * The salt of the hashes of the verifications.
+	 */
+	private final byte[] salt = new byte[32];
+
+	private final ClockCache<ByteArrayKey, Boolean> cache;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Creates an empty cache.
+	 * 
+	 * @param capacity the maximal number of verifications kept in the cache; 0 disables the cache
+	 * @throws NoSuchAlgorithmException if the installation of Java does not include the SHA256 algorithm
+	 * @throws IllegalArgumentException if {@code capacity} is negative
+	 */
+	public VerificationCacheImpl(int capacity) throws NoSuchAlgorithmException {
+		this.cache = new ClockCache<>(capacity);
+		this.sha256 = HashingAlgorithms.sha256();
+		new SecureRandom().nextBytes(salt);
+	}
+
+	@Override
+	public <T> Verifier<T> getVerifier(SignatureAlgorithm algorithm, PublicKey key, Function<? super T, byte[]> toBytes) {
+		Objects.requireNonNull(algorithm, "algorithm cannot be null");
+		Objects.requireNonNull(key, "key cannot be null");
+		Objects.requireNonNull(toBytes, "toBytes cannot be null");
+
+		// the verifications of the same verifier share the part of the hash that depends on the algorithm and on the key
+		byte[] prefix;
+		try {
+			var hasher = sha256.getIncrementalHasher();
+			hasher.update(salt);
+			hasher.update(algorithm.getName().getBytes(StandardCharsets.UTF_8));
+			hasher.update((byte) 0);
+			hasher.update(algorithm.encodingOf(key));
+			prefix = hasher.finish();
+		}
+		catch (InvalidKeyException e) {
+			// the key cannot be encoded, hence it cannot be part of the hash: the verifications are not cached
+			return algorithm.getVerifier(key, toBytes);
+		}
+
+		var verifier = algorithm.getVerifier(key, Function.<byte[]> identity());
+
+		return (what, signature) -> {
+			Objects.requireNonNull(signature, "signature cannot be null");
+
+			byte[] bytes;
+			try {
+				bytes = toBytes.apply(what);
+			}
+			catch (Exception e) {
+				throw new SignatureException("Cannot transform the value into bytes before signature verification", e);
+			}
+
+			return verify(verifier, prefix, bytes, signature);
+		};
+	}
+
+	private boolean verify(Verifier<byte[]> verifier, byte[] prefix, byte[] bytes, byte[] signature) throws InvalidKeyException, SignatureException {
+		var hasher = sha256.getIncrementalHasher();
+		hasher.update(prefix);
+		// the length of the signature makes the boundary between signature and message unambiguous
+		int length = signature.length;
+		hasher.update(new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length });
+		hasher.update(signature);
+		hasher.update(bytes);
+		var key = new ByteArrayKey(hasher.finish());
+
+		if (cache.get(key) != null) {
+			hits.increment();
+			return true;
+		}
+
+		misses.increment();
+		boolean valid = verifier.verify(bytes, signature);
+		// only positive results are cached: invalid signatures are cheap to produce and would pollute the cache
+		if (valid)
+			cache.add(key, Boolean.TRUE);
+
+		return valid;
+	}
+
+	@Override
+	public int getCapacity() {
+		return cache.getCapacity();
+	}
+
+	@Override
+	public void setCapacity(int capacity) {
+		cache.setCapacity(capacity);
+	}
+
+	@Override
+	public int size() {
+		return cache.size();
+	}
+
+	@Override
+	public void clear() {
+		cache.clear();
+	}
+
+	@Override
+	public long getHits() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	@Override
+	public double getHitRate() {
+		long hitsSoFar = getHits(), total = hitsSoFar + getMisses();
+		return total == 0 ? 0.0 : (double) hitsSoFar / total;
+	}
+
+	@Override
+	public long getEvictions() {
+		return cache.getEvictions();
+	}
+}
\ No newline at end of file
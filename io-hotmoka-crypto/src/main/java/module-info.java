@@ -22,4 +22,6 @@ module io.hotmoka.crypto {
 	requires transitive io.hotmoka.crypto.api;
     requires org.bouncycastle.provider;
     requires java.logging;
+	uses io.hotmoka.crypto.api.HashingAlgorithmProvider;
+	uses io.hotmoka.crypto.api.SignatureAlgorithmProvider;
 }
\ No newline at end of file
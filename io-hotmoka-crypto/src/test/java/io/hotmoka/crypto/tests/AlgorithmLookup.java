@@ -0,0 +1,96 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class AlgorithmLookup extends AbstractLoggedTests {
+	private final static int LOOKUPS = 1_000_000;
+
+	@ParameterizedTest
+	@DisplayName("hashing algorithms are found by their name, in any case")
+	@ValueSource(strings = { "sha256", "shabal256", "blake2b256", "blake2s256", "blake3", "keccak256", "sha3_256", "identity1", "identity32" })
+	void hashingAlgorithmsAreFound(String name) throws Exception {
+		assertEquals(name, HashingAlgorithms.of(name).getName());
+		assertEquals(name, HashingAlgorithms.of(name.toUpperCase()).getName());
+	}
+
+	@ParameterizedTest
+	@DisplayName("signature algorithms are found by their name, in any case")
+	@ValueSource(strings = { "sha256dsa", "ed25519", "ed25519cofactored", "ed25519det", "qtesla1", "qtesla3", "empty" })
+	void signatureAlgorithmsAreFound(String name) throws Exception {
+		assertEquals(name, SignatureAlgorithms.of(name).getName());
+		assertEquals(name, SignatureAlgorithms.of(name.toUpperCase()).getName());
+	}
+
+	@Test
+	@DisplayName("unknown algorithms are reported together with the alternatives")
+	void unknownAlgorithmsAreReported() {
+		var e = assertThrows(NoSuchAlgorithmException.class, () -> HashingAlgorithms.of("md5"));
+		assertTrue(e.getMessage().contains("sha256, sha3_256, shabal256"));
+		e = assertThrows(NoSuchAlgorithmException.class, () -> SignatureAlgorithms.of("rsa"));
+		assertTrue(e.getMessage().contains("ed25519, ed25519cofactored, ed25519det, empty"));
+		assertThrows(NullPointerException.class, () -> HashingAlgorithms.of(null));
+	}
+
+	@Test
+	@DisplayName("the registry is faster than the reflective invocation of the factory methods")
+	void benchmark() throws Exception {
+		long start = System.nanoTime();
+		HashingAlgorithms.of("shabal256");
+		SignatureAlgorithms.of("empty");
+		System.out.printf("creation of the registries and first lookups took %dus%n", (System.nanoTime() - start) / 1_000);
+
+		// warm-up
+		lookupsThroughRegistry();
+		lookupsThroughReflection();
+
+		start = System.nanoTime();
+		lookupsThroughRegistry();
+		long registry = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		lookupsThroughReflection();
+		long reflection = System.nanoTime() - start;
+
+		System.out.printf("%d lookups: registry took %dms, reflection took %dms%n", LOOKUPS, registry / 1_000_000, reflection / 1_000_000);
+	}
+
+	private static void lookupsThroughRegistry() throws Exception {
+		for (int i = 0; i < LOOKUPS; i++)
+			HashingAlgorithms.of("shabal256");
+	}
+
+	private static void lookupsThroughReflection() throws Exception {
+		for (int i = 0; i < LOOKUPS; i++)
+			HashingAlgorithms.class.getMethod("shabal256".toLowerCase()).invoke(null);
+	}
+}
\ No newline at end of file
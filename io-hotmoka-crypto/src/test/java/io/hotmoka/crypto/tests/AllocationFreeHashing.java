@@ -0,0 +1,91 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class AllocationFreeHashing extends AbstractLoggedTests {
+	private final static int ITERATIONS = 1_000_000;
+
+	@ParameterizedTest
+	@DisplayName("hashing into a caller-supplied array yields the same hash and does not allocate")
+	@ValueSource(strings = { "sha256", "shabal256", "keccak256", "sha3_256" })
+	void hashIntoDoesNotAllocate(String name) throws Exception {
+		var hasher = HashingAlgorithms.of(name).getHasher(Function.<byte[]> identity());
+		var data = new byte[hasher.length()];
+		var out = new byte[data.length + 5];
+
+		// the same hash is computed, at the required offset
+		hasher.hashInto(data, out, 5);
+		assertArrayEquals(hasher.hash(data), Arrays.copyOfRange(out, 5, out.length));
+
+		// we warm up both ways of hashing, so that the measurements below are not affected by compilation
+		chain(hasher::hash, data.clone(), ITERATIONS);
+		chainInto(hasher::hashInto, data.clone(), out, ITERATIONS);
+
+		long before = allocatedBytes();
+		byte[] result1 = chain(hasher::hash, data.clone(), ITERATIONS);
+		long allocatedByHash = allocatedBytes() - before;
+
+		before = allocatedBytes();
+		byte[] result2 = chainInto(hasher::hashInto, data.clone(), out, ITERATIONS);
+		long allocatedByHashInto = allocatedBytes() - before;
+
+		assertArrayEquals(result1, result2);
+		System.out.printf("%s: hash allocates %.2f bytes per call, hashInto allocates %.2f bytes per call%n",
+			name, (double) allocatedByHash / ITERATIONS, (double) allocatedByHashInto / ITERATIONS);
+
+		// less than a byte per call: the few allocations are due to the measurement itself
+		assertTrue(allocatedByHashInto < ITERATIONS);
+	}
+
+	private interface HashInto {
+		void hashInto(byte[] what, byte[] out, int offset);
+	}
+
+	private static byte[] chain(Function<byte[], byte[]> hasher, byte[] data, int iterations) {
+		for (int i = 0; i < iterations; i++)
+			data = hasher.apply(data);
+
+		return data;
+	}
+
+	private static byte[] chainInto(HashInto hasher, byte[] data, byte[] out, int iterations) {
+		for (int i = 0; i < iterations; i++) {
+			hasher.hashInto(data, out, 5);
+			System.arraycopy(out, 5, data, 0, data.length);
+		}
+
+		return data;
+	}
+
+	private static long allocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+	}
+}
\ No newline at end of file
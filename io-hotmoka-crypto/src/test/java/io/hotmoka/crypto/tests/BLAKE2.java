@@ -0,0 +1,154 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class BLAKE2 extends AbstractLoggedTests {
+
+	@Test
+	@DisplayName("blake2b256 and blake2s256 yield the hashes of their specification")
+	void knownVectors() throws Exception {
+		var blake2b = HashingAlgorithms.of("blake2b256").getHasher(Function.<byte[]> identity());
+		var blake2s = HashingAlgorithms.of("blake2s256").getHasher(Function.<byte[]> identity());
+
+		assertEquals("0e5751c026e543b2e8ab2eb06099daa1d1e5df47778f7787faab45cdf12fe3a8", Hex.toHexString(blake2b.hash(new byte[0])));
+		assertEquals("508c5e8c327c14e2e1a72ba34eeb452f37458b209ed63a294d999b4c86675982", Hex.toHexString(blake2s.hash("abc".getBytes())));
+	}
+
+	@Test
+	@DisplayName("keyed and personalized algorithms yield distinct hashes and reject parameters of wrong length")
+	void keyedAndPersonalized() throws Exception {
+		var data = "HELLO HASHING".getBytes();
+		var plain = HashingAlgorithms.blake2b256();
+		var keyed = HashingAlgorithms.blake2b256("secret".getBytes(), null);
+		var personalized = HashingAlgorithms.blake2b256(null, "hotmoka-requests".getBytes());
+		var both = HashingAlgorithms.blake2b256("secret".getBytes(), "hotmoka-requests".getBytes());
+
+		var hashes = new byte[][] {
+			plain.getHasher(Function.<byte[]> identity()).hash(data),
+			keyed.getHasher(Function.<byte[]> identity()).hash(data),
+			personalized.getHasher(Function.<byte[]> identity()).hash(data),
+			both.getHasher(Function.<byte[]> identity()).hash(data)
+		};
+
+		for (int i = 0; i < hashes.length; i++)
+			for (int j = i + 1; j < hashes.length; j++)
+				assertFalse(Arrays.equals(hashes[i], hashes[j]));
+
+		// the parameters are part of the identity of the algorithm
+		assertNotEquals(plain, keyed);
+		assertEquals(keyed, HashingAlgorithms.blake2b256("secret".getBytes(), null));
+		assertEquals(both, both.clone());
+		assertArrayEquals(hashes[3], both.clone().getHasher(Function.<byte[]> identity()).hash(data));
+
+		// an empty key is like no key
+		assertEquals(plain, HashingAlgorithms.blake2b256(new byte[0], null));
+
+		assertThrows(IllegalArgumentException.class, () -> HashingAlgorithms.blake2b256(new byte[65], null));
+		assertThrows(IllegalArgumentException.class, () -> HashingAlgorithms.blake2b256(null, new byte[8]));
+		assertThrows(IllegalArgumentException.class, () -> HashingAlgorithms.blake2s256(new byte[33], null));
+		assertThrows(IllegalArgumentException.class, () -> HashingAlgorithms.blake2s256(null, new byte[16]));
+	}
+
+	@Test
+	@DisplayName("keyed and personalized algorithms cannot be looked up by name")
+	void keyedAndPersonalizedNames() throws Exception {
+		var keyed = HashingAlgorithms.blake2b256("secret".getBytes(), null);
+		var personalized = HashingAlgorithms.blake2s256(null, "hotmoka!".getBytes());
+		var both = HashingAlgorithms.blake2b256("secret".getBytes(), "hotmoka-requests".getBytes());
+
+		assertEquals("blake2b256-keyed", keyed.getName());
+		assertEquals("blake2s256-personalized", personalized.getName());
+		assertEquals("blake2b256-keyed-personalized", both.getName());
+
+		// otherwise the lookup would silently yield the algorithm without key and personalization
+		assertThrows(NoSuchAlgorithmException.class, () -> HashingAlgorithms.of(keyed.getName()));
+		assertThrows(NoSuchAlgorithmException.class, () -> HashingAlgorithms.of(personalized.getName()));
+		assertThrows(NoSuchAlgorithmException.class, () -> HashingAlgorithms.of(both.getName()));
+
+		// without parameters, the name identifies the algorithm
+		assertEquals(HashingAlgorithms.blake2b256(), HashingAlgorithms.of(HashingAlgorithms.blake2b256(null, null).getName()));
+	}
+
+	@ParameterizedTest
+	@DisplayName("keyed blake2 hashes incrementally and with prefixes as it does in one shot")
+	@ValueSource(strings = { "blake2b256", "blake2s256" })
+	void incrementalAndPrefixed(String name) throws Exception {
+		var key = "secret".getBytes();
+		var algorithm = "blake2b256".equals(name) ? HashingAlgorithms.blake2b256(key, new byte[16]) : HashingAlgorithms.blake2s256(key, new byte[8]);
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var random = new Random(19L);
+
+		for (int size: new int[] { 0, 1, 64, 127, 128, 129, 100_000 }) {
+			var prefix = new byte[size / 3];
+			var data = new byte[size];
+			random.nextBytes(prefix);
+			random.nextBytes(data);
+
+			var concatenation = new byte[prefix.length + size];
+			System.arraycopy(prefix, 0, concatenation, 0, prefix.length);
+			System.arraycopy(data, 0, concatenation, prefix.length, size);
+			byte[] expected = hasher.hash(concatenation);
+
+			assertArrayEquals(expected, algorithm.getPrefixedHasher(prefix, Function.<byte[]> identity()).hash(data));
+
+			var incremental = algorithm.getIncrementalHasher();
+			incremental.update(prefix);
+			incremental.update(data);
+			assertArrayEquals(expected, incremental.finish());
+		}
+	}
+
+	@Test
+	@DisplayName("blake2b256 and blake2s256 compared with sha256 on 1 megabyte")
+	void benchmark() throws Exception {
+		var data = new byte[1 << 20];
+		new Random(23L).nextBytes(data);
+
+		for (var name: new String[] { "sha256", "blake2b256", "blake2s256" }) {
+			var hasher = HashingAlgorithms.of(name).getHasher(Function.<byte[]> identity());
+			for (int i = 0; i < 100; i++)
+				hasher.hash(data);
+
+			long start = System.nanoTime();
+			for (int i = 0; i < 200; i++)
+				hasher.hash(data);
+
+			long elapsed = System.nanoTime() - start;
+			System.out.printf("%s: %.1fMB/s%n", name, 200.0 * (1 << 20) * 1000 / elapsed);
+		}
+	}
+}
\ No newline at end of file
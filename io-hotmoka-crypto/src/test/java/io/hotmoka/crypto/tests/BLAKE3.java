@@ -0,0 +1,108 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.bouncycastle.crypto.digests.Blake3Digest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class BLAKE3 extends AbstractLoggedTests {
+
+	@Test
+	@DisplayName("blake3 yields the same hashes as the reference implementation, also incrementally")
+	void sameAsReference() throws Exception {
+		var algorithm = HashingAlgorithms.of("blake3");
+		assertEquals("blake3", algorithm.getName());
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var incremental = algorithm.getIncrementalHasher();
+		var random = new Random(13L);
+
+		for (int size: new int[] { 0, 1, 63, 64, 65, 1023, 1024, 1025, 2048, 3073, 100_000, 1 << 20, 5_000_001 }) {
+			var data = new byte[size];
+			random.nextBytes(data);
+			byte[] expected = reference(data);
+
+			assertArrayEquals(expected, hasher.hash(data));
+
+			// the data is fed in pieces of random length, that cross the boundaries of blocks and chunks
+			for (int pos = 0; pos < size;) {
+				int length = Math.min(size - pos, random.nextInt(3000));
+				if (length == 1)
+					incremental.update(data[pos]);
+				else if (length % 2 == 0)
+					incremental.update(data, pos, length);
+				else
+					incremental.update(ByteBuffer.allocateDirect(length).put(data, pos, length).flip());
+
+				pos += length;
+			}
+
+			assertArrayEquals(expected, incremental.finish());
+		}
+	}
+
+	@Test
+	@DisplayName("blake3 compared with sha256 and shabal256, from 32 bytes to 128 megabytes")
+	void benchmark() throws Exception {
+		var algorithms = new HashingAlgorithm[] { HashingAlgorithms.sha256(), HashingAlgorithms.shabal256(), HashingAlgorithms.blake3() };
+		var random = new Random(17L);
+
+		// one gigabyte would not fit the heap of the tests: we stop at 128 megabytes
+		for (int size: new int[] { 32, 1024, 32 << 10, 1 << 20, 32 << 20, 128 << 20 }) {
+			var data = new byte[size];
+			random.nextBytes(data);
+			// the total amount of hashed bytes is the same for each size
+			int repetitions = Math.max(1, (128 << 20) / size / 2);
+
+			var report = new StringBuilder();
+			for (var algorithm: algorithms) {
+				var hasher = algorithm.getHasher(Function.<byte[]> identity());
+				// warm-up
+				for (int i = 0; i < Math.min(repetitions, 1000); i++)
+					hasher.hash(data);
+
+				long start = System.nanoTime();
+				for (int i = 0; i < repetitions; i++)
+					hasher.hash(data);
+
+				long elapsed = System.nanoTime() - start;
+				report.append(String.format(" %s: %.1fMB/s", algorithm, (double) size * repetitions * 1000 / elapsed));
+			}
+
+			System.out.printf("%d bytes:%s%n", size, report);
+		}
+	}
+
+	private static byte[] reference(byte[] data) {
+		var digest = new Blake3Digest();
+		digest.update(data, 0, data.length);
+		var result = new byte[32];
+		digest.doFinal(result, 0);
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class BatchHashing extends AbstractLoggedTests {
+
+	@ParameterizedTest
+	@DisplayName("hashing a batch yields the same hashes as hashing each item, in order")
+	@ValueSource(strings = { "sha256", "shabal256" })
+	void batchIsLikeLoop(String name) throws Exception {
+		var hasher = HashingAlgorithms.of(name).getHasher(Function.<byte[]> identity());
+		var random = new Random(17L);
+
+		for (int size: new int[] { 0, 1, 63, 64, 65, 1000, 100_000 }) {
+			var items = new ArrayList<byte[]>();
+			for (int i = 0; i < size; i++) {
+				var item = new byte[random.nextInt(200)];
+				random.nextBytes(item);
+				items.add(item);
+			}
+
+			// we compare the batch with the per-item loop, several times, so that the measurements are more significant
+			List<byte[]> expected = null, actual = null;
+			long loopTime = 0, batchTime = 0;
+			for (int repetition = 0; repetition < 5; repetition++) {
+				long start = System.nanoTime();
+				expected = new ArrayList<>();
+				for (var item: items)
+					expected.add(hasher.hash(item));
+				loopTime += System.nanoTime() - start;
+
+				start = System.nanoTime();
+				actual = hasher.hashAll(items);
+				batchTime += System.nanoTime() - start;
+			}
+
+			assertEquals(size, actual.size());
+			for (int i = 0; i < size; i++)
+				assertArrayEquals(expected.get(i), actual.get(i));
+
+			// lists without random access are hashed correctly as well
+			actual = hasher.hashAll(new LinkedList<>(items));
+			for (int i = 0; i < size; i++)
+				assertArrayEquals(expected.get(i), actual.get(i));
+
+			if (size >= 1000)
+				System.out.printf("%s on %d items: per-item loop took %dms, batch took %dms%n", name, size, loopTime / 1_000_000, batchTime / 1_000_000);
+		}
+	}
+}
\ No newline at end of file
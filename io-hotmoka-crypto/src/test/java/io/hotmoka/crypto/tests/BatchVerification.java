@@ -0,0 +1,382 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.SignatureException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.crypto.api.Verifier;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class BatchVerification extends AbstractLoggedTests {
+
+	/**
+	 * A batch of signed messages.
+	 */
+	private static class Batch {
+		private final List<String> messages = new ArrayList<>();
+		private final List<PublicKey> keys = new ArrayList<>();
+		private final List<byte[]> signatures = new ArrayList<>();
+
+		private Batch(SignatureAlgorithm algorithm, int size) throws Exception {
+			var pairs = new KeyPair[8];
+			for (int i = 0; i < pairs.length; i++)
+				pairs[i] = algorithm.getKeyPair();
+
+			for (int i = 0; i < size; i++) {
+				var pair = pairs[i % pairs.length];
+				var message = "message #" + i;
+				messages.add(message);
+				keys.add(pair.getPublic());
+				signatures.add(algorithm.<String> getSigner(pair.getPrivate(), String::getBytes).sign(message));
+			}
+		}
+
+		private BitSet verifyOneByOne(SignatureAlgorithm algorithm) throws Exception {
+			var result = new BitSet();
+			for (int i = 0; i < messages.size(); i++) {
+				try {
+					if (messages.get(i) != null && algorithm.<String> getVerifier(keys.get(i), String::getBytes).verify(messages.get(i), signatures.get(i)))
+						result.set(i);
+				}
+				catch (SignatureException e) {
+					// malformed signatures are invalid
+				}
+			}
+
+			return result;
+		}
+	}
+
+	@ParameterizedTest
+	@DisplayName("batch verification accepts all valid signatures")
+	@ValueSource(strings = { "ed25519", "ed25519cofactored", "ed25519det", "sha256dsa" })
+	void batchOfValidSignaturesIsAccepted(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+
+		for (int size: new int[] { 0, 1, 2, 3, 64, 100 }) {
+			var batch = new Batch(algorithm, size);
+			var result = algorithm.verifyAll(batch.messages, String::getBytes, batch.keys, batch.signatures);
+			assertEquals(size, result.cardinality());
+		}
+	}
+
+	@ParameterizedTest
+	@DisplayName("batch verification identifies the invalid signatures")
+	@ValueSource(strings = { "ed25519", "ed25519cofactored", "ed25519det", "sha256dsa" })
+	void batchIdentifiesInvalidSignatures(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		var random = new Random(13011973);
+		var batch = new Batch(algorithm, 70);
+		var otherKey = algorithm.getKeyPair().getPublic();
+
+		for (int i = 0; i < batch.messages.size(); i += 1 + random.nextInt(7)) {
+			switch (random.nextInt(6)) {
+			case 0: // a bit of R is flipped
+				batch.signatures.get(i)[random.nextInt(32)] ^= 1 << random.nextInt(8);
+				break;
+			case 1: // a bit of s is flipped
+				batch.signatures.get(i)[32 + random.nextInt(32)] ^= 1 << random.nextInt(8);
+				break;
+			case 2:
+				batch.messages.set(i, batch.messages.get(i) + "!");
+				break;
+			case 3:
+				batch.keys.set(i, otherKey);
+				break;
+			case 4: // the signature is truncated
+				batch.signatures.set(i, new byte[7]);
+				break;
+			default: // the message cannot be transformed into bytes
+				batch.messages.set(i, null);
+			}
+		}
+
+		var expected = batch.verifyOneByOne(algorithm);
+		assertTrue(expected.cardinality() < batch.messages.size());
+		assertEquals(expected, algorithm.verifyAll(batch.messages, String::getBytes, batch.keys, batch.signatures));
+	}
+
+	/**
+	 * A point of the Ed25519 curve, in affine coordinates, with slow but simple arithmetic,
+	 * used to build signatures that no honest signer produces.
+	 */
+	private static class EdwardsPoint {
+		private final static BigInteger P = BigInteger.ONE.shiftLeft(255).subtract(BigInteger.valueOf(19));
+		private final static BigInteger L = BigInteger.ONE.shiftLeft(252).add(new BigInteger("27742317777372353535851937790883648493"));
+		private final static BigInteger D = new BigInteger("37095705934669439343138083508754565189542113879843219016388785533085940283555");
+		private final static EdwardsPoint IDENTITY = new EdwardsPoint(BigInteger.ZERO, BigInteger.ONE);
+		private final static EdwardsPoint BASE = new EdwardsPoint(
+			new BigInteger("15112221349535400772501151409588531511454012693041857206046113283949847762202"),
+			new BigInteger("46316835694926478169428394003475163141307993866256225615783033603165251855960"));
+
+		private final BigInteger x;
+		private final BigInteger y;
+
+		private EdwardsPoint(BigInteger x, BigInteger y) {
+			this.x = x.mod(P);
+			this.y = y.mod(P);
+		}
+
+		private EdwardsPoint add(EdwardsPoint other) {
+			var dxxyy = D.multiply(x).multiply(other.x).multiply(y).multiply(other.y).mod(P);
+			var x3 = x.multiply(other.y).add(y.multiply(other.x)).multiply(BigInteger.ONE.add(dxxyy).modInverse(P));
+			var y3 = y.multiply(other.y).add(x.multiply(other.x)).multiply(BigInteger.ONE.subtract(dxxyy).mod(P).modInverse(P));
+			return new EdwardsPoint(x3, y3);
+		}
+
+		private EdwardsPoint multiply(BigInteger scalar) {
+			var result = IDENTITY;
+			for (int bit = scalar.bitLength() - 1; bit >= 0; bit--) {
+				result = result.add(result);
+				if (scalar.testBit(bit))
+					result = result.add(this);
+			}
+
+			return result;
+		}
+
+		private byte[] encode() {
+			var encoding = littleEndian(y, 32);
+			if (x.testBit(0))
+				encoding[31] |= (byte) 0x80;
+
+			return encoding;
+		}
+
+		private static EdwardsPoint decode(byte[] encoding) {
+			var bytes = encoding.clone();
+			boolean sign = (bytes[31] & 0x80) != 0;
+			bytes[31] &= 0x7F;
+			var y = fromLittleEndian(bytes);
+			var u = y.multiply(y).subtract(BigInteger.ONE);
+			var v = D.multiply(y).multiply(y).add(BigInteger.ONE);
+			var xx = u.multiply(v.modInverse(P)).mod(P);
+			var x = xx.modPow(P.add(BigInteger.valueOf(3)).shiftRight(3), P);
+			if (!x.multiply(x).mod(P).equals(xx))
+				x = x.multiply(BigInteger.TWO.modPow(P.subtract(BigInteger.ONE).shiftRight(2), P)).mod(P);
+
+			if (x.testBit(0) != sign)
+				x = P.subtract(x);
+
+			return new EdwardsPoint(x, y);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof EdwardsPoint ep && x.equals(ep.x) && y.equals(ep.y);
+		}
+
+		@Override
+		public int hashCode() {
+			return y.hashCode();
+		}
+	}
+
+	private static byte[] littleEndian(BigInteger value, int length) {
+		var result = new byte[length];
+		byte[] bigEndian = value.toByteArray();
+		for (int i = 0; i < bigEndian.length && i < length; i++)
+			result[i] = bigEndian[bigEndian.length - 1 - i];
+
+		return result;
+	}
+
+	private static BigInteger fromLittleEndian(byte[] bytes) {
+		var bigEndian = new byte[bytes.length];
+		for (int i = 0; i < bytes.length; i++)
+			bigEndian[i] = bytes[bytes.length - 1 - i];
+
+		return new BigInteger(1, bigEndian);
+	}
+
+	/**
+	 * Signs the given message with the secret scalar {@code a} and nonce {@code r}, for a public key
+	 * {@code A} and a point {@code R} that might include a component of small order.
+	 */
+	private static byte[] sign(byte[] message, BigInteger a, EdwardsPoint publicKey, BigInteger r, EdwardsPoint R) throws Exception {
+		var sha512 = MessageDigest.getInstance("SHA-512");
+		sha512.update(R.encode());
+		sha512.update(publicKey.encode());
+		sha512.update(message);
+		var k = fromLittleEndian(sha512.digest()).mod(EdwardsPoint.L);
+		var s = r.add(k.multiply(a)).mod(EdwardsPoint.L);
+
+		var signature = new byte[64];
+		System.arraycopy(R.encode(), 0, signature, 0, 32);
+		System.arraycopy(littleEndian(s, 32), 0, signature, 32, 32);
+		return signature;
+	}
+
+	@ParameterizedTest
+	@DisplayName("verification one by one and in batch agree on signatures with a component of small order")
+	@ValueSource(strings = { "ed25519", "ed25519cofactored", "ed25519det" })
+	void smallOrderComponentsAreTreatedAlikeInBatch(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		var random = new Random(13011973);
+
+		// a point of order 8
+		var torsion = EdwardsPoint.decode(HexFormat.of().parseHex("c7176a703d4dd84fba3c0b760d10670f2a2053fa2c39ccc64ec7fd7792ac037a"));
+		assertEquals(EdwardsPoint.IDENTITY, torsion.multiply(BigInteger.valueOf(8)));
+		assertNotEquals(EdwardsPoint.IDENTITY, torsion.multiply(BigInteger.valueOf(4)));
+
+		var honest = new Batch(algorithm, 20);
+		var crafted = new Batch(algorithm, 0);
+
+		for (int i = 0; i < 30; i++) {
+			var a = new BigInteger(256, random).mod(EdwardsPoint.L);
+			var r = new BigInteger(256, random).mod(EdwardsPoint.L);
+			var A = EdwardsPoint.BASE.multiply(a);
+			var R = EdwardsPoint.BASE.multiply(r);
+
+			switch (i % 3) {
+			case 0: // A has a component of small order
+				A = A.add(torsion);
+				break;
+			case 1: // R has a component of small order
+				R = R.add(torsion);
+				break;
+			default: // A has small order
+				a = BigInteger.ZERO;
+				A = torsion;
+			}
+
+			var message = "crafted message #" + i;
+			var signature = sign(message.getBytes(), a, A, r, R);
+			var key = algorithm.publicKeyFromEncoding(A.encode());
+			crafted.messages.add(message);
+			crafted.keys.add(key);
+			crafted.signatures.add(signature);
+
+			var verifier = algorithm.<String> getVerifier(key, String::getBytes);
+			assertEquals(verifier.verify(message, signature), algorithm.verifyAll(List.of(message), String::getBytes, List.of(key), List.of(signature)).get(0));
+		}
+
+		var expected = crafted.verifyOneByOne(algorithm);
+		if ("ed25519cofactored".equals(name))
+			// the cofactored equation accepts all crafted signatures
+			assertEquals(crafted.messages.size(), expected.cardinality());
+		else {
+			// the cofactorless equation of RFC 8032 rejects most of them
+			for (int i = 0; i < crafted.messages.size(); i++) {
+				byte[] message = crafted.messages.get(i).getBytes();
+				assertEquals(Ed25519.verify(crafted.signatures.get(i), 0, algorithm.encodingOf(crafted.keys.get(i)), 0, message, 0, message.length), expected.get(i));
+			}
+
+			assertFalse(expected.get(1));
+		}
+
+		assertEquals(expected, algorithm.verifyAll(crafted.messages, String::getBytes, crafted.keys, crafted.signatures));
+
+		// the crafted signatures get mixed with honest ones
+		for (int i = 0; i < crafted.messages.size(); i++) {
+			int pos = random.nextInt(honest.messages.size() + 1);
+			honest.messages.add(pos, crafted.messages.get(i));
+			honest.keys.add(pos, crafted.keys.get(i));
+			honest.signatures.add(pos, crafted.signatures.get(i));
+		}
+
+		assertEquals(honest.verifyOneByOne(algorithm), algorithm.verifyAll(honest.messages, String::getBytes, honest.keys, honest.signatures));
+	}
+
+	@Test
+	@DisplayName("batch verification treats null keys and signatures as invalid")
+	void nullKeysAndSignaturesAreInvalid() throws Exception {
+		for (var name: new String[] { "ed25519", "sha256dsa" }) {
+			var algorithm = SignatureAlgorithms.of(name);
+			var batch = new Batch(algorithm, 5);
+			batch.keys.set(1, null);
+			batch.signatures.set(3, null);
+			var result = algorithm.verifyAll(batch.messages, String::getBytes, batch.keys, batch.signatures);
+			assertEquals(3, result.cardinality());
+			assertFalse(result.get(1));
+			assertFalse(result.get(3));
+		}
+	}
+
+	@Test
+	@DisplayName("batch verification requires lists of the same size")
+	void batchRequiresListsOfTheSameSize() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519();
+		var batch = new Batch(algorithm, 3);
+		assertThrows(IllegalArgumentException.class, () -> algorithm.verifyAll(batch.messages, String::getBytes, batch.keys.subList(0, 2), batch.signatures));
+	}
+
+	@Test
+	@DisplayName("the speed of batch verification of ed25519cofactored signatures, against one-by-one verification")
+	void batchVerificationSpeed() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519cofactored();
+		var batch = new Batch(algorithm, 128);
+		var messages = new ArrayList<byte[]>();
+		var verifiers = new ArrayList<Verifier<byte[]>>();
+		for (int i = 0; i < batch.messages.size(); i++) {
+			messages.add(batch.messages.get(i).getBytes());
+			verifiers.add(algorithm.getVerifier(batch.keys.get(i), Function.<byte[]> identity()));
+		}
+
+		// warm-up
+		for (int i = 0; i < 200; i++) {
+			algorithm.verifyAll(messages, Function.identity(), batch.keys, batch.signatures);
+			for (int j = 0; j < messages.size(); j++)
+				verifiers.get(j).verify(messages.get(j), batch.signatures.get(j));
+		}
+
+		for (int size: new int[] { 64, 128 }) {
+			var m = messages.subList(0, size);
+			var k = batch.keys.subList(0, size);
+			var s = batch.signatures.subList(0, size);
+
+			int repetitions = 50;
+			long start = System.nanoTime();
+			for (int i = 0; i < repetitions; i++)
+				assertEquals(size, algorithm.verifyAll(m, Function.identity(), k, s).cardinality());
+			long batchTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < repetitions; i++)
+				for (int j = 0; j < size; j++)
+					assertTrue(verifiers.get(j).verify(m.get(j), s.get(j)));
+			long oneByOneTime = System.nanoTime() - start;
+
+			System.out.printf("batches of %d ed25519cofactored signatures: batch verification took %.2f ms, one-by-one verification took %.2f ms%n",
+				size, batchTime / 1_000_000.0 / repetitions, oneByOneTime / 1_000_000.0 / repetitions);
+		}
+	}
+}
\ No newline at end of file
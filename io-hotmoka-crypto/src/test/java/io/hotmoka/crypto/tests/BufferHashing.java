@@ -0,0 +1,70 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class BufferHashing extends AbstractLoggedTests {
+
+	@ParameterizedTest
+	@DisplayName("hashing heap and direct buffers yields the same hash as hashing arrays")
+	@ValueSource(strings = { "sha256", "shabal256" })
+	void buffersAreLikeArrays(String name) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var random = new Random(42L);
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var bufferHasher = algorithm.getBufferHasher(Function.<ByteBuffer> identity());
+
+		for (int size: new int[] { 0, 1, 31, 64, 129, 5000, 1_000_000 }) {
+			var data = new byte[size];
+			random.nextBytes(data);
+			byte[] expected = hasher.hash(data);
+
+			// a heap buffer that is a view of a larger array
+			var larger = new byte[size + 10];
+			System.arraycopy(data, 0, larger, 7, size);
+			var heap = ByteBuffer.wrap(larger, 7, size);
+			assertArrayEquals(expected, bufferHasher.hash(heap));
+			assertEquals(7, heap.position());
+
+			var direct = ByteBuffer.allocateDirect(size).put(data).flip();
+			assertArrayEquals(expected, bufferHasher.hash(direct));
+			assertEquals(0, direct.position());
+
+			// partial hashing, at an offset that is not aligned with the blocks of the algorithms
+			if (size > 3) {
+				expected = hasher.hash(data, 3, size - 4);
+				assertArrayEquals(expected, bufferHasher.hash(heap, 3, size - 4));
+				assertArrayEquals(expected, bufferHasher.hash(direct, 3, size - 4));
+				assertEquals(0, direct.position());
+				assertEquals(size, direct.limit());
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.Hex;
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class BulkKeyPairGeneration extends AbstractLoggedTests {
+
+	@ParameterizedTest
+	@DisplayName("bulk generation yields the requested number of distinct, usable key pairs")
+	@ValueSource(strings = { "ed25519", "ed25519det", "sha256dsa", "qtesla1" })
+	void bulkGenerationYieldsDistinctKeyPairs(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		var keyPairs = algorithm.getKeyPairs(16);
+		assertEquals(16, keyPairs.size());
+
+		var encodings = new HashSet<String>();
+		for (var keyPair: keyPairs) {
+			encodings.add(Hex.toHexString(algorithm.encodingOf(keyPair.getPublic())));
+			byte[] signature = algorithm.<String> getSigner(keyPair.getPrivate(), String::getBytes).sign(name);
+			assertTrue(algorithm.<String> getVerifier(keyPair.getPublic(), String::getBytes).verify(name, signature));
+		}
+
+		assertEquals(16, encodings.size());
+	}
+
+	@Test
+	@DisplayName("bulk generation of ed25519det yields the same sequence of keys as getKeyPair()")
+	void bulkGenerationIsDeterministicForED25519DET() throws Exception {
+		// every call yields a new algorithm, with the same seed
+		var expected = SignatureAlgorithms.ed25519det();
+		var actual = SignatureAlgorithms.ed25519det();
+		var keyPairs = actual.streamOfKeyPairs(50).collect(Collectors.toList());
+
+		for (var keyPair: keyPairs)
+			assertArrayEquals(expected.encodingOf(expected.getKeyPair().getPrivate()), actual.encodingOf(keyPair.getPrivate()));
+	}
+
+	@Test
+	@DisplayName("bulk generation of no key pairs is allowed, of a negative number is not")
+	void emptyAndNegativeCounts() throws Exception {
+		var ed25519 = SignatureAlgorithms.ed25519();
+		assertTrue(ed25519.getKeyPairs(0).isEmpty());
+		assertEquals(0L, ed25519.streamOfKeyPairs(0).count());
+		assertThrows(IllegalArgumentException.class, () -> ed25519.getKeyPairs(-1));
+		assertThrows(IllegalArgumentException.class, () -> ed25519.streamOfKeyPairs(-1));
+	}
+
+	@ParameterizedTest
+	@DisplayName("the throughput of key pair generation, one by one and in bulk")
+	@ValueSource(strings = { "ed25519", "ed25519det", "sha256dsa", "qtesla1", "qtesla3" })
+	void keyPairGenerationThroughput(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		int count = name.startsWith("qtesla") ? 20 : 1000;
+
+		// warm-up
+		algorithm.getKeyPairs(count);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < count; i++)
+			algorithm.getKeyPair();
+		long oneByOne = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		assertEquals(count, algorithm.getKeyPairs(count).size());
+		long bulk = System.nanoTime() - start;
+
+		System.out.printf("%s on %d cores: %.1f key pairs/s one by one, %.1f key pairs/s in bulk\n",
+			name, Runtime.getRuntime().availableProcessors(), count * 1e9 / oneByOne, count * 1e9 / bulk);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class ConcurrentHashing extends AbstractLoggedTests {
+	private final static int ITERATIONS = 200_000;
+
+	@Test
+    @DisplayName("sha256 scales with the number of threads sharing the same algorithm")
+    void concurrentSHA256() throws Exception {
+		scale(HashingAlgorithms.sha256());
+	}
+
+	@Test
+    @DisplayName("shabal256 scales with the number of threads sharing the same algorithm")
+    void concurrentSHABAL256() throws Exception {
+		scale(HashingAlgorithms.shabal256());
+	}
+
+	private static void scale(HashingAlgorithm algorithm) throws Exception {
+		// the expected result of each thread, computed sequentially
+		byte[] expected = iterate(algorithm);
+		int max = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+		for (int threads = 1; threads <= max; threads *= 2) {
+			var executor = Executors.newFixedThreadPool(threads);
+
+			try {
+				var tasks = new ArrayList<Callable<byte[]>>();
+				for (int thread = 0; thread < threads; thread++)
+					tasks.add(() -> iterate(algorithm));
+
+				long start = System.nanoTime();
+				var results = executor.invokeAll(tasks);
+				for (Future<byte[]> result: results)
+					assertArrayEquals(expected, result.get());
+
+				long elapsed = System.nanoTime() - start;
+				System.out.printf("%s with %d thread(s): %d hashes/ms%n", algorithm, threads, threads * ITERATIONS * 1_000_000L / elapsed);
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	private static byte[] iterate(HashingAlgorithm algorithm) {
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		byte[] data = "HELLO CONCURRENT HASHING".getBytes();
+		for (int i = 0; i < ITERATIONS; i++)
+			data = hasher.hash(data);
+
+		return data;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class ConcurrentVerification extends AbstractLoggedTests {
+	private final static int VERIFICATIONS = 1024;
+
+	@ParameterizedTest
+	@DisplayName("the throughput of verification from 1 to 64 threads")
+	@ValueSource(strings = { "ed25519", "ed25519det", "sha256dsa" })
+	void verificationThroughput(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		var keys = algorithm.getKeyPair();
+		var data = "HELLO VERIFICATION".getBytes();
+		byte[] signature = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity()).sign(data);
+		var verifier = algorithm.getVerifier(keys.getPublic(), Function.<byte[]> identity());
+
+		// warm-up
+		for (int i = 0; i < VERIFICATIONS; i++)
+			assertTrue(verifier.verify(data, signature));
+
+		System.out.printf("%s on %d cores:", name, Runtime.getRuntime().availableProcessors());
+
+		for (int threads = 1; threads <= 64; threads *= 2) {
+			var executors = Executors.newFixedThreadPool(threads);
+
+			try {
+				// the same number of verifications is split among the threads
+				int verificationsPerThread = VERIFICATIONS / threads;
+				var tasks = new ArrayList<Callable<Boolean>>();
+				for (int thread = 0; thread < threads; thread++) {
+					tasks.add(() -> {
+						boolean ok = true;
+						for (int i = 0; i < verificationsPerThread; i++)
+							ok &= verifier.verify(data, signature);
+
+						return ok;
+					});
+				}
+
+				long start = System.nanoTime();
+				for (var result: executors.invokeAll(tasks))
+					assertTrue(result.get());
+
+				long elapsed = System.nanoTime() - start;
+				System.out.printf(" %d threads: %.0f verifications/s", threads, (double) VERIFICATIONS * 1_000_000_000 / elapsed);
+			}
+			finally {
+				executors.shutdownNow();
+				executors.awaitTermination(10, TimeUnit.SECONDS);
+			}
+		}
+
+		System.out.println();
+	}
+}
\ No newline at end of file
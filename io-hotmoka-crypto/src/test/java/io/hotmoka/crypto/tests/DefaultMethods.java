@@ -0,0 +1,403 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SignatureException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.crypto.api.BIP39Dictionary;
+import io.hotmoka.crypto.api.Hasher;
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.crypto.api.Marshaller;
+import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.crypto.api.Signer;
+import io.hotmoka.crypto.api.Verifier;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+/**
+ * Tests for the default methods of the API, through algorithms that, like those
+ * implemented outside this library, only define the abstract methods.
+ */
+public class DefaultMethods extends AbstractLoggedTests {
+
+	/**
+	 * A hashing algorithm that only defines the abstract methods of the API, by delegating to sha256.
+	 */
+	private static class MinimalHashingAlgorithm implements HashingAlgorithm {
+		private final HashingAlgorithm parent;
+
+		private MinimalHashingAlgorithm() throws NoSuchAlgorithmException {
+			this.parent = HashingAlgorithms.sha256();
+		}
+
+		@Override
+		public <T> Hasher<T> getHasher(Function<? super T, byte[]> toBytes) {
+			return parent.getHasher(toBytes);
+		}
+
+		@Override
+		public int length() {
+			return parent.length();
+		}
+
+		@Override
+		public String getName() {
+			return "minimal";
+		}
+
+		@Override
+		public HashingAlgorithm clone() {
+			return this;
+		}
+	}
+
+	/**
+	 * A signature algorithm that only defines the abstract methods of the API, by delegating to ed25519.
+	 */
+	private static class MinimalSignatureAlgorithm implements SignatureAlgorithm {
+		private final SignatureAlgorithm parent;
+
+		private MinimalSignatureAlgorithm() throws NoSuchAlgorithmException {
+			this.parent = SignatureAlgorithms.ed25519();
+		}
+
+		@Override
+		public KeyPair getKeyPair() {
+			return parent.getKeyPair();
+		}
+
+		@Override
+		public <T> Signer<T> getSigner(PrivateKey key, Function<? super T, byte[]> toBytes) {
+			return parent.getSigner(key, toBytes);
+		}
+
+		@Override
+		public <T> Verifier<T> getVerifier(PublicKey key, Function<? super T, byte[]> toBytes) {
+			return parent.getVerifier(key, toBytes);
+		}
+
+		@Override
+		public PublicKey publicKeyFromEncoding(byte[] encoding) throws InvalidKeySpecException {
+			return parent.publicKeyFromEncoding(encoding);
+		}
+
+		@Override
+		public byte[] encodingOf(PublicKey publicKey) throws InvalidKeyException {
+			return parent.encodingOf(publicKey);
+		}
+
+		@Override
+		public PrivateKey privateKeyFromEncoding(byte[] encoding) throws InvalidKeySpecException {
+			return parent.privateKeyFromEncoding(encoding);
+		}
+
+		@Override
+		public byte[] encodingOf(PrivateKey privateKey) throws InvalidKeyException {
+			return parent.encodingOf(privateKey);
+		}
+
+		@Override
+		public String getName() {
+			return "minimal";
+		}
+
+		@Override
+		public KeyPair getKeyPair(byte[] entropy, BIP39Dictionary dictionary, String password) {
+			return parent.getKeyPair(entropy, dictionary, password);
+		}
+
+		@Override
+		public KeyPair getKeyPair(byte[] entropy, String password) {
+			return parent.getKeyPair(entropy, password);
+		}
+
+		@Override
+		public OptionalInt publicKeyLength() {
+			return parent.publicKeyLength();
+		}
+
+		@Override
+		public OptionalInt privateKeyLength() {
+			return parent.privateKeyLength();
+		}
+
+		@Override
+		public OptionalInt length() {
+			return parent.length();
+		}
+	}
+
+	/**
+	 * Yields a hasher that only defines the abstract methods of the API, by delegating to the given hasher.
+	 */
+	private static <T> Hasher<T> minimal(Hasher<T> parent) {
+		return new Hasher<>() {
+
+			@Override
+			public byte[] hash(T what) {
+				return parent.hash(what);
+			}
+
+			@Override
+			public byte[] hash(T what, int start, int length) {
+				return parent.hash(what, start, length);
+			}
+
+			@Override
+			public int length() {
+				return parent.length();
+			}
+		};
+	}
+
+	private static byte[] randomBytes(Random random, int length) {
+		var bytes = new byte[length];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+
+	@Test
+	@DisplayName("the default incremental hasher yields the same hashes as the algorithm")
+	void defaultIncrementalHasher() throws Exception {
+		var algorithm = new MinimalHashingAlgorithm();
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var incremental = algorithm.getIncrementalHasher();
+		var random = new Random(13L);
+
+		for (int size: new int[] { 0, 1, 64, 1000 }) {
+			var data = randomBytes(random, size);
+			incremental.update(data, 0, size / 2);
+			incremental.update(ByteBuffer.allocateDirect(size - size / 2).put(data, size / 2, size - size / 2).flip());
+			assertArrayEquals(hasher.hash(data), incremental.finish());
+
+			var out = new byte[algorithm.length() + 3];
+			incremental.update(data);
+			incremental.finishInto(out, 3);
+			assertArrayEquals(hasher.hash(data), Arrays.copyOfRange(out, 3, out.length));
+		}
+	}
+
+	@Test
+	@DisplayName("the default buffer hasher yields the same hashes as the algorithm")
+	void defaultBufferHasher() throws Exception {
+		var algorithm = new MinimalHashingAlgorithm();
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var data = randomBytes(new Random(13L), 1000);
+		var heap = ByteBuffer.wrap(data).position(100);
+		var direct = ByteBuffer.allocateDirect(data.length).put(data).position(100);
+		var expected = hasher.hash(data, 100, data.length - 100);
+
+		for (var buffer: new ByteBuffer[] { heap, direct }) {
+			var bufferHasher = algorithm.getBufferHasher(Function.<ByteBuffer> identity());
+			assertArrayEquals(expected, bufferHasher.hash(buffer));
+			assertArrayEquals(hasher.hash(data, 150, 300), bufferHasher.hash(buffer, 50, 300));
+			// the position of the buffer is not modified
+			assertEquals(100, buffer.position());
+		}
+	}
+
+	@Test
+	@DisplayName("the default hashInto writes the hash at the given offset")
+	void defaultHashInto() throws Exception {
+		var parent = HashingAlgorithms.sha256().getHasher(Function.<byte[]> identity());
+		var hasher = minimal(parent);
+		var data = randomBytes(new Random(13L), 100);
+		var out = new byte[parent.length() + 5];
+		hasher.hashInto(data, out, 5);
+		assertArrayEquals(parent.hash(data), Arrays.copyOfRange(out, 5, out.length));
+		assertThrows(IndexOutOfBoundsException.class, () -> hasher.hashInto(data, out, 6));
+	}
+
+	@Test
+	@DisplayName("the default hashAll yields the hashes of the values, in order")
+	void defaultHashAll() throws Exception {
+		var parent = HashingAlgorithms.sha256().getHasher(Function.<byte[]> identity());
+		var random = new Random(13L);
+		var values = new ArrayList<byte[]>();
+		for (int i = 0; i < 100; i++)
+			values.add(randomBytes(random, i));
+
+		var hashes = minimal(parent).hashAll(values);
+		assertEquals(values.size(), hashes.size());
+		for (int i = 0; i < values.size(); i++)
+			assertArrayEquals(parent.hash(values.get(i)), hashes.get(i));
+	}
+
+	@Test
+	@DisplayName("the default prefixed hasher hashes the prefix followed by the bytes of the values")
+	void defaultPrefixedHasher() throws Exception {
+		var algorithm = new MinimalHashingAlgorithm();
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var random = new Random(13L);
+		var prefix = randomBytes(random, 70);
+		var data = randomBytes(random, 200);
+		var prefixed = algorithm.getPrefixedHasher(prefix, Function.<byte[]> identity());
+
+		var concatenation = new byte[prefix.length + data.length];
+		System.arraycopy(prefix, 0, concatenation, 0, prefix.length);
+		System.arraycopy(data, 0, concatenation, prefix.length, data.length);
+		assertArrayEquals(hasher.hash(concatenation), prefixed.hash(data));
+		// partial hashing includes the whole prefix
+		assertArrayEquals(hasher.hash(concatenation, 0, prefix.length + 50), prefixed.hash(data, 0, 50));
+		// later modifications of the prefix do not affect the hasher
+		prefix[0]++;
+		assertArrayEquals(hasher.hash(concatenation), prefixed.hash(data));
+	}
+
+	@Test
+	@DisplayName("the default hash chains yield the same results as the algorithm")
+	void defaultHashChain() throws Exception {
+		var algorithm = new MinimalHashingAlgorithm();
+		var sha256 = HashingAlgorithms.sha256();
+		var seed = randomBytes(new Random(13L), 50);
+
+		for (long n: new long[] { 0, 1, 2, 100 }) {
+			assertArrayEquals(sha256.hashChain(seed, n), algorithm.hashChain(seed, n));
+
+			for (long every: new long[] { 1, 3, 100 }) {
+				var expected = sha256.hashChain(seed, n, every);
+				var actual = algorithm.hashChain(seed, n, every);
+				assertEquals(expected.size(), actual.size());
+				for (int i = 0; i < expected.size(); i++)
+					assertArrayEquals(expected.get(i), actual.get(i));
+			}
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> algorithm.hashChain(seed, -1));
+		assertThrows(IllegalArgumentException.class, () -> algorithm.hashChain(seed, 10, 0));
+	}
+
+	@Test
+	@DisplayName("the default marshalling hasher yields the same hashes as the algorithm")
+	void defaultMarshallingHasher() throws Exception {
+		var algorithm = new MinimalHashingAlgorithm();
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var data = randomBytes(new Random(13L), 1000);
+		Marshaller<byte[]> twice = (bytes, out) -> { out.write(bytes); out.write(bytes); };
+
+		var concatenation = new byte[2 * data.length];
+		System.arraycopy(data, 0, concatenation, 0, data.length);
+		System.arraycopy(data, 0, concatenation, data.length, data.length);
+		assertArrayEquals(hasher.hash(concatenation), algorithm.getMarshallingHasher(twice).hash(data));
+		assertThrows(UncheckedIOException.class, () -> algorithm.getMarshallingHasher((byte[] bytes, OutputStream out) -> { throw new IOException(); }).hash(data));
+	}
+
+	@Test
+	@DisplayName("the default marshalling signers and verifiers agree with the algorithm")
+	void defaultMarshallingSignerAndVerifier() throws Exception {
+		var algorithm = new MinimalSignatureAlgorithm();
+		var keys = algorithm.getKeyPair();
+		var data = randomBytes(new Random(13L), 1000);
+		Marshaller<byte[]> identity = (bytes, out) -> out.write(bytes);
+
+		var signature = algorithm.getMarshallingSigner(keys.getPrivate(), identity).sign(data);
+		assertTrue(algorithm.<byte[]> getVerifier(keys.getPublic(), Function.identity()).verify(data, signature));
+		assertTrue(algorithm.getMarshallingVerifier(keys.getPublic(), identity).verify(data, signature));
+		data[0]++;
+		assertFalse(algorithm.getMarshallingVerifier(keys.getPublic(), identity).verify(data, signature));
+		assertThrows(SignatureException.class, () -> algorithm.getMarshallingSigner(keys.getPrivate(), (byte[] bytes, OutputStream out) -> { throw new IOException(); }).sign(data));
+		assertThrows(SignatureException.class, () -> algorithm.getMarshallingVerifier(keys.getPublic(), (byte[] bytes, OutputStream out) -> { throw new IOException(); }).verify(data, signature));
+	}
+
+	@Test
+	@DisplayName("the default batch verification agrees with the verification of each signature")
+	void defaultVerifyAll() throws Exception {
+		var algorithm = new MinimalSignatureAlgorithm();
+		var keys = algorithm.getKeyPair();
+		var signer = algorithm.<String> getSigner(keys.getPrivate(), String::getBytes);
+		var messages = new ArrayList<String>();
+		var publicKeys = new ArrayList<PublicKey>();
+		var signatures = new ArrayList<byte[]>();
+		for (int i = 0; i < 6; i++) {
+			messages.add("message #" + i);
+			publicKeys.add(keys.getPublic());
+			signatures.add(signer.sign("message #" + i));
+		}
+
+		messages.set(1, "tampered");
+		publicKeys.set(2, null);
+		signatures.set(3, null);
+		signatures.set(4, new byte[3]);
+
+		var result = algorithm.verifyAll(messages, String::getBytes, publicKeys, signatures);
+		var expected = new BitSet();
+		expected.set(0);
+		expected.set(5);
+		assertEquals(expected, result);
+		assertThrows(IllegalArgumentException.class, () -> algorithm.verifyAll(messages, String::getBytes, publicKeys.subList(0, 2), signatures));
+	}
+
+	@Test
+	@DisplayName("the default public key cache remains empty")
+	void defaultPublicKeyCache() throws Exception {
+		var algorithm = new MinimalSignatureAlgorithm();
+		var cache = algorithm.getPublicKeyCache();
+		var encoding = algorithm.encodingOf(algorithm.getKeyPair().getPublic());
+		algorithm.publicKeyFromEncoding(encoding);
+		cache.setCapacity(100);
+		algorithm.publicKeyFromEncoding(encoding);
+		assertEquals(0, cache.getCapacity());
+		assertEquals(0, cache.size());
+		assertEquals(0L, cache.getHits());
+		assertThrows(IllegalArgumentException.class, () -> cache.setCapacity(-1));
+	}
+
+	@Test
+	@DisplayName("the default generation of many key pairs yields distinct, usable pairs")
+	void defaultKeyPairs() throws Exception {
+		var algorithm = new MinimalSignatureAlgorithm();
+		var pairs = algorithm.getKeyPairs(10);
+		assertEquals(10, pairs.size());
+		assertEquals(10, pairs.stream().map(pair -> Arrays.toString(pair.getPublic().getEncoded())).distinct().count());
+
+		var data = "hello".getBytes();
+		for (var pair: pairs) {
+			var signature = algorithm.<byte[]> getSigner(pair.getPrivate(), Function.identity()).sign(data);
+			assertTrue(algorithm.<byte[]> getVerifier(pair.getPublic(), Function.identity()).verify(data, signature));
+		}
+
+		assertEquals(3L, algorithm.streamOfKeyPairs(3).count());
+		assertThrows(IllegalArgumentException.class, () -> algorithm.getKeyPairs(-1));
+		assertThrows(IllegalArgumentException.class, () -> algorithm.streamOfKeyPairs(-1));
+	}
+}
\ No newline at end of file
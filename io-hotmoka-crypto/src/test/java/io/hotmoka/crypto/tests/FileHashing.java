@@ -0,0 +1,104 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.FileHashers;
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class FileHashing extends AbstractLoggedTests {
+
+	@ParameterizedTest
+	@DisplayName("memory-mapped file hashing yields the same hash as hashing the content of the file")
+	@ValueSource(strings = { "sha256", "shabal256" })
+	void mappedIsLikeArrays(String name, @TempDir Path dir) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		// a small window, not aligned with the blocks of the algorithms, so that files span many windows
+		var fileHasher = FileHashers.of(algorithm, 4099);
+		var random = new Random(5L);
+		long total = 0;
+
+		for (int size: new int[] { 0, 1, 4099, 4100, 100_000 }) {
+			var data = new byte[size];
+			random.nextBytes(data);
+			Path file = Files.write(dir.resolve("file" + size), data);
+			assertArrayEquals(hasher.hash(data), fileHasher.hash(file));
+			total += size;
+		}
+
+		assertEquals(total, fileHasher.getBytesHashed());
+	}
+
+	@ParameterizedTest
+	@DisplayName("memory-mapped file hashing is compared with buffered stream reading")
+	@ValueSource(strings = { "sha256", "shabal256" })
+	void mappedVsStream(String name, @TempDir Path dir) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var data = new byte[64 * 1024 * 1024];
+		new Random(9L).nextBytes(data);
+		Path file = Files.write(dir.resolve("large"), data);
+		data = null;
+
+		var fileHasher = FileHashers.of(algorithm);
+		// we hash twice and only measure the second time, so that the file is in the page cache
+		fileHasher.hash(file);
+		hashStream(algorithm, file);
+
+		fileHasher = FileHashers.of(algorithm);
+		byte[] mapped = fileHasher.hash(file);
+
+		long start = System.nanoTime();
+		byte[] streamed = hashStream(algorithm, file);
+		long streamNanos = System.nanoTime() - start;
+
+		assertArrayEquals(streamed, mapped);
+		assertTrue(fileHasher.getThroughput() > 0);
+		System.out.printf("%s: memory-mapped hashing at %.1f MB/s, buffered stream at %.1f MB/s%n",
+			name, fileHasher.getThroughput() / 1_000_000, Files.size(file) * 1000.0 / streamNanos);
+	}
+
+	private static byte[] hashStream(HashingAlgorithm algorithm, Path file) throws IOException {
+		var hasher = algorithm.getIncrementalHasher();
+
+		try (var is = new BufferedInputStream(Files.newInputStream(file))) {
+			var buffer = new byte[8192];
+			int read;
+			while ((read = is.read(buffer)) > 0)
+				hasher.update(buffer, 0, read);
+		}
+
+		return hasher.finish();
+	}
+}
\ No newline at end of file
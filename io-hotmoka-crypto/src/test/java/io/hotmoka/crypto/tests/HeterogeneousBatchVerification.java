@@ -0,0 +1,218 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.crypto.BatchVerifiers;
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.crypto.api.SignatureToVerify;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class HeterogeneousBatchVerification extends AbstractLoggedTests {
+
+	/**
+	 * Yields a batch of valid signatures of the given algorithms, interleaved.
+	 */
+	private static List<SignatureToVerify> mkBatch(SignatureAlgorithm[] algorithms, int[] counts) throws Exception {
+		var result = new ArrayList<SignatureToVerify>();
+		var keys = new KeyPair[algorithms.length];
+		for (int i = 0; i < algorithms.length; i++)
+			keys[i] = algorithms[i].getKeyPair();
+
+		int max = 0;
+		for (int count: counts)
+			max = Math.max(max, count);
+
+		for (int n = 0; n < max; n++)
+			for (int i = 0; i < algorithms.length; i++)
+				if (n < counts[i]) {
+					byte[] message = (algorithms[i].getName() + " message #" + n).getBytes();
+					byte[] signature = algorithms[i].getSigner(keys[i].getPrivate(), Function.<byte[]> identity()).sign(message);
+					result.add(BatchVerifiers.signature(algorithms[i], keys[i].getPublic(), message, signature));
+				}
+
+		return result;
+	}
+
+	/**
+	 * Yields a copy of the given signature, with a flipped bit in the signature.
+	 */
+	private static SignatureToVerify corrupt(SignatureToVerify signature) {
+		byte[] bytes = signature.getSignature().clone();
+		bytes[bytes.length / 2] ^= 0x10;
+		return BatchVerifiers.signature(signature.getAlgorithm(), signature.getPublicKey(), signature.getMessage(), bytes);
+	}
+
+	@Test
+	@DisplayName("a batch of valid signatures of different algorithms is accepted")
+	void validHeterogeneousBatchIsAccepted() throws Exception {
+		var algorithms = new SignatureAlgorithm[] { SignatureAlgorithms.ed25519(), SignatureAlgorithms.sha256dsa(), SignatureAlgorithms.qtesla1(), SignatureAlgorithms.qtesla3() };
+		var batch = mkBatch(algorithms, new int[] { 150, 20, 5, 3 });
+		var verifier = BatchVerifiers.of();
+
+		assertEquals(batch.size(), verifier.verifyAll(batch).cardinality());
+		assertEquals(batch.size(), verifier.verifyUntilFailure(batch).cardinality());
+		assertEquals(300, verifier.getVerifications(algorithms[0]));
+		assertEquals(40, verifier.getVerifications(algorithms[1]));
+		assertEquals(10, verifier.getVerifications(algorithms[2]));
+		assertEquals(6, verifier.getVerifications(algorithms[3]));
+
+		for (var algorithm: algorithms)
+			System.out.printf("%s: %.0f verifications/s%n", algorithm.getName(), verifier.getThroughput(algorithm));
+	}
+
+	@Test
+	@DisplayName("the invalid signatures of a batch of different algorithms are identified")
+	void invalidSignaturesAreIdentified() throws Exception {
+		var algorithms = new SignatureAlgorithm[] { SignatureAlgorithms.ed25519(), SignatureAlgorithms.sha256dsa(), SignatureAlgorithms.qtesla1() };
+		var batch = new ArrayList<>(mkBatch(algorithms, new int[] { 130, 10, 4 }));
+		var expected = new BitSet();
+		expected.set(0, batch.size());
+
+		for (int pos: new int[] { 0, 4, 17, 50, 141 }) {
+			batch.set(pos, corrupt(batch.get(pos)));
+			expected.clear(pos);
+		}
+
+		var pool = new ForkJoinPool(4);
+
+		try {
+			var verifier = BatchVerifiers.of(pool);
+			assertEquals(expected, verifier.verifyAll(batch));
+
+			// in fail-fast mode, only valid signatures can be reported as such
+			BitSet result = verifier.verifyUntilFailure(batch);
+			assertTrue(result.cardinality() < batch.size());
+			result.andNot(expected);
+			assertTrue(result.isEmpty());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Yields an Ed25519 signature of the given message for a public key of order 8,
+	 * that is accepted by the cofactored verification equation but, most of the times,
+	 * not by the cofactorless one of RFC 8032. Its R is the public key derived from {@code secret},
+	 * that is, [r] B for the clamped scalar r of the secret, and its s is r itself,
+	 * hence s B - R - h A = - h A, which vanishes once multiplied by the cofactor.
+	 */
+	private static SignatureToVerify withSmallOrderKey(SignatureAlgorithm ed25519, byte[] secret, byte[] message) throws Exception {
+		var smallOrderKey = HexFormat.of().parseHex("c7176a703d4dd84fba3c0b760d10670f2a2053fa2c39ccc64ec7fd7792ac037a");
+		var signature = new byte[64];
+		Ed25519.generatePublicKey(secret, 0, signature, 0);
+
+		byte[] h = MessageDigest.getInstance("SHA-512").digest(secret);
+		h[0] &= (byte) 248;
+		h[31] &= 127;
+		h[31] |= 64;
+		var bigEndian = new byte[32];
+		for (int i = 0; i < 32; i++)
+			bigEndian[i] = h[31 - i];
+
+		var L = BigInteger.ONE.shiftLeft(252).add(new BigInteger("27742317777372353535851937790883648493"));
+		byte[] s = new BigInteger(1, bigEndian).mod(L).toByteArray();
+		for (int i = 0; i < s.length && i < 32; i++)
+			signature[32 + i] = s[s.length - 1 - i];
+
+		return BatchVerifiers.signature(ed25519, ed25519.publicKeyFromEncoding(smallOrderKey), message, signature);
+	}
+
+	@Test
+	@DisplayName("every result of a batch of different algorithms agrees with the individual verification")
+	void everyResultAgreesWithIndividualVerification() throws Exception {
+		var ed25519 = SignatureAlgorithms.ed25519();
+		var ed25519cofactored = SignatureAlgorithms.ed25519cofactored();
+		var algorithms = new SignatureAlgorithm[] { ed25519, ed25519cofactored, SignatureAlgorithms.ed25519det(), SignatureAlgorithms.sha256dsa(), SignatureAlgorithms.qtesla1() };
+		var batch = new ArrayList<>(mkBatch(algorithms, new int[] { 100, 100, 20, 10, 4 }));
+		var random = new Random(13011973);
+
+		for (int pos = 0; pos < batch.size(); pos += 1 + random.nextInt(9))
+			batch.set(pos, corrupt(batch.get(pos)));
+
+		for (int i = 0; i < 20; i++) {
+			var secret = new byte[32];
+			random.nextBytes(secret);
+			byte[] message = ("crafted message #" + i).getBytes();
+
+			// ed25519 follows RFC 8032, while ed25519cofactored accepts all crafted signatures
+			SignatureToVerify crafted;
+			if (i % 2 == 0) {
+				crafted = withSmallOrderKey(ed25519, secret, message);
+				assertEquals(Ed25519.verify(crafted.getSignature(), 0, ed25519.encodingOf(crafted.getPublicKey()), 0, message, 0, message.length),
+					ed25519.getVerifier(crafted.getPublicKey(), Function.<byte[]> identity()).verify(message, crafted.getSignature()));
+			}
+			else {
+				crafted = withSmallOrderKey(ed25519cofactored, secret, message);
+				assertTrue(ed25519cofactored.getVerifier(crafted.getPublicKey(), Function.<byte[]> identity()).verify(message, crafted.getSignature()));
+			}
+
+			batch.add(random.nextInt(batch.size() + 1), crafted);
+		}
+
+		var pool = new ForkJoinPool(4);
+
+		try {
+			var result = BatchVerifiers.of(pool).verifyAll(batch);
+
+			for (int pos = 0; pos < batch.size(); pos++) {
+				var signature = batch.get(pos);
+				boolean expected;
+
+				try {
+					expected = signature.getAlgorithm().getVerifier(signature.getPublicKey(), Function.<byte[]> identity()).verify(signature.getMessage(), signature.getSignature());
+				}
+				catch (Exception e) {
+					expected = false;
+				}
+
+				assertEquals(expected, result.get(pos), "signature #" + pos + " of " + signature.getAlgorithm().getName());
+			}
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("an empty batch is accepted")
+	void emptyBatchIsAccepted() throws Exception {
+		var verifier = BatchVerifiers.of();
+		assertTrue(verifier.verifyAll(List.of()).isEmpty());
+		assertEquals(0L, verifier.getVerifications(SignatureAlgorithms.ed25519()));
+		assertEquals(0.0, verifier.getThroughput(SignatureAlgorithms.ed25519()));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class IncrementalHashing extends AbstractLoggedTests {
+
+	@ParameterizedTest
+	@DisplayName("hashing piece by piece yields the same hash as hashing all bytes at once")
+	@ValueSource(strings = { "sha256", "shabal256", "identity32" })
+	void incrementalIsLikeAllAtOnce(String name) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var random = new Random(13L);
+		var incremental = algorithm.getIncrementalHasher();
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+
+		for (int size: new int[] { 0, 1, 32, 63, 64, 65, 1000, 100_000 }) {
+			// the identity algorithm can only hash arrays of its own length
+			if (name.startsWith("identity") && size != algorithm.length())
+				continue;
+
+			var data = new byte[size];
+			random.nextBytes(data);
+
+			// feed the data in pieces of random length, alternating the kinds of update
+			for (int pos = 0, kind = 0; pos < size; kind++) {
+				int length = Math.min(size - pos, random.nextInt(150));
+				switch (kind % 4) {
+				case 0: incremental.update(data, pos, length); break;
+				case 1: incremental.update(ByteBuffer.wrap(data, pos, length)); break;
+				case 2: incremental.update(ByteBuffer.allocateDirect(length).put(data, pos, length).flip()); break;
+				default: for (int i = pos; i < pos + length; i++) incremental.update(data[i]);
+				}
+
+				pos += length;
+			}
+
+			byte[] result = incremental.finish();
+			assertEquals(algorithm.length(), result.length);
+			assertArrayEquals(hasher.hash(data), result);
+
+			// after finish, the incremental hasher can be reused
+			incremental.update(data);
+			assertArrayEquals(hasher.hash(data), incremental.finish());
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class Keccak extends AbstractLoggedTests {
+
+	@Test
+	@DisplayName("keccak256 and sha3_256 yield the hashes of their specification")
+	void knownVectors() throws Exception {
+		var keccak = HashingAlgorithms.of("keccak256").getHasher(Function.<byte[]> identity());
+		var sha3 = HashingAlgorithms.of("sha3_256").getHasher(Function.<byte[]> identity());
+
+		assertEquals("c5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470", Hex.toHexString(keccak.hash(new byte[0])));
+		assertEquals("a7ffc6f8bf1ed76651c14756a061d662f580ff4de43b49fa82d80a4b80f8434a", Hex.toHexString(sha3.hash(new byte[0])));
+		assertEquals("3a985da74fe225b2045c172d6bd390bd855f086e3e9d525b46bfe24511431532", Hex.toHexString(sha3.hash("abc".getBytes())));
+	}
+
+	@ParameterizedTest
+	@DisplayName("the sponge yields the same hashes as the reference implementation, in one shot, incrementally and with prefixes")
+	@ValueSource(strings = { "keccak256", "sha3_256" })
+	void sameAsReference(String name) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var incremental = algorithm.getIncrementalHasher();
+		var random = new Random(29L);
+
+		for (int size: new int[] { 0, 1, 7, 8, 9, 135, 136, 137, 272, 1000, 100_000 }) {
+			var data = new byte[size];
+			random.nextBytes(data);
+			Digest reference = "keccak256".equals(name) ? new KeccakDigest(256) : new SHA3Digest(256);
+			reference.update(data, 0, size);
+			var expected = new byte[32];
+			reference.doFinal(expected, 0);
+
+			assertArrayEquals(expected, hasher.hash(data));
+
+			// pieces of random length, not aligned with the lanes nor with the rate
+			for (int pos = 0; pos < size;) {
+				int length = Math.min(size - pos, random.nextInt(300));
+				if (length == 1)
+					incremental.update(data[pos]);
+				else if (length % 2 == 0)
+					incremental.update(data, pos, length);
+				else
+					incremental.update(ByteBuffer.allocateDirect(length).put(data, pos, length).flip());
+
+				pos += length;
+			}
+
+			assertArrayEquals(expected, incremental.finish());
+
+			int split = size / 3;
+			var prefix = new byte[split];
+			System.arraycopy(data, 0, prefix, 0, split);
+			assertArrayEquals(expected, algorithm.getPrefixedHasher(prefix, Function.<byte[]> identity()).hash(data, split, size - split));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.bouncycastle.crypto.digests.SHA512Digest;
+import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
+import org.bouncycastle.crypto.params.KeyParameter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.BIP39Mnemonics;
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class KeyDerivation extends AbstractLoggedTests {
+	private final static String[] PASSWORDS = { "", "password", "una password molto più lunga, con caratteri non ASCII: àèìòù€" };
+
+	/**
+	 * The reference derivation of the seed of the key pairs, as in BIP39.
+	 */
+	private static byte[] referenceSeed(byte[] entropy, String password, int bits) {
+		String mnemonic = BIP39Mnemonics.of(entropy).stream().collect(Collectors.joining(" "));
+		var gen = new PKCS5S2ParametersGenerator(new SHA512Digest());
+		gen.init(mnemonic.getBytes(StandardCharsets.UTF_8), ("mnemonic" + password).getBytes(StandardCharsets.UTF_8), 2048);
+		return ((KeyParameter) gen.generateDerivedParameters(bits)).getKey();
+	}
+
+	private static byte[] mkEntropy(Random random, int length) {
+		var entropy = new byte[length];
+		random.nextBytes(entropy);
+		return entropy;
+	}
+
+	@ParameterizedTest
+	@DisplayName("ed25519 key pairs derived from entropy are those of the reference derivation")
+	@ValueSource(ints = { 16, 20, 24, 28, 32 })
+	void ed25519DerivationMatchesReference(int entropyLength) throws Exception {
+		var ed25519 = SignatureAlgorithms.ed25519();
+		var random = new Random(entropyLength);
+
+		for (String password: PASSWORDS) {
+			byte[] entropy = mkEntropy(random, entropyLength);
+			// the private key of ed25519 consists of the first 32 bytes of the seed
+			byte[] expected = Arrays.copyOf(referenceSeed(entropy, password, 512), 32);
+			assertArrayEquals(expected, ed25519.encodingOf(ed25519.getKeyPair(entropy, password).getPrivate()));
+		}
+	}
+
+	@Test
+	@DisplayName("sha256dsa key pairs derived from entropy are those of the reference derivation")
+	void sha256dsaDerivationMatchesReference() throws Exception {
+		var sha256dsa = SignatureAlgorithms.sha256dsa();
+		var random = new Random(13L);
+
+		for (String password: PASSWORDS) {
+			byte[] entropy = mkEntropy(random, 32);
+			byte[] seed = referenceSeed(entropy, password, 1792);
+			var keyPairGenerator = KeyPairGenerator.getInstance("DSA", "BC");
+			keyPairGenerator.initialize(2048, new SecureRandom() {
+				private final static long serialVersionUID = 1L;
+
+				@Override
+				public void nextBytes(byte[] bytes) {
+					System.arraycopy(seed, 0, bytes, 0, bytes.length);
+				}
+			});
+
+			var expected = keyPairGenerator.generateKeyPair();
+			var actual = sha256dsa.getKeyPair(entropy, password);
+			assertArrayEquals(sha256dsa.encodingOf(expected.getPublic()), sha256dsa.encodingOf(actual.getPublic()));
+			assertArrayEquals(sha256dsa.encodingOf(expected.getPrivate()), sha256dsa.encodingOf(actual.getPrivate()));
+		}
+	}
+
+	@ParameterizedTest
+	@DisplayName("compares the derivation of key pairs from entropy with the reference derivation of their seed")
+	@ValueSource(strings = { "ed25519", "sha256dsa" })
+	void benchmarkDerivation(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		int bits = "sha256dsa".equals(name) ? 1792 : 512;
+		final int count = 50;
+		var entropies = new byte[count][];
+		var random = new Random(42L);
+		for (int i = 0; i < count; i++)
+			entropies[i] = mkEntropy(random, 32);
+
+		// warm-up
+		for (int i = 0; i < count; i++) {
+			algorithm.getKeyPair(entropies[i], "password");
+			referenceSeed(entropies[i], "password", bits);
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < count; i++)
+			referenceSeed(entropies[i], "password", bits);
+		long reference = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < count; i++)
+			algorithm.getKeyPair(entropies[i], "password");
+		long derivation = System.nanoTime() - start;
+
+		System.out.printf("%s on %d cores: %.2fms per key pair derived from entropy, %.2fms per reference derivation of its %d bits seed only\n",
+			name, Runtime.getRuntime().availableProcessors(), derivation / 1e6 / count, reference / 1e6 / count, bits);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.SignatureException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.crypto.api.Marshaller;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class Marshalling extends AbstractLoggedTests {
+
+	/**
+	 * Writes an array of bytes in small pieces, mixing single bytes and portions of arrays.
+	 */
+	private final static Marshaller<byte[]> PIECEWISE = (bytes, out) -> {
+		for (int pos = 0; pos < bytes.length;) {
+			if (pos % 3 == 0)
+				out.write(bytes[pos++]);
+			else {
+				int length = Math.min(bytes.length - pos, 17);
+				out.write(bytes, pos, length);
+				pos += length;
+			}
+		}
+	};
+
+	@ParameterizedTest
+	@DisplayName("marshalling hashers yield the same hash as hashers of the bytes of the values")
+	@ValueSource(strings = { "sha256", "shabal256" })
+	void marshallingHashersAreLikeHashers(String name) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var marshallingHasher = algorithm.getMarshallingHasher(PIECEWISE);
+		var random = new Random(19L);
+
+		for (int size: new int[] { 0, 1, 17, 64, 1000, 100_000 }) {
+			var data = new byte[size];
+			random.nextBytes(data);
+			assertArrayEquals(hasher.hash(data), marshallingHasher.hash(data));
+
+			var out = new byte[hasher.length() + 2];
+			marshallingHasher.hashInto(data, out, 2);
+			assertArrayEquals(hasher.hash(data), Arrays.copyOfRange(out, 2, out.length));
+
+			if (size > 5)
+				assertArrayEquals(hasher.hash(data, 2, size - 5), marshallingHasher.hash(data, 2, size - 5));
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> marshallingHasher.hash(new byte[10], 5, 6));
+		assertThrows(UncheckedIOException.class, () -> algorithm.getMarshallingHasher((byte[] bytes, OutputStream os) -> { throw new IOException(); }).hash(new byte[1]));
+	}
+
+	@ParameterizedTest
+	@DisplayName("marshalling signers and verifiers agree with signers and verifiers of the bytes of the values")
+	@ValueSource(strings = { "sha256dsa", "ed25519", "ed25519det", "qtesla1", "empty" })
+	void marshallingSignersAreLikeSigners(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		var keys = algorithm.getKeyPair();
+		var data = new byte[50_000];
+		new Random(37L).nextBytes(data);
+
+		byte[] signature = algorithm.getMarshallingSigner(keys.getPrivate(), PIECEWISE).sign(data);
+		assertTrue(algorithm.getVerifier(keys.getPublic(), Function.<byte[]> identity()).verify(data, signature));
+		assertTrue(algorithm.getMarshallingVerifier(keys.getPublic(), PIECEWISE).verify(data, signature));
+
+		signature = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity()).sign(data);
+		assertTrue(algorithm.getMarshallingVerifier(keys.getPublic(), PIECEWISE).verify(data, signature));
+
+		if (!"empty".equals(name)) {
+			data[123]++;
+			assertFalse(algorithm.getMarshallingVerifier(keys.getPublic(), PIECEWISE).verify(data, signature));
+		}
+
+		assertThrows(SignatureException.class, () -> algorithm.getMarshallingSigner(keys.getPrivate(), (byte[] bytes, OutputStream os) -> { throw new IOException(); }).sign(data));
+	}
+}
\ No newline at end of file
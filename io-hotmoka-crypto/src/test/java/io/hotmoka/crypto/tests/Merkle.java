@@ -0,0 +1,166 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.crypto.MerkleTrees;
+import io.hotmoka.crypto.api.HashingAlgorithm;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class Merkle extends AbstractLoggedTests {
+
+	@ParameterizedTest
+	@DisplayName("bulk, appended and updated Merkle trees have the same root as a naive construction")
+	@ValueSource(strings = { "sha256", "shabal256" })
+	void rootsAreCorrect(String name) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var random = new Random(13L);
+		var values = new ArrayList<byte[]>();
+		var tree = MerkleTrees.of(algorithm, Function.<byte[]> identity());
+
+		for (int size = 0; size <= 70; size++) {
+			assertEquals(size, tree.size());
+			assertArrayEquals(naiveRoot(algorithm, values), tree.getRoot());
+			assertArrayEquals(naiveRoot(algorithm, values), MerkleTrees.of(algorithm, Function.<byte[]> identity(), values).getRoot());
+
+			if (size > 0) {
+				int index = random.nextInt(size);
+				var value = randomValue(random);
+				values.set(index, value);
+				tree.set(index, value);
+				assertArrayEquals(naiveRoot(algorithm, values), tree.getRoot());
+			}
+
+			var value = randomValue(random);
+			values.add(value);
+			tree.add(value);
+		}
+	}
+
+	@ParameterizedTest
+	@DisplayName("inclusion proofs are accepted for the right leaves only")
+	@ValueSource(strings = { "sha256", "shabal256" })
+	void proofsAreCorrect(String name) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var random = new Random(31L);
+
+		for (int size = 1; size <= 40; size++) {
+			var values = new ArrayList<byte[]>();
+			for (int i = 0; i < size; i++)
+				values.add(randomValue(random));
+
+			var tree = MerkleTrees.of(algorithm, Function.<byte[]> identity(), values);
+			byte[] root = tree.getRoot();
+
+			for (int index = 0; index < size; index++) {
+				var proof = tree.getProof(index);
+				assertTrue(proof.verify(values.get(index), root));
+				assertFalse(proof.verify(concat(values.get(index), new byte[] { 42 }), root));
+
+				// the proof survives a round trip through its components
+				var copy = MerkleTrees.proof(algorithm, proof.getLeafIndex(), proof.getTreeSize(), proof.getSiblings());
+				assertTrue(copy.verify(values.get(index), root));
+
+				// a tampered sibling invalidates the proof
+				List<byte[]> siblings = proof.getSiblings();
+				if (!siblings.isEmpty()) {
+					siblings.get(0)[0]++;
+					assertFalse(MerkleTrees.proof(algorithm, index, size, siblings).verify(values.get(index), root));
+				}
+			}
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> MerkleTrees.proof(algorithm, 0, 2, List.of()));
+		assertThrows(IllegalArgumentException.class, () -> MerkleTrees.proof(algorithm, 2, 2, List.of(new byte[algorithm.length()])));
+	}
+
+	@ParameterizedTest
+	@DisplayName("large trees built in bulk or by appending their leaves have the same root")
+	@ValueSource(strings = { "sha256", "shabal256" })
+	void largeTrees(String name) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var random = new Random(7L);
+		var values = new ArrayList<byte[]>();
+		for (int i = 0; i < 200_000; i++)
+			values.add(randomValue(random));
+
+		long start = System.nanoTime();
+		var tree1 = MerkleTrees.of(algorithm, Function.<byte[]> identity());
+		for (var value: values)
+			tree1.add(value);
+		long appendTime = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		var tree2 = MerkleTrees.of(algorithm, Function.<byte[]> identity(), values);
+		long bulkTime = System.nanoTime() - start;
+
+		assertArrayEquals(tree1.getRoot(), tree2.getRoot());
+		assertTrue(tree2.getProof(123_456).verify(values.get(123_456), tree1.getRoot()));
+		System.out.printf("%s on %d leaves: appends took %dms, bulk construction took %dms%n", name, values.size(), appendTime / 1_000_000, bulkTime / 1_000_000);
+	}
+
+	private static byte[] randomValue(Random random) {
+		var value = new byte[random.nextInt(100)];
+		random.nextBytes(value);
+		return value;
+	}
+
+	/**
+	 * Computes the root of a Merkle tree level by level, concatenating arrays.
+	 */
+	private static byte[] naiveRoot(HashingAlgorithm algorithm, List<byte[]> values) {
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		if (values.isEmpty())
+			return hasher.hash(new byte[0]);
+
+		var level = new ArrayList<byte[]>();
+		for (var value: values)
+			level.add(hasher.hash(concat(new byte[] { 0 }, value)));
+
+		while (level.size() > 1) {
+			var above = new ArrayList<byte[]>();
+			for (int i = 0; i < level.size(); i += 2)
+				above.add(i + 1 < level.size() ? hasher.hash(concat(new byte[] { 1 }, concat(level.get(i), level.get(i + 1)))) : level.get(i));
+
+			level = above;
+		}
+
+		return level.get(0);
+	}
+
+	private static byte[] concat(byte[] first, byte[] second) {
+		var result = new byte[first.length + second.length];
+		System.arraycopy(first, 0, result, 0, first.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class MultiBufferSHABAL256 extends AbstractLoggedTests {
+
+	@Test
+	@DisplayName("batches of equal-length inputs hash to the same values as single inputs with shabal256")
+	void multiBufferIsLikeSingleBuffer() throws Exception {
+		var hasher = HashingAlgorithms.shabal256().getHasher(Function.<byte[]> identity());
+		var random = new Random(23L);
+
+		for (int length: new int[] { 0, 1, 31, 32, 55, 56, 63, 64, 65, 128, 200, 1000 })
+			for (int size: new int[] { 7, 8, 9, 16, 23, 200 }) {
+				var items = new ArrayList<byte[]>();
+				for (int i = 0; i < size; i++) {
+					var item = new byte[length];
+					random.nextBytes(item);
+					items.add(item);
+				}
+
+				// an item of different length in the middle breaks a run of equal-length inputs
+				if (size > 16)
+					items.set(11, new byte[length + 1]);
+
+				List<byte[]> actual = hasher.hashAll(items);
+				for (int i = 0; i < size; i++)
+					assertArrayEquals(hasher.hash(items.get(i)), actual.get(i));
+			}
+	}
+
+	@Test
+	@DisplayName("multi-buffer shabal256 is compared with hashing 32 bytes inputs one by one")
+	void multiBufferVsSingleBuffer() throws Exception {
+		var hasher = HashingAlgorithms.shabal256().getHasher(Function.<byte[]> identity());
+		var random = new Random(29L);
+		var items = new ArrayList<byte[]>();
+		for (int i = 0; i < 64; i++) {
+			var item = new byte[32];
+			random.nextBytes(item);
+			items.add(item);
+		}
+
+		// we warm up both ways of hashing, so that the measurements below are not affected by compilation
+		for (int repetition = 0; repetition < 20_000; repetition++) {
+			hasher.hashAll(items);
+			for (var item: items)
+				hasher.hash(item);
+		}
+
+		List<byte[]> expected = null, actual = null;
+		long singleTime = 0, multiTime = 0;
+		for (int repetition = 0; repetition < 10_000; repetition++) {
+			long start = System.nanoTime();
+			expected = new ArrayList<>();
+			for (var item: items)
+				expected.add(hasher.hash(item));
+			singleTime += System.nanoTime() - start;
+
+			// batches of 64 items are hashed in the calling thread, hence this measures the multi-buffer engine only
+			start = System.nanoTime();
+			actual = hasher.hashAll(items);
+			multiTime += System.nanoTime() - start;
+		}
+
+		for (int i = 0; i < items.size(); i++)
+			assertArrayEquals(expected.get(i), actual.get(i));
+
+		System.out.printf("shabal256 on 32 bytes inputs: one by one took %dms, multi-buffer took %dms%n", singleTime / 1_000_000, multiTime / 1_000_000);
+	}
+}
\ No newline at end of file
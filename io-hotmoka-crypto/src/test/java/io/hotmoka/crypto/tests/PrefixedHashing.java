@@ -0,0 +1,111 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class PrefixedHashing extends AbstractLoggedTests {
+
+	@ParameterizedTest
+	@DisplayName("prefixed hashers yield the same hash as hashing the concatenation of prefix and value")
+	@ValueSource(strings = { "sha256", "shabal256", "identity32" })
+	void prefixedIsLikeConcatenation(String name) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var random = new Random(3L);
+		// the identity algorithm requires the total length to be exactly its length
+		int[] sizes = name.startsWith("identity") ? new int[] { 0, 1, 31, 32 } : new int[] { 0, 1, 31, 63, 64, 65, 200 };
+
+		for (int prefixSize: sizes) {
+			var prefix = new byte[prefixSize];
+			random.nextBytes(prefix);
+			var prefixedHasher = algorithm.getPrefixedHasher(prefix.clone(), Function.<byte[]> identity());
+
+			for (int valueSize: sizes) {
+				if (name.startsWith("identity") && prefixSize + valueSize != algorithm.length())
+					continue;
+
+				var value = new byte[valueSize];
+				random.nextBytes(value);
+				var concatenation = concat(prefix, value);
+				assertArrayEquals(hasher.hash(concatenation), prefixedHasher.hash(value));
+
+				var out = new byte[prefixedHasher.length() + 3];
+				prefixedHasher.hashInto(value, out, 3);
+				assertArrayEquals(hasher.hash(concatenation), Arrays.copyOfRange(out, 3, out.length));
+
+				// partial hashing always includes the whole prefix
+				var larger = concat(concat(new byte[] { 1, 2 }, value), new byte[] { 3 });
+				assertArrayEquals(hasher.hash(concatenation), prefixedHasher.hash(larger, 2, valueSize));
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@DisplayName("prefixed hashers are compared with hashing the concatenation of prefix and value")
+	@ValueSource(strings = { "sha256", "shabal256" })
+	void prefixedVsConcatenation(String name) throws Exception {
+		var algorithm = HashingAlgorithms.of(name);
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var prefix = new byte[256];
+		var random = new Random(11L);
+		random.nextBytes(prefix);
+		var prefixedHasher = algorithm.getPrefixedHasher(prefix, Function.<byte[]> identity());
+		var value = new byte[32];
+		random.nextBytes(value);
+		var out = new byte[hasher.length()];
+
+		long concatenationTime = 0, prefixedTime = 0;
+		for (int repetition = 0; repetition < 3; repetition++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < 200_000; i++) {
+				value[0] = (byte) i;
+				hasher.hashInto(concat(prefix, value), out, 0);
+			}
+			concatenationTime += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < 200_000; i++) {
+				value[0] = (byte) i;
+				prefixedHasher.hashInto(value, out, 0);
+			}
+			prefixedTime += System.nanoTime() - start;
+		}
+
+		assertArrayEquals(hasher.hash(concat(prefix, value)), out);
+		System.out.printf("%s with a %d bytes prefix: concatenation took %dms, prefixed hasher took %dms%n",
+			name, prefix.length, concatenationTime / 1_000_000, prefixedTime / 1_000_000);
+	}
+
+	private static byte[] concat(byte[] first, byte[] second) {
+		var result = new byte[first.length + second.length];
+		System.arraycopy(first, 0, result, 0, first.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+}
\ No newline at end of file
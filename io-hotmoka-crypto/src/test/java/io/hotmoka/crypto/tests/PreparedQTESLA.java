@@ -0,0 +1,117 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.SignatureException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class PreparedQTESLA extends AbstractLoggedTests {
+
+	@ParameterizedTest
+	@DisplayName("the same signer and verifier can be used concurrently")
+	@ValueSource(strings = { "qtesla1", "qtesla3" })
+	void signerAndVerifierCanBeShared(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		var keys = algorithm.getKeyPair();
+		var signer = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity());
+		var verifier = algorithm.getVerifier(keys.getPublic(), Function.<byte[]> identity());
+		var executors = Executors.newFixedThreadPool(4);
+
+		try {
+			var tasks = new ArrayList<Callable<Boolean>>();
+			for (int thread = 0; thread < 4; thread++) {
+				byte[] data = ("message of thread " + thread).getBytes();
+				tasks.add(() -> {
+					boolean ok = true;
+					for (int i = 0; i < 5; i++) {
+						byte[] signature = signer.sign(data);
+						ok &= verifier.verify(data, signature);
+						ok &= !verifier.verify("something else".getBytes(), signature);
+					}
+
+					return ok;
+				});
+			}
+
+			for (var result: executors.invokeAll(tasks))
+				assertTrue(result.get());
+		}
+		finally {
+			executors.shutdownNow();
+			executors.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	@DisplayName("a signer with a key of another algorithm fails at each signature")
+	void signerWithWrongKeyFails() throws Exception {
+		var qtesla1 = SignatureAlgorithms.qtesla1();
+		var ed25519 = SignatureAlgorithms.ed25519();
+		var signer = qtesla1.getSigner(ed25519.getKeyPair().getPrivate(), Function.<byte[]> identity());
+		assertThrows(SignatureException.class, () -> signer.sign(new byte[10]));
+		assertThrows(SignatureException.class, () -> signer.sign(new byte[10]));
+	}
+
+	@Test
+	@DisplayName("a verifier of qtesla1 rejects signatures of another key")
+	void verifierRejectsOtherKeys() throws Exception {
+		var qtesla1 = SignatureAlgorithms.qtesla1();
+		byte[] data = "HELLO QTESLA".getBytes();
+		byte[] signature = qtesla1.getSigner(qtesla1.getKeyPair().getPrivate(), Function.<byte[]> identity()).sign(data);
+		assertFalse(qtesla1.getVerifier(qtesla1.getKeyPair().getPublic(), Function.<byte[]> identity()).verify(data, signature));
+	}
+
+	@Test
+	@DisplayName("the speed of a verifier of qtesla1, against the creation of a verifier for each verification")
+	void verifierSpeed() throws Exception {
+		var qtesla1 = SignatureAlgorithms.qtesla1();
+		var keys = qtesla1.getKeyPair();
+		byte[] data = "HELLO QTESLA".getBytes();
+		byte[] signature = qtesla1.getSigner(keys.getPrivate(), Function.<byte[]> identity()).sign(data);
+		var verifier = qtesla1.getVerifier(keys.getPublic(), Function.<byte[]> identity());
+
+		for (int round = 0; round < 2; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < 100; i++)
+				assertTrue(verifier.verify(data, signature));
+			long prepared = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < 100; i++)
+				assertTrue(qtesla1.getVerifier(keys.getPublic(), Function.<byte[]> identity()).verify(data, signature));
+			long perCall = System.nanoTime() - start;
+
+			System.out.printf("100 qtesla1 verifications: with the same verifier took %dms, with a new verifier each time took %dms%n", prepared / 1_000_000, perCall / 1_000_000);
+		}
+	}
+}
\ No newline at end of file
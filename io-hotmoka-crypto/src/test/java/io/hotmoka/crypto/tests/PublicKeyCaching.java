@@ -0,0 +1,176 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class PublicKeyCaching extends AbstractLoggedTests {
+
+	private static List<byte[]> mkEncodings(SignatureAlgorithm algorithm, int count) throws Exception {
+		var result = new ArrayList<byte[]>();
+		for (int i = 0; i < count; i++)
+			result.add(algorithm.encodingOf(algorithm.getKeyPair().getPublic()));
+
+		return result;
+	}
+
+	@ParameterizedTest
+	@DisplayName("decoding the same encoding twice yields the cached public key")
+	@ValueSource(strings = { "ed25519det", "sha256dsa", "qtesla1" })
+	void sameEncodingYieldsCachedKey(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		var cache = algorithm.getPublicKeyCache();
+		byte[] encoding = mkEncodings(algorithm, 1).get(0);
+		long hits = cache.getHits(), misses = cache.getMisses();
+
+		var publicKey = algorithm.publicKeyFromEncoding(encoding);
+		// a copy of the encoding finds the same key
+		assertSame(publicKey, algorithm.publicKeyFromEncoding(encoding.clone()));
+		assertEquals(publicKey, algorithm.publicKeyFromEncoding(algorithm.encodingOf(publicKey)));
+		assertEquals(hits + 2, cache.getHits());
+		assertEquals(misses + 1, cache.getMisses());
+	}
+
+	@Test
+	@DisplayName("public keys used since the last visit of the clock survive eviction")
+	void usedKeysSurviveEviction() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519det();
+		var cache = algorithm.getPublicKeyCache();
+		cache.setCapacity(3);
+		var encodings = mkEncodings(algorithm, 4);
+
+		var first = algorithm.publicKeyFromEncoding(encodings.get(0));
+		algorithm.publicKeyFromEncoding(encodings.get(1));
+		algorithm.publicKeyFromEncoding(encodings.get(2));
+		assertSame(first, algorithm.publicKeyFromEncoding(encodings.get(0)));
+
+		// the second key has not been used since its insertion, hence it gets evicted
+		algorithm.publicKeyFromEncoding(encodings.get(3));
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertSame(first, algorithm.publicKeyFromEncoding(encodings.get(0)));
+		long misses = cache.getMisses();
+		algorithm.publicKeyFromEncoding(encodings.get(1));
+		assertEquals(misses + 1, cache.getMisses());
+	}
+
+	@Test
+	@DisplayName("shrinking the cache keeps the most recent public keys")
+	void shrinkingKeepsMostRecentKeys() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519det();
+		var cache = algorithm.getPublicKeyCache();
+		var encodings = mkEncodings(algorithm, 5);
+		var keys = new ArrayList<>();
+		for (var encoding: encodings)
+			keys.add(algorithm.publicKeyFromEncoding(encoding));
+
+		cache.setCapacity(2);
+		assertEquals(2, cache.getCapacity());
+		assertEquals(2, cache.size());
+		assertEquals(3, cache.getEvictions());
+		assertSame(keys.get(3), algorithm.publicKeyFromEncoding(encodings.get(3)));
+		assertSame(keys.get(4), algorithm.publicKeyFromEncoding(encodings.get(4)));
+
+		cache.setCapacity(0);
+		assertEquals(0, cache.size());
+		assertNotSame(keys.get(4), algorithm.publicKeyFromEncoding(encodings.get(4)));
+		assertEquals(0, cache.size());
+		assertThrows(IllegalArgumentException.class, () -> cache.setCapacity(-1));
+	}
+
+	@Test
+	@DisplayName("invalid encodings are not cached")
+	void invalidEncodingsAreNotCached() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519det();
+		assertThrows(InvalidKeySpecException.class, () -> algorithm.publicKeyFromEncoding(new byte[7]));
+		assertThrows(InvalidKeySpecException.class, () -> algorithm.publicKeyFromEncoding(new byte[7]));
+		assertEquals(0, algorithm.getPublicKeyCache().size());
+		assertEquals(2, algorithm.getPublicKeyCache().getMisses());
+	}
+
+	@Test
+	@DisplayName("the cache can be used concurrently")
+	void cacheCanBeUsedConcurrently() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519det();
+		algorithm.getPublicKeyCache().setCapacity(16);
+		var encodings = mkEncodings(algorithm, 32);
+		var executors = Executors.newFixedThreadPool(8);
+
+		try {
+			var tasks = new ArrayList<Callable<Void>>();
+			for (int thread = 0; thread < 8; thread++) {
+				int seed = thread;
+				tasks.add(() -> {
+					for (int i = 0; i < 2000; i++) {
+						byte[] encoding = encodings.get((i * 7 + seed) % 32);
+						assertArrayEquals(encoding, algorithm.encodingOf(algorithm.publicKeyFromEncoding(encoding)));
+					}
+
+					return null;
+				});
+			}
+
+			for (var result: executors.invokeAll(tasks))
+				result.get();
+		}
+		finally {
+			executors.shutdownNow();
+			executors.awaitTermination(10, TimeUnit.SECONDS);
+		}
+
+		var cache = algorithm.getPublicKeyCache();
+		assertEquals(16, cache.size());
+		assertEquals(16000, cache.getHits() + cache.getMisses());
+	}
+
+	@Test
+	@DisplayName("the speed of decoding public keys, with and without cache")
+	void decodingSpeed() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519det();
+		var encodings = mkEncodings(algorithm, 1000);
+
+		for (int capacity: new int[] { 0, 4096, 0, 4096 }) {
+			algorithm.getPublicKeyCache().setCapacity(capacity);
+			long start = System.nanoTime();
+			for (int i = 0; i < 50; i++)
+				for (var encoding: encodings)
+					algorithm.publicKeyFromEncoding(encoding);
+
+			System.out.printf("50000 decodings of 1000 ed25519 public keys with a cache of capacity %d took %dms%n", capacity, (System.nanoTime() - start) / 1_000_000);
+		}
+	}
+}
\ No newline at end of file
@@ -18,6 +18,7 @@ package io.hotmoka.crypto.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.security.KeyPair;
@@ -65,4 +66,19 @@ public class QTESLA3 extends AbstractLoggedTests {
 
         assertTrue(keyPair.getPublic().equals(publicKey), "the public keys do not match");
     }
+
+    @Test
+    @DisplayName("qtesla3 is a distinct algorithm from qtesla1")
+    void distinctFromQTESLA1() throws Exception {
+        var qTesla1 = SignatureAlgorithms.qtesla1();
+        var qTesla3 = SignatureAlgorithms.qtesla3();
+
+        assertEquals("qtesla3", qTesla3.getName());
+        assertNotEquals(qTesla1, qTesla3);
+        assertNotEquals(qTesla1.length(), qTesla3.length());
+
+        KeyPair keyPair = qTesla3.getKeyPair();
+        assertEquals(qTesla3.publicKeyLength().getAsInt(), qTesla3.encodingOf(keyPair.getPublic()).length);
+        assertEquals(qTesla3, SignatureAlgorithms.of("qtesla3"));
+    }
 }
\ No newline at end of file
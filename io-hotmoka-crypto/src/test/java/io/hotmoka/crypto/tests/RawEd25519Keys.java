@@ -0,0 +1,194 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Arrays;
+
+import org.bouncycastle.jcajce.spec.EdDSAParameterSpec;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.crypto.api.SignatureAlgorithm;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class RawEd25519Keys extends AbstractLoggedTests {
+	private final static String DATA = "HELLO RAW ED25519";
+
+	@BeforeAll
+	static void installProvider() {
+		if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null)
+			Security.addProvider(new BouncyCastleProvider());
+	}
+
+	private static KeyPairGenerator mkJCAKeyPairGenerator(SecureRandom random) throws Exception {
+		var keyPairGenerator = KeyPairGenerator.getInstance("Ed25519", "BC");
+		keyPairGenerator.initialize(new EdDSAParameterSpec(EdDSAParameterSpec.Ed25519), random);
+		return keyPairGenerator;
+	}
+
+	@ParameterizedTest
+	@DisplayName("raw keys round-trip through their encodings")
+	@ValueSource(strings = { "ed25519", "ed25519det" })
+	void encodingsRoundTrip(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		KeyPair keyPair = algorithm.getKeyPair();
+		byte[] publicEncoding = algorithm.encodingOf(keyPair.getPublic());
+		byte[] privateEncoding = algorithm.encodingOf(keyPair.getPrivate());
+		assertEquals(32, publicEncoding.length);
+		assertEquals(32, privateEncoding.length);
+
+		var publicKey = algorithm.publicKeyFromEncoding(publicEncoding);
+		var privateKey = algorithm.privateKeyFromEncoding(privateEncoding);
+		assertEquals(keyPair.getPublic(), publicKey);
+		assertEquals(keyPair.getPrivate(), privateKey);
+		assertArrayEquals(publicEncoding, algorithm.encodingOf(publicKey));
+		assertArrayEquals(privateEncoding, algorithm.encodingOf(privateKey));
+
+		// the standard encodings are still available, for whoever needs them
+		assertEquals("X.509", publicKey.getFormat());
+		assertEquals("PKCS#8", privateKey.getFormat());
+		assertArrayEquals(keyPair.getPublic().getEncoded(), publicKey.getEncoded());
+		assertArrayEquals(keyPair.getPrivate().getEncoded(), privateKey.getEncoded());
+	}
+
+	@Test
+	@DisplayName("encodings of the wrong length are rejected")
+	void wrongLengthsAreRejected() throws Exception {
+		var ed25519 = SignatureAlgorithms.ed25519();
+		assertThrows(InvalidKeySpecException.class, () -> ed25519.publicKeyFromEncoding(new byte[31]));
+		assertThrows(InvalidKeySpecException.class, () -> ed25519.privateKeyFromEncoding(new byte[33]));
+	}
+
+	@Test
+	@DisplayName("raw keys interoperate with the keys of the Java cryptography architecture")
+	void interoperatesWithJCAKeys() throws Exception {
+		var ed25519 = SignatureAlgorithms.ed25519();
+		KeyPair jcaKeyPair = mkJCAKeyPairGenerator(new SecureRandom()).generateKeyPair();
+
+		// keys of the provider can be used for signing and verification
+		byte[] signature = ed25519.<String> getSigner(jcaKeyPair.getPrivate(), String::getBytes).sign(DATA);
+		assertTrue(ed25519.<String> getVerifier(jcaKeyPair.getPublic(), String::getBytes).verify(DATA, signature));
+
+		// and they have the same encodings as the equivalent raw keys
+		var publicKey = ed25519.publicKeyFromEncoding(ed25519.encodingOf(jcaKeyPair.getPublic()));
+		var privateKey = ed25519.privateKeyFromEncoding(ed25519.encodingOf(jcaKeyPair.getPrivate()));
+		assertArrayEquals(jcaKeyPair.getPublic().getEncoded(), publicKey.getEncoded());
+		assertArrayEquals(ed25519.encodingOf(jcaKeyPair.getPrivate()), ed25519.encodingOf(privateKey));
+		assertTrue(ed25519.<String> getVerifier(publicKey, String::getBytes).verify(DATA, signature));
+		assertFalse(ed25519.<String> getVerifier(publicKey, String::getBytes).verify(DATA + "corrupted", signature));
+
+		// the raw private key yields the same signature, since Ed25519 is deterministic
+		assertArrayEquals(signature, ed25519.<String> getSigner(privateKey, String::getBytes).sign(DATA));
+
+		// raw keys can be translated back into keys of the provider
+		var keyFactory = KeyFactory.getInstance("Ed25519", "BC");
+		var jcaPrivateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateKey.getEncoded()));
+		assertArrayEquals(signature, ed25519.<String> getSigner(jcaPrivateKey, String::getBytes).sign(DATA));
+	}
+
+	@Test
+	@DisplayName("ed25519det generates the same sequence of keys as before")
+	void deterministicKeysAreUnchanged() throws Exception {
+		var random = SecureRandom.getInstance("SHA1PRNG");
+		random.setSeed("nel mezzo del cammin di nostra vita".getBytes(StandardCharsets.US_ASCII));
+		var jcaKeyPairGenerator = mkJCAKeyPairGenerator(random);
+		var ed25519det = SignatureAlgorithms.ed25519det();
+
+		for (int i = 0; i < 10; i++) {
+			var expected = jcaKeyPairGenerator.generateKeyPair();
+			var actual = ed25519det.getKeyPair();
+			assertArrayEquals(expected.getPublic().getEncoded(), actual.getPublic().getEncoded());
+			assertArrayEquals(ed25519det.encodingOf(expected.getPrivate()), ed25519det.encodingOf(actual.getPrivate()));
+		}
+	}
+
+	@Test
+	@DisplayName("key pairs derived from entropy are deterministic")
+	void keyPairsFromEntropyAreDeterministic() throws Exception {
+		var ed25519 = SignatureAlgorithms.ed25519();
+		var entropy = new byte[16];
+		Arrays.fill(entropy, (byte) 42);
+		var keyPair1 = ed25519.getKeyPair(entropy, "password");
+		var keyPair2 = ed25519.getKeyPair(entropy, "password");
+		assertEquals(keyPair1.getPublic(), keyPair2.getPublic());
+		assertEquals(keyPair1.getPrivate(), keyPair2.getPrivate());
+	}
+
+	@Test
+	@DisplayName("compares the decoding of raw keys with that through the Java cryptography architecture")
+	void benchmarkRawDecoding() throws Exception {
+		var ed25519 = SignatureAlgorithms.ed25519();
+		var keyFactory = KeyFactory.getInstance("Ed25519", "BC");
+		final int count = 2000;
+		var encodings = new byte[count][];
+		var pkcs8Encodings = new byte[count][];
+		for (int i = 0; i < count; i++) {
+			var privateKey = ed25519.getKeyPair().getPrivate();
+			encodings[i] = ed25519.encodingOf(privateKey);
+			pkcs8Encodings[i] = privateKey.getEncoded();
+		}
+
+		// warm-up
+		for (int round = 0; round < 3; round++)
+			for (int i = 0; i < count; i++) {
+				ed25519.privateKeyFromEncoding(encodings[i]);
+				keyFactory.generatePrivate(new PKCS8EncodedKeySpec(pkcs8Encodings[i]));
+			}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < count; i++)
+			ed25519.encodingOf(ed25519.privateKeyFromEncoding(encodings[i]));
+		long raw = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < count; i++)
+			ed25519.encodingOf(keyFactory.generatePrivate(new PKCS8EncodedKeySpec(pkcs8Encodings[i])));
+		long jca = System.nanoTime() - start;
+
+		System.out.printf("%d private keys decoded and encoded: raw in %dms, through the JCA in %dms\n", count, raw / 1_000_000, jca / 1_000_000);
+	}
+
+	@Test
+	@DisplayName("signatures with raw keys verify with the shared algorithm instances")
+	void signaturesVerifyAcrossInstances() throws Exception {
+		SignatureAlgorithm ed25519 = SignatureAlgorithms.ed25519(), ed25519det = SignatureAlgorithms.ed25519det();
+		var keyPair = ed25519det.getKeyPair();
+		byte[] signature = ed25519det.<String> getSigner(keyPair.getPrivate(), String::getBytes).sign(DATA);
+		var publicKey = ed25519.publicKeyFromEncoding(ed25519det.encodingOf(keyPair.getPublic()));
+		assertTrue(ed25519.<String> getVerifier(publicKey, String::getBytes).verify(DATA, signature));
+		assertFalse(ed25519.<String> getVerifier(publicKey, String::getBytes).verify(DATA, new byte[63]));
+	}
+}
\ No newline at end of file
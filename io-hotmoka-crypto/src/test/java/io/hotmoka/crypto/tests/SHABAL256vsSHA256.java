@@ -17,6 +17,8 @@ limitations under the License.
 package io.hotmoka.crypto.tests;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.function.Function;
 
@@ -63,4 +65,49 @@ public class SHABAL256vsSHA256 extends AbstractLoggedTests {
         // check the expected final hash
         assertArrayEquals(new byte[] { -110, -11, 92, -50, 122, 2, 38, -72, 74, 124, 82, -29, -9, 122, 63, 3, -27, -127, 35, -30, 8, -11, -39, 87, -90, -97, -118, 14, 29, 45, 62, 91 }, data);
 	}
+
+	@Test
+	@DisplayName("10,000,000 iterated sha256 with a hash chain")
+	void chainedSHA256() throws Exception {
+		long start = System.currentTimeMillis();
+		var data = HashingAlgorithms.sha256().hashChain("HELLO HASHING".getBytes(), 10_000_000);
+		long elapsed = System.currentTimeMillis() - start;
+		System.out.println("sha256 hash chain took " + elapsed + "ms");
+
+		assertArrayEquals(new byte[] { -43, -79, -34, 42, -36, -29, 104, 32, 82, 63, 57, -116, 112, -90, 57, -59, -66, 86, -94, -7, 14, 56, -7, 55, -45, -3, -62, -39, -75, -27, -28, 21 }, data);
+	}
+
+	@Test
+	@DisplayName("10,000,000 iterated shabal256 with a hash chain")
+	void chainedSHABAL256() throws Exception {
+		long start = System.currentTimeMillis();
+		var data = HashingAlgorithms.shabal256().hashChain("HELLO HASHING".getBytes(), 10_000_000);
+		long elapsed = System.currentTimeMillis() - start;
+		System.out.println("shabal256 hash chain took " + elapsed + "ms");
+
+		assertArrayEquals(new byte[] { -110, -11, 92, -50, 122, 2, 38, -72, 74, 124, 82, -29, -9, 122, 63, 3, -27, -127, 35, -30, 8, -11, -39, 87, -90, -97, -118, 14, 29, 45, 62, 91 }, data);
+	}
+
+	@Test
+	@DisplayName("the checkpoints of a hash chain are the same as those of iterated hashing")
+	void hashChainCheckpoints() throws Exception {
+		var algorithm = HashingAlgorithms.sha256();
+		var hasher = algorithm.getHasher(Function.<byte[]> identity());
+		var seed = "HELLO HASHING".getBytes();
+		var checkpoints = algorithm.hashChain(seed, 1000, 7);
+		assertEquals(1000 / 7, checkpoints.size());
+
+		var data = seed;
+		for (int i = 1; i <= 1000; i++) {
+			data = hasher.hash(data);
+			if (i % 7 == 0)
+				assertArrayEquals(data, checkpoints.get(i / 7 - 1));
+		}
+
+		assertArrayEquals(data, algorithm.hashChain(seed, 1000));
+		assertArrayEquals(seed, algorithm.hashChain(seed, 0));
+		assertArrayEquals(hasher.hash(seed), algorithm.hashChain(seed, 1));
+		assertThrows(IllegalArgumentException.class, () -> algorithm.hashChain(seed, -1));
+		assertThrows(IllegalArgumentException.class, () -> algorithm.hashChain(seed, 10, 0));
+	}
 }
\ No newline at end of file
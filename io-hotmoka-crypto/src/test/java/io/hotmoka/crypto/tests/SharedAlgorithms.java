@@ -0,0 +1,88 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.HashingAlgorithms;
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class SharedAlgorithms extends AbstractLoggedTests {
+
+	@Test
+	@DisplayName("the factories yield shared instances, but for ed25519det")
+	void factoriesYieldSharedInstances() throws Exception {
+		assertSame(HashingAlgorithms.sha256(), HashingAlgorithms.sha256());
+		assertSame(HashingAlgorithms.shabal256(), HashingAlgorithms.of("shabal256"));
+		assertSame(SignatureAlgorithms.ed25519(), SignatureAlgorithms.ed25519());
+		assertSame(SignatureAlgorithms.qtesla1(), SignatureAlgorithms.of("qtesla1"));
+		assertSame(SignatureAlgorithms.ed25519cofactored(), SignatureAlgorithms.of("ed25519cofactored"));
+		assertNotSame(SignatureAlgorithms.ed25519det(), SignatureAlgorithms.ed25519det());
+
+		// after the first call, the factory is just a field access
+		long start = System.nanoTime();
+		for (int i = 0; i < 100_000; i++)
+			SignatureAlgorithms.ed25519();
+
+		System.out.printf("100,000 calls to SignatureAlgorithms.ed25519() took %dus%n", (System.nanoTime() - start) / 1_000);
+	}
+
+	@ParameterizedTest
+	@DisplayName("a shared signature algorithm can be used concurrently")
+	@ValueSource(strings = { "ed25519", "sha256dsa", "qtesla1" })
+	void sharedSignatureAlgorithmIsThreadSafe(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		var hasher = HashingAlgorithms.sha256().getHasher(Function.<byte[]> identity());
+		var executors = Executors.newFixedThreadPool(8);
+
+		try {
+			var tasks = new ArrayList<Callable<Boolean>>();
+			for (int i = 0; i < 16; i++) {
+				byte[] data = ("HELLO " + i).getBytes();
+				tasks.add(() -> {
+					var keys = SignatureAlgorithms.of(name).getKeyPair();
+					var publicKey = algorithm.publicKeyFromEncoding(algorithm.encodingOf(keys.getPublic()));
+					byte[] signature = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity()).sign(data);
+					assertArrayEquals(hasher.hash(data), HashingAlgorithms.sha256().getHasher(Function.<byte[]> identity()).hash(data));
+					return algorithm.getVerifier(publicKey, Function.<byte[]> identity()).verify(data, signature);
+				});
+			}
+
+			for (var result: executors.invokeAll(tasks))
+				assertTrue(result.get());
+		}
+		finally {
+			executors.shutdownNow();
+			executors.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+}
\ No newline at end of file
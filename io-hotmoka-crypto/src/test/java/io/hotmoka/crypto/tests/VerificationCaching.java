@@ -0,0 +1,183 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.crypto.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.hotmoka.crypto.SignatureAlgorithms;
+import io.hotmoka.crypto.VerificationCaches;
+import io.hotmoka.crypto.api.Verifier;
+import io.hotmoka.testing.AbstractLoggedTests;
+
+public class VerificationCaching extends AbstractLoggedTests {
+	private final static byte[] DATA = "HELLO VERIFICATION CACHE".getBytes();
+
+	@ParameterizedTest
+	@DisplayName("repeated verifications of a valid signature hit the cache")
+	@ValueSource(strings = { "ed25519", "sha256dsa", "qtesla1" })
+	void repeatedVerificationsHit(String name) throws Exception {
+		var algorithm = SignatureAlgorithms.of(name);
+		var keys = algorithm.getKeyPair();
+		byte[] signature = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity()).sign(DATA);
+		var cache = VerificationCaches.of(100);
+		var verifier = cache.getVerifier(algorithm, keys.getPublic(), Function.<byte[]> identity());
+
+		for (int i = 0; i < 4; i++)
+			assertTrue(verifier.verify(DATA, signature));
+
+		// another verifier for the same key shares the same cache
+		assertTrue(cache.getVerifier(algorithm, keys.getPublic(), Function.<byte[]> identity()).verify(DATA, signature));
+		assertEquals(1, cache.getMisses());
+		assertEquals(4, cache.getHits());
+		assertEquals(0.8, cache.getHitRate(), 1e-9);
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	@DisplayName("invalid signatures are not cached")
+	void invalidSignaturesAreNotCached() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519();
+		var keys = algorithm.getKeyPair();
+		byte[] signature = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity()).sign(DATA);
+		var cache = VerificationCaches.of(100);
+		var verifier = cache.getVerifier(algorithm, keys.getPublic(), Function.<byte[]> identity());
+
+		assertFalse(verifier.verify("something else".getBytes(), signature));
+		assertFalse(verifier.verify("something else".getBytes(), signature));
+		assertEquals(0, cache.size());
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	@DisplayName("a cached signature is valid only for its key and message")
+	void cachedSignatureIsValidOnlyForItsKeyAndMessage() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519();
+		var keys = algorithm.getKeyPair();
+		byte[] signature = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity()).sign(DATA);
+		var cache = VerificationCaches.of(100);
+		assertTrue(cache.getVerifier(algorithm, keys.getPublic(), Function.<byte[]> identity()).verify(DATA, signature));
+
+		var otherKey = algorithm.getKeyPair().getPublic();
+		assertFalse(cache.getVerifier(algorithm, otherKey, Function.<byte[]> identity()).verify(DATA, signature));
+		var ed25519det = SignatureAlgorithms.ed25519det();
+		assertTrue(cache.getVerifier(ed25519det, keys.getPublic(), Function.<byte[]> identity()).verify(DATA, signature));
+		assertFalse(cache.getVerifier(algorithm, keys.getPublic(), Function.<byte[]> identity()).verify("HELLO".getBytes(), signature));
+		assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	@DisplayName("the cache evicts verifications when full")
+	void cacheEvictsWhenFull() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519();
+		var keys = algorithm.getKeyPair();
+		var signer = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity());
+		var cache = VerificationCaches.of(2);
+		var verifier = cache.getVerifier(algorithm, keys.getPublic(), Function.<byte[]> identity());
+
+		for (int i = 0; i < 5; i++) {
+			byte[] data = ("message #" + i).getBytes();
+			assertTrue(verifier.verify(data, signer.sign(data)));
+		}
+
+		assertEquals(2, cache.size());
+		assertEquals(3, cache.getEvictions());
+		cache.setCapacity(0);
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	@DisplayName("the cache can be used concurrently")
+	void cacheCanBeUsedConcurrently() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519();
+		var keys = algorithm.getKeyPair();
+		var signer = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity());
+		var cache = VerificationCaches.of(8);
+		var verifier = cache.getVerifier(algorithm, keys.getPublic(), Function.<byte[]> identity());
+		var messages = new ArrayList<byte[]>();
+		var signatures = new ArrayList<byte[]>();
+		for (int i = 0; i < 16; i++) {
+			messages.add(("message #" + i).getBytes());
+			signatures.add(signer.sign(messages.get(i)));
+		}
+
+		var executors = Executors.newFixedThreadPool(8);
+
+		try {
+			var tasks = new ArrayList<Callable<Boolean>>();
+			for (int thread = 0; thread < 8; thread++) {
+				int seed = thread;
+				tasks.add(() -> {
+					boolean ok = true;
+					for (int i = 0; i < 200; i++) {
+						int pos = (i * 5 + seed) % 16;
+						ok &= verifier.verify(messages.get(pos), signatures.get(pos));
+						ok &= !verifier.verify(messages.get(pos), signatures.get((pos + 1) % 16));
+					}
+
+					return ok;
+				});
+			}
+
+			for (var result: executors.invokeAll(tasks))
+				assertTrue(result.get());
+		}
+		finally {
+			executors.shutdownNow();
+			executors.awaitTermination(10, TimeUnit.SECONDS);
+		}
+
+		assertEquals(8, cache.size());
+		assertEquals(3200, cache.getHits() + cache.getMisses());
+	}
+
+	@Test
+	@DisplayName("the speed of repeated verifications, with and without cache")
+	void verificationSpeed() throws Exception {
+		var algorithm = SignatureAlgorithms.ed25519();
+		var keys = algorithm.getKeyPair();
+		byte[] signature = algorithm.getSigner(keys.getPrivate(), Function.<byte[]> identity()).sign(DATA);
+		Verifier<byte[]> uncached = algorithm.getVerifier(keys.getPublic(), Function.<byte[]> identity());
+		Verifier<byte[]> cached = VerificationCaches.of(100).getVerifier(algorithm, keys.getPublic(), Function.<byte[]> identity());
+
+		for (int round = 0; round < 2; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < 3000; i++)
+				assertTrue(uncached.verify(DATA, signature));
+			long uncachedTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < 3000; i++)
+				assertTrue(cached.verify(DATA, signature));
+			long cachedTime = System.nanoTime() - start;
+
+			System.out.printf("3000 verifications of the same ed25519 signature: without cache took %dms, with cache took %dms%n", uncachedTime / 1_000_000, cachedTime / 1_000_000);
+		}
+	}
+}
\ No newline at end of file